@@ -53,6 +53,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -112,11 +114,16 @@ public final class DayPeriod {
     private static DayPeriod FALLBACK = new DayPeriod(Locale.ROOT, CalendarText.ISO_CALENDAR_TYPE, STD_RULES);
     private static final AttributeKey<DayPeriod> CUSTOM = Attributes.createKey("CUSTOM_DAY_PERIOD", DayPeriod.class);
 
+    private static final String[] FIXED_CODES = {"am", "pm", "midnight", "noon"};
+    private static final int MAX_CACHE_SIZE = 500;
+    private static final ConcurrentMap<String, DayPeriod> CACHE = new ConcurrentHashMap<>();
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final Locale locale;
     private transient final String calendarType;
     private transient final SortedMap<PlainTime, String> codeMap;
+    private transient volatile Compiled compiled;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -325,23 +332,9 @@ public final class DayPeriod {
      */
     public PlainTime getStart(PlainTime context) {
 
-        PlainTime compare = (
-            (context.getHour() == 24)
-            ? PlainTime.midnightAtStartOfDay()
-            : context);
-        PlainTime last = this.codeMap.lastKey();
-
-        for (PlainTime key : this.codeMap.keySet()) {
-            if (compare.isSimultaneous(key)) {
-                return key;
-            } else if (compare.isBefore(key)) {
-                break;
-            } else {
-                last = key;
-            }
-        }
-
-        return last;
+        Compiled c = this.getCompiled();
+        int index = c.indexOf(context);
+        return c.starts[(index == -1) ? c.starts.length - 1 : index];
 
     }
 
@@ -363,18 +356,9 @@ public final class DayPeriod {
      */
     public PlainTime getEnd(PlainTime context) {
 
-        PlainTime compare = (
-            (context.getHour() == 24)
-            ? PlainTime.midnightAtStartOfDay()
-            : context);
-
-        for (PlainTime key : this.codeMap.keySet()) {
-            if (compare.isBefore(key)) {
-                return key;
-            }
-        }
-
-        return this.codeMap.firstKey();
+        Compiled c = this.getCompiled();
+        int index = c.indexOf(context);
+        return c.starts[(index + 1) % c.starts.length];
 
     }
 
@@ -443,7 +427,29 @@ public final class DayPeriod {
         String calendarType
     ) {
 
-        String lang = locale.getLanguage(); // NPE-check
+        String cacheKey = locale.toString() + '@' + calendarType; // NPE-check
+        DayPeriod dp = CACHE.get(cacheKey);
+
+        if (dp == null) {
+            dp = create(locale, calendarType);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                DayPeriod old = CACHE.putIfAbsent(cacheKey, dp);
+                if (old != null) {
+                    dp = old;
+                }
+            }
+        }
+
+        return dp;
+
+    }
+
+    private static DayPeriod create(
+        Locale locale,
+        String calendarType
+    ) {
+
+        String lang = locale.getLanguage();
 
         if (lang.equals("nn")) {
             locale = new Locale("nb"); // CLDR 29 contains no data for language nn
@@ -500,22 +506,79 @@ public final class DayPeriod {
 
     }
 
-    private static String getFixedCode(PlainTime time) {
+    private Compiled getCompiled() {
+
+        Compiled c = this.compiled;
+
+        if (c == null) {
+            c = new Compiled(this);
+            this.compiled = c;
+        }
+
+        return c;
+
+    }
+
+    // Ermittelt den Namen des Tagesabschnitts mit Hilfe der vorberechneten Tabellen
+    private String getName(
+        PlainTime time,
+        boolean fixed,
+        TextWidth width,
+        OutputContext outputContext
+    ) {
 
-        int minuteOfDay = time.get(PlainTime.MINUTE_OF_DAY).intValue();
+        Compiled c = this.getCompiled();
+        int slot = Compiled.slot(width, outputContext);
+        String name;
+
+        if (fixed) {
+            name = c.fixedNames[slot][getFixedIndex(time)];
+        } else {
+            String[] names = c.names[slot];
+            int n = c.codes.length;
+            name = null;
+            if (time.isMidnight()) {
+                name = names[n];
+            } else if (time.isSimultaneous(PlainTime.of(12))) {
+                name = names[n + 1];
+            }
+            if (name == null) {
+                int index = c.indexOf(time);
+                name = names[(index == -1) ? n - 1 : index];
+            }
+        }
+
+        if (name == null) {
+            Locale loc = ((this.locale == null) ? Locale.ROOT : this.locale);
+            return time.get(PlainTime.AM_PM_OF_DAY).getDisplayName(loc); // fallback
+        }
+
+        return name;
+
+    }
+
+    private static int getFixedIndex(PlainTime time) {
+
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
 
         if ((minuteOfDay == 0) || (minuteOfDay == 1440)) {
-            return "midnight";
+            return 2; // midnight
         } else if (minuteOfDay < 720) {
-            return "am";
+            return 0; // am
         } else if (minuteOfDay == 720) {
-            return "noon";
+            return 3; // noon
         } else {
-            return "pm";
+            return 1; // pm
         }
 
     }
 
+    private static String getFixedCode(PlainTime time) {
+
+        return FIXED_CODES[getFixedIndex(time)];
+
+    }
+
     private static String createKey(
         Map<String, String> textForms,
         TextWidth tw,
@@ -859,23 +922,18 @@ public final class DayPeriod {
             if (this.fixed) {
                 return getFixedCode(time);
             } else {
+                Compiled c = this.dayPeriod.getCompiled();
+                int n = c.codes.length;
                 if (this.dayPeriod.isPredefined()) {
-                    Map<String, String> textForms = loadTextForms(this.getLocale(), this.getCalendarType());
-                    String code = null;
-                    if (time.isMidnight()) {
-                        code = "midnight";
-                    } else if (time.isSimultaneous(PlainTime.of(12))) {
-                        code = "noon";
-                    }
-                    if (code != null) {
-                        String key = createKey(textForms, TextWidth.ABBREVIATED, OutputContext.FORMAT, code);
-                        if (textForms.containsKey(key)) {
-                            return code;
-                        }
+                    String[] names = c.names[Compiled.slot(TextWidth.ABBREVIATED, OutputContext.FORMAT)];
+                    if (time.isMidnight() && (names[n] != null)) {
+                        return "midnight";
+                    } else if (time.isSimultaneous(PlainTime.of(12)) && (names[n + 1] != null)) {
+                        return "noon";
                     }
                 }
-                PlainTime key = this.dayPeriod.getStart(time);
-                return this.dayPeriod.codeMap.get(key);
+                int index = c.indexOf(time);
+                return c.codes[(index == -1) ? n - 1 : index];
             }
         }
 
@@ -948,13 +1006,8 @@ public final class DayPeriod {
         ) throws IOException, ChronoException {
             TextWidth width = attributes.get(Attributes.TEXT_WIDTH, TextWidth.WIDE);
             OutputContext oc = attributes.get(Attributes.OUTPUT_CONTEXT, OutputContext.FORMAT);
-            String s;
-            if (this.fixed) {
-                s = this.dayPeriod.fixed(width, oc).apply(context);
-            } else {
-                s = this.dayPeriod.approximate(width, oc).apply(context);
-            }
-            buffer.append(s);
+            PlainTime time = context.get(PlainTime.COMPONENT);
+            buffer.append(this.dayPeriod.getName(time, this.fixed, width, oc));
         }
 
         @Override
@@ -985,28 +1038,11 @@ public final class DayPeriod {
             AttributeQuery attributes,
             OutputContext oc
         ) {
-            List<String> codes = new ArrayList<>();
-            Map<String, String> textForms = null;
-
-            if (this.fixed) {
-                codes.add("am");
-                codes.add("pm");
-                codes.add("midnight");
-                codes.add("noon");
-            } else {
-                Set<String> set = new LinkedHashSet<>(this.dayPeriod.codeMap.values());
-                codes.addAll(set); // no duplicates
-                if (this.dayPeriod.isPredefined()) {
-                    codes.add("midnight");
-                    codes.add("noon");
-                }
-            }
-
-            if (this.dayPeriod.isPredefined()) {
-                textForms = loadTextForms(this.getLocale(), this.getCalendarType());
-            }
-
             TextWidth tw = attributes.get(Attributes.TEXT_WIDTH, TextWidth.WIDE);
+            Compiled compiled = this.dayPeriod.getCompiled();
+            int slot = Compiled.slot(tw, oc);
+            String[] codes = (this.fixed ? FIXED_CODES : compiled.parseCodes);
+            String[] tests = (this.fixed ? compiled.fixedNames[slot] : compiled.parseTexts[slot]);
             boolean caseInsensitive =
                 attributes.get(Attributes.PARSE_CASE_INSENSITIVE, Boolean.TRUE).booleanValue();
             boolean partialCompare =
@@ -1016,29 +1052,9 @@ public final class DayPeriod {
             int end = text.length();
             int maxEq = 0;
 
-            for (String code : codes) {
-                String test = null;
-
-                if (this.dayPeriod.isPredefined()) {
-                    String key;
-                    if (this.fixed) {
-                        key = createKey(textForms, tw, oc, code);
-                        if (!textForms.containsKey(key)) { // use fallback am/pm
-                            if (code.equals("midnight")) {
-                                key = createKey(textForms, tw, oc, "am");
-                            } else if (code.equals("noon")) {
-                                key = createKey(textForms, tw, oc, "pm");
-                            }
-                        }
-                    } else {
-                        key = createKey(textForms, tw, oc, code);
-                    }
-                    if (textForms.containsKey(key)) {
-                        test = textForms.get(key);
-                    }
-                } else {
-                    test = code;
-                }
+            for (int i = 0; i < codes.length; i++) {
+                String code = codes[i];
+                String test = tests[i];
 
                 if (test != null) {
                     int pos = start;
@@ -1154,53 +1170,167 @@ public final class DayPeriod {
         public String apply(ChronoDisplay context) {
 
             PlainTime time = context.get(PlainTime.COMPONENT);
-            DayPeriod dp = DayPeriod.this;
-            Locale locale = dp.locale;
+            return DayPeriod.this.getName(time, this.fixed, this.width, this.outputContext);
 
-            if (this.fixed) {
-                String code = getFixedCode(time);
+        }
 
-                if (dp.isPredefined()) {
-                    Map<String, String> textForms = loadTextForms(locale, dp.calendarType);
-                    String key = createKey(textForms, this.width, this.outputContext, code);
-                    if (!textForms.containsKey(key)) {
-                        if (code.equals("midnight")) {
-                            key = createKey(textForms, this.width, this.outputContext, "am");
-                        } else if (code.equals("noon")) {
-                            key = createKey(textForms, this.width, this.outputContext, "pm");
-                        }
-                    }
-                    if (textForms.containsKey(key)) {
-                        return textForms.get(key);
+    }
+
+    // vorberechnete Tabellen für schnelles Formatieren und Interpretieren
+    private static final class Compiled {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PlainTime[] starts;
+        private final String[] codes;
+        private final byte[] minuteTable; // null, wenn Schlüssel nicht minutengenau sind
+        private final String[][] names; // [slot][codes.length + 2], letzte Elemente: midnight, noon
+        private final String[][] fixedNames; // [slot][FIXED_CODES.length]
+        private final String[] parseCodes;
+        private final String[][] parseTexts;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Compiled(DayPeriod dp) {
+            super();
+
+            int n = dp.codeMap.size();
+            this.starts = dp.codeMap.keySet().toArray(new PlainTime[n]);
+            this.codes = dp.codeMap.values().toArray(new String[n]);
+
+            boolean minutePrecision = true;
+
+            for (PlainTime start : this.starts) {
+                if ((start.getSecond() != 0) || (start.getNanosecond() != 0)) {
+                    minutePrecision = false;
+                    break;
+                }
+            }
+
+            if (minutePrecision && (n <= Byte.MAX_VALUE)) {
+                this.minuteTable = new byte[1440];
+                int index = -1;
+                for (int m = 0; m < 1440; m++) {
+                    while ((index + 1 < n) && (toMinute(this.starts[index + 1]) <= m)) {
+                        index++;
                     }
-                } else {
-                    return code;
+                    this.minuteTable[m] = (byte) index;
                 }
             } else {
-                if (dp.isPredefined()) {
-                    Map<String, String> textForms = loadTextForms(locale, dp.calendarType);
-                    if (time.isMidnight()) {
-                        String key = createKey(textForms, this.width, this.outputContext, "midnight");
-                        if (textForms.containsKey(key)) {
-                            return textForms.get(key);
+                this.minuteTable = null;
+            }
+
+            Set<String> distinct = new LinkedHashSet<>(dp.codeMap.values());
+            List<String> pc = new ArrayList<>(distinct); // no duplicates
+
+            if (dp.isPredefined()) {
+                pc.add("midnight");
+                pc.add("noon");
+            }
+
+            this.parseCodes = pc.toArray(new String[pc.size()]);
+
+            int slots = TextWidth.values().length * OutputContext.values().length;
+            this.names = new String[slots][];
+            this.fixedNames = new String[slots][];
+            this.parseTexts = new String[slots][];
+            Map<String, String> textForms = (
+                dp.isPredefined()
+                ? loadTextForms(dp.locale, dp.calendarType)
+                : null);
+
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    int slot = slot(tw, oc);
+                    String[] approximate = new String[n + 2];
+                    String[] fixed = new String[FIXED_CODES.length];
+                    String[] parse = new String[this.parseCodes.length];
+
+                    if (textForms == null) {
+                        System.arraycopy(this.codes, 0, approximate, 0, n);
+                        System.arraycopy(FIXED_CODES, 0, fixed, 0, fixed.length);
+                        System.arraycopy(this.parseCodes, 0, parse, 0, parse.length);
+                    } else {
+                        for (int i = 0; i < n; i++) {
+                            approximate[i] = lookup(textForms, tw, oc, this.codes[i]);
                         }
-                    } else if (time.isSimultaneous(PlainTime.of(12))) {
-                        String key = createKey(textForms, this.width, this.outputContext, "noon");
-                        if (textForms.containsKey(key)) {
-                            return textForms.get(key);
+                        approximate[n] = lookup(textForms, tw, oc, "midnight");
+                        approximate[n + 1] = lookup(textForms, tw, oc, "noon");
+                        for (int i = 0; i < fixed.length; i++) {
+                            String code = FIXED_CODES[i];
+                            String key = createKey(textForms, tw, oc, code);
+                            if (!textForms.containsKey(key)) { // use fallback am/pm
+                                if (code.equals("midnight")) {
+                                    key = createKey(textForms, tw, oc, "am");
+                                } else if (code.equals("noon")) {
+                                    key = createKey(textForms, tw, oc, "pm");
+                                }
+                            }
+                            fixed[i] = textForms.get(key);
+                        }
+                        for (int i = 0; i < parse.length; i++) {
+                            parse[i] = lookup(textForms, tw, oc, this.parseCodes[i]);
                         }
                     }
-                    String code = dp.codeMap.get(dp.getStart(time));
-                    String key = createKey(textForms, this.width, this.outputContext, code);
-                    if (textForms.containsKey(key)) {
-                        return textForms.get(key);
-                    }
-                } else {
-                    return dp.codeMap.get(dp.getStart(time));
+
+                    this.names[slot] = approximate;
+                    this.fixedNames[slot] = fixed;
+                    this.parseTexts[slot] = parse;
                 }
             }
 
-            return time.get(PlainTime.AM_PM_OF_DAY).getDisplayName((locale == null) ? Locale.ROOT : locale); // fallback
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static int slot(
+            TextWidth tw,
+            OutputContext oc
+        ) {
+
+            return tw.ordinal() * OutputContext.values().length + oc.ordinal();
+
+        }
+
+        // Index des letzten Schlüssels, der nicht nach der Uhrzeit liegt, sonst -1
+        int indexOf(PlainTime time) {
+
+            if (this.minuteTable != null) {
+                int m = ((time.getHour() == 24) ? 0 : time.getHour() * 60 + time.getMinute());
+                return this.minuteTable[m];
+            }
+
+            PlainTime compare = (
+                (time.getHour() == 24)
+                ? PlainTime.midnightAtStartOfDay()
+                : time);
+            int index = -1;
+
+            for (int i = 0; i < this.starts.length; i++) {
+                if (compare.isBefore(this.starts[i])) {
+                    break;
+                }
+                index = i;
+            }
+
+            return index;
+
+        }
+
+        private static int toMinute(PlainTime time) {
+
+            return time.getHour() * 60 + time.getMinute();
+
+        }
+
+        private static String lookup(
+            Map<String, String> textForms,
+            TextWidth tw,
+            OutputContext oc,
+            String code
+        ) {
+
+            return textForms.get(createKey(textForms, tw, oc, code));
 
         }
 
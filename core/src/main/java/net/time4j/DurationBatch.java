@@ -0,0 +1,455 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationBatch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * <p>Bulk calculation of durations between many pairs of start and end points given as primitive arrays. </p>
+ *
+ * <p>The results are identical to those of the metrics {@link Duration#inYearsMonthsDays()} and
+ * {@link Duration#inClockUnits()}, but are written in packed form into one {@code long}-array without
+ * creating any duration objects. Every amount carries the sign of the duration. Large inputs are
+ * split into parts which are processed in parallel by the common {@code ForkJoinPool}. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Duration#inYearsMonthsDays()
+ * @see     Duration#inClockUnits()
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Massenberechnung von Dauern zwischen vielen Paaren von Start- und Endpunkten, die als primitive
+ * Arrays vorliegen. </p>
+ *
+ * <p>Die Ergebnisse sind mit denen der Metriken {@link Duration#inYearsMonthsDays()} und
+ * {@link Duration#inClockUnits()} identisch, werden aber in gepackter Form in ein einziges
+ * {@code long}-Array geschrieben, ohne Dauerobjekte zu erzeugen. Jeder Betrag hat das Vorzeichen
+ * der Dauer. Gro&szlig;e Eingaben werden aufgeteilt und parallel im allgemeinen {@code ForkJoinPool}
+ * verarbeitet. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Duration#inYearsMonthsDays()
+ * @see     Duration#inClockUnits()
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+public final class DurationBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Count of packed amounts per calendrical duration (years, months, days). </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der gepackten Betr&auml;ge pro kalendarischer Dauer (Jahre, Monate, Tage). </p>
+     */
+    public static final int CALENDAR_STRIDE = 3;
+
+    /**
+     * <p>Count of packed amounts per clock-related duration (hours, minutes, seconds, nanoseconds). </p>
+     */
+    /*[deutsch]
+     * <p>Anzahl der gepackten Betr&auml;ge pro uhrzeitbezogener Dauer (Stunden, Minuten, Sekunden,
+     * Nanosekunden). </p>
+     */
+    public static final int CLOCK_STRIDE = 4;
+
+    private static final int THRESHOLD = 8192;
+    private static final int MRD = 1_000_000_000;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DurationBatch() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Calculates the durations in years, months and days between given calendar dates. </p>
+     *
+     * <p>The result for the pair at index {@code i} is stored at the positions {@code 3 * i} (years),
+     * {@code 3 * i + 1} (months) and {@code 3 * i + 2} (days). Example: </p>
+     *
+     * <pre>
+     *  long[] start = {PlainDate.of(2016, 1, 31).get(EpochDays.UTC)};
+     *  long[] end = {PlainDate.of(2017, 3, 1).get(EpochDays.UTC)};
+     *  long[] result = DurationBatch.inYearsMonthsDays(start, end, EpochDays.UTC);
+     *  // same as Duration.inYearsMonthsDays().between(...) =&gt; P1Y1M1D
+     *  System.out.println(Arrays.toString(result)); // [1, 1, 1]
+     * </pre>
+     *
+     * @param   startDays   start dates as count of days since given epoch
+     * @param   endDays     end dates as count of days since given epoch
+     * @param   epoch       epoch reference of given day counts
+     * @return  packed amounts of years, months and days
+     * @throws  IllegalArgumentException if the arrays have different lengths or any date is out of range
+     * @see     Duration#inYearsMonthsDays()
+     */
+    /*[deutsch]
+     * <p>Berechnet die Dauern in Jahren, Monaten und Tagen zwischen den angegebenen Kalenderdaten. </p>
+     *
+     * <p>Das Ergebnis f&uuml;r das Paar am Index {@code i} wird an den Positionen {@code 3 * i} (Jahre),
+     * {@code 3 * i + 1} (Monate) und {@code 3 * i + 2} (Tage) gespeichert. Beispiel: </p>
+     *
+     * <pre>
+     *  long[] start = {PlainDate.of(2016, 1, 31).get(EpochDays.UTC)};
+     *  long[] end = {PlainDate.of(2017, 3, 1).get(EpochDays.UTC)};
+     *  long[] result = DurationBatch.inYearsMonthsDays(start, end, EpochDays.UTC);
+     *  // wie Duration.inYearsMonthsDays().between(...) =&gt; P1Y1M1D
+     *  System.out.println(Arrays.toString(result)); // [1, 1, 1]
+     * </pre>
+     *
+     * @param   startDays   start dates as count of days since given epoch
+     * @param   endDays     end dates as count of days since given epoch
+     * @param   epoch       epoch reference of given day counts
+     * @return  packed amounts of years, months and days
+     * @throws  IllegalArgumentException if the arrays have different lengths or any date is out of range
+     * @see     Duration#inYearsMonthsDays()
+     */
+    public static long[] inYearsMonthsDays(
+        final long[] startDays,
+        final long[] endDays,
+        final EpochDays epoch
+    ) {
+
+        if (epoch == null) {
+            throw new NullPointerException("Missing epoch.");
+        }
+
+        checkLength(startDays.length, endDays.length);
+        final long[] result = new long[startDays.length * CALENDAR_STRIDE];
+
+        run(
+            startDays.length,
+            (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    long mjd1 = EpochDays.MODIFIED_JULIAN_DATE.transform(startDays[i], epoch);
+                    long mjd2 = EpochDays.MODIFIED_JULIAN_DATE.transform(endDays[i], epoch);
+                    calendarDelta(mjd1, mjd2, result, i * CALENDAR_STRIDE);
+                }
+            });
+
+        return result;
+
+    }
+
+    /**
+     * <p>Calculates the durations in hours, minutes, seconds and nanoseconds between given local
+     * timestamps or wall times. </p>
+     *
+     * <p>Equivalent to {@link #inClockUnits(long[], int[], long[], int[])} with zero nanoseconds. </p>
+     *
+     * @param   startSeconds    local start times as count of seconds since any common epoch
+     * @param   endSeconds      local end times as count of seconds since the same epoch
+     * @return  packed amounts of hours, minutes, seconds and nanoseconds
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     Duration#inClockUnits()
+     */
+    /*[deutsch]
+     * <p>Berechnet die Dauern in Stunden, Minuten, Sekunden und Nanosekunden zwischen den angegebenen
+     * lokalen Zeitstempeln oder Uhrzeiten. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #inClockUnits(long[], int[], long[], int[])} mit Nanosekunden
+     * gleich {@code 0}. </p>
+     *
+     * @param   startSeconds    local start times as count of seconds since any common epoch
+     * @param   endSeconds      local end times as count of seconds since the same epoch
+     * @return  packed amounts of hours, minutes, seconds and nanoseconds
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     Duration#inClockUnits()
+     */
+    public static long[] inClockUnits(
+        long[] startSeconds,
+        long[] endSeconds
+    ) {
+
+        return inClockUnits(startSeconds, null, endSeconds, null);
+
+    }
+
+    /**
+     * <p>Calculates the durations in hours, minutes, seconds and nanoseconds between given local
+     * timestamps or wall times. </p>
+     *
+     * <p>The local times are expected without any leap seconds, for example as elapsed seconds of
+     * {@code PlainTimestamp} since 1970-01-01T00:00. The result for the pair at index {@code i} is
+     * stored at the positions {@code 4 * i} (hours), {@code 4 * i + 1} (minutes), {@code 4 * i + 2}
+     * (seconds) and {@code 4 * i + 3} (nanoseconds). </p>
+     *
+     * @param   startSeconds    local start times as count of seconds since any common epoch
+     * @param   startNanos      nanosecond parts of start times (optional)
+     * @param   endSeconds      local end times as count of seconds since the same epoch
+     * @param   endNanos        nanosecond parts of end times (optional)
+     * @return  packed amounts of hours, minutes, seconds and nanoseconds
+     * @throws  IllegalArgumentException if the arrays have different lengths or any nanosecond part
+     *          is not in range {@code 0-999,999,999}
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     Duration#inClockUnits()
+     */
+    /*[deutsch]
+     * <p>Berechnet die Dauern in Stunden, Minuten, Sekunden und Nanosekunden zwischen den angegebenen
+     * lokalen Zeitstempeln oder Uhrzeiten. </p>
+     *
+     * <p>Die lokalen Zeiten werden ohne Schaltsekunden erwartet, zum Beispiel als vergangene Sekunden
+     * eines {@code PlainTimestamp} seit 1970-01-01T00:00. Das Ergebnis f&uuml;r das Paar am Index
+     * {@code i} wird an den Positionen {@code 4 * i} (Stunden), {@code 4 * i + 1} (Minuten),
+     * {@code 4 * i + 2} (Sekunden) und {@code 4 * i + 3} (Nanosekunden) gespeichert. </p>
+     *
+     * @param   startSeconds    local start times as count of seconds since any common epoch
+     * @param   startNanos      nanosecond parts of start times (optional)
+     * @param   endSeconds      local end times as count of seconds since the same epoch
+     * @param   endNanos        nanosecond parts of end times (optional)
+     * @return  packed amounts of hours, minutes, seconds and nanoseconds
+     * @throws  IllegalArgumentException if the arrays have different lengths or any nanosecond part
+     *          is not in range {@code 0-999,999,999}
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     Duration#inClockUnits()
+     */
+    public static long[] inClockUnits(
+        final long[] startSeconds,
+        final int[] startNanos,
+        final long[] endSeconds,
+        final int[] endNanos
+    ) {
+
+        int n = startSeconds.length;
+        checkLength(n, endSeconds.length);
+
+        if (startNanos != null) {
+            checkLength(n, startNanos.length);
+        }
+
+        if (endNanos != null) {
+            checkLength(n, endNanos.length);
+        }
+
+        final long[] result = new long[n * CLOCK_STRIDE];
+
+        run(
+            n,
+            (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int nano1 = ((startNanos == null) ? 0 : checkNano(startNanos[i]));
+                    int nano2 = ((endNanos == null) ? 0 : checkNano(endNanos[i]));
+                    clockDelta(startSeconds[i], nano1, endSeconds[i], nano2, result, i * CLOCK_STRIDE);
+                }
+            });
+
+        return result;
+
+    }
+
+    private static void calendarDelta(
+        long mjd1,
+        long mjd2,
+        long[] result,
+        int offset
+    ) {
+
+        long start = mjd1;
+        long end = mjd2;
+        boolean negative = false;
+
+        if (start > end) {
+            start = mjd2;
+            end = mjd1;
+            negative = true;
+        }
+
+        long packed1 = GregorianMath.toPackedDate(start);
+        long packed2 = GregorianMath.toPackedDate(end);
+        int y1 = GregorianMath.readYear(packed1);
+        int m1 = GregorianMath.readMonth(packed1);
+        int d1 = GregorianMath.readDayOfMonth(packed1);
+        int y2 = GregorianMath.readYear(packed2);
+        int m2 = GregorianMath.readMonth(packed2);
+        int d2 = GregorianMath.readDayOfMonth(packed2);
+
+        // see CalendarUnit.Rule.monthDelta()
+        long months = (y2 * 12L + m2) - (y1 * 12L + m1);
+
+        if ((months > 0) && (d2 < d1)) {
+            months--;
+        }
+
+        // addition of months with day overflow policy PREVIOUS_VALID_DATE
+        long epochMonths = y1 * 12L + (m1 - 1) + months;
+        int year = MathUtils.safeCast(Math.floorDiv(epochMonths, 12));
+        int month = Math.floorMod(epochMonths, 12) + 1;
+        int dom = Math.min(d1, GregorianMath.getLengthOfMonth(year, month));
+        long days = end - GregorianMath.toMJD(year, month, dom);
+
+        long years = months / 12;
+        months %= 12;
+
+        if (negative) {
+            years = -years;
+            months = -months;
+            days = -days;
+        }
+
+        result[offset] = years;
+        result[offset + 1] = months;
+        result[offset + 2] = days;
+
+    }
+
+    private static void clockDelta(
+        long secs1,
+        int nano1,
+        long secs2,
+        int nano2,
+        long[] result,
+        int offset
+    ) {
+
+        long secs = Math.subtractExact(secs2, secs1);
+        long nanos = (long) nano2 - nano1;
+        boolean negative = ((secs < 0) || ((secs == 0) && (nanos < 0)));
+
+        if (negative) {
+            secs = Math.negateExact(secs);
+            nanos = -nanos;
+        }
+
+        if (nanos < 0) {
+            nanos += MRD;
+            secs--;
+        }
+
+        long hours = secs / 3600;
+        long minutes = (secs % 3600) / 60;
+        secs %= 60;
+
+        if (negative) {
+            hours = -hours;
+            minutes = -minutes;
+            secs = -secs;
+            nanos = -nanos;
+        }
+
+        result[offset] = hours;
+        result[offset + 1] = minutes;
+        result[offset + 2] = secs;
+        result[offset + 3] = nanos;
+
+    }
+
+    private static void run(
+        int size,
+        Kernel kernel
+    ) {
+
+        if (size <= THRESHOLD) {
+            kernel.compute(0, size);
+        } else {
+            ForkJoinPool.commonPool().invoke(new Task(kernel, 0, size));
+        }
+
+    }
+
+    private static void checkLength(
+        int expected,
+        int actual
+    ) {
+
+        if (expected != actual) {
+            throw new IllegalArgumentException("Arrays of different length: " + expected + " != " + actual);
+        }
+
+    }
+
+    private static int checkNano(int nano) {
+
+        if ((nano < 0) || (nano >= MRD)) {
+            throw new IllegalArgumentException("Nanosecond out of range: " + nano);
+        }
+
+        return nano;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    @FunctionalInterface
+    private interface Kernel {
+
+        //~ Methoden ------------------------------------------------------
+
+        void compute(
+            int from,
+            int to
+        );
+
+    }
+
+    private static class Task
+        extends RecursiveAction {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Kernel kernel;
+        private final int from;
+        private final int to;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Task(
+            Kernel kernel,
+            int from,
+            int to
+        ) {
+            super();
+
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from <= THRESHOLD) {
+                this.kernel.compute(this.from, this.to);
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Task(this.kernel, this.from, middle), new Task(this.kernel, middle, this.to));
+            }
+
+        }
+
+    }
+
+}
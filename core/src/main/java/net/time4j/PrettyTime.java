@@ -36,15 +36,13 @@ import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
-import java.text.MessageFormat;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -564,6 +562,48 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
+        StringBuilder buffer = new StringBuilder(32);
+
+        try {
+            this.print(amount, unit, width, buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration in calendar units and writes the text into given buffer. </p>
+     *
+     * @param   amount  count of units (quantity)
+     * @param   unit    calendar unit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     * @see     #print(long, CalendarUnit, TextWidth)
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer in kalendarischen Zeiteinheiten und
+     * schreibt den Text in den angegebenen Puffer. </p>
+     *
+     * @param   amount  Anzahl der Einheiten
+     * @param   unit    kalendarische Zeiteinheit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     * @see     #print(long, CalendarUnit, TextWidth)
+     */
+    public void print(
+        long amount,
+        CalendarUnit unit,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
+
         UnitPatterns p = UnitPatterns.of(this.locale);
         CalendarUnit u;
 
@@ -605,8 +645,7 @@ public final class PrettyTime {
                 throw new UnsupportedOperationException(unit.name());
         }
 
-        String pattern = p.getPattern(width, this.getCategory(amount), u);
-        return this.format(pattern, amount);
+        this.format(p.getPattern(width, this.getCategory(amount), u), amount, buffer);
 
     }
 
@@ -636,8 +675,50 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        String pattern = UnitPatterns.of(this.locale).getPattern(width, this.getCategory(amount), unit);
-        return this.format(pattern, amount);
+        StringBuilder buffer = new StringBuilder(32);
+
+        try {
+            this.print(amount, unit, width, buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration in clock units and writes the text into given buffer. </p>
+     *
+     * @param   amount  count of units (quantity)
+     * @param   unit    clock unit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     * @see     #print(long, ClockUnit, TextWidth)
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer in Uhrzeiteinheiten und schreibt den
+     * Text in den angegebenen Puffer. </p>
+     *
+     * @param   amount  Anzahl der Einheiten
+     * @param   unit    Uhrzeiteinheit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     * @see     #print(long, ClockUnit, TextWidth)
+     */
+    public void print(
+        long amount,
+        ClockUnit unit,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
+
+        UnitPatterns.Template pattern = UnitPatterns.of(this.locale).getPattern(width, this.getCategory(amount), unit);
+        this.format(pattern, amount, buffer);
 
     }
 
@@ -830,6 +911,59 @@ public final class PrettyTime {
         int maxLength
     ) {
 
+        StringBuilder buffer = new StringBuilder(64);
+
+        try {
+            this.print(duration, width, printZero, maxLength, buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration and writes the text into given buffer. </p>
+     *
+     * <p>Like {@link #print(Duration, TextWidth, boolean, int)}, but avoids
+     * the creation of an intermediate string result. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   printZero   determines if zero amounts shall be printed, too
+     * @param   maxLength   maximum count of displayed items
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if maxLength is smaller than {@code 1}
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer und schreibt den Text in den
+     * angegebenen Puffer. </p>
+     *
+     * <p>Wie {@link #print(Duration, TextWidth, boolean, int)}, aber ohne
+     * ein Zwischenergebnis als String zu erzeugen. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   printZero   determines if zero amounts shall be printed, too
+     * @param   maxLength   maximum count of displayed items
+     * @param   buffer      text output buffer
+     * @throws  IllegalArgumentException if maxLength is smaller than {@code 1}
+     * @throws  IOException if writing to buffer fails
+     * @since   4.19
+     */
+    public void print(
+        Duration<?> duration,
+        TextWidth width,
+        boolean printZero,
+        int maxLength,
+        Appendable buffer
+    ) throws IOException {
+
         if (maxLength < 1) {
             throw new IllegalArgumentException(
                 "Max length is invalid: " + maxLength);
@@ -839,11 +973,12 @@ public final class PrettyTime {
         if (duration.isEmpty()) {
             if (this.emptyUnit.isCalendrical()) {
                 CalendarUnit unit = CalendarUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
+                this.print(0, unit, width, buffer);
             } else {
                 ClockUnit unit = ClockUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
+                this.print(0, unit, width, buffer);
             }
+            return;
         }
 
         // fill values-array from duration
@@ -851,8 +986,9 @@ public final class PrettyTime {
         long[] values = new long[8];
         pushDuration(values, duration, this.refClock, this.weekToDays);
 
-        // format duration items
-        List<Object> parts = new ArrayList<>();
+        // format duration items into one common text buffer
+        StringBuilder parts = new StringBuilder(64);
+        int[] bounds = new int[values.length * 2];
         int count = 0;
 
         for (int i = 0; i < values.length; i++) {
@@ -862,7 +998,9 @@ public final class PrettyTime {
                 && ((printZero && (count > 0)) || (values[i] > 0))
             ) {
                 IsoUnit unit = ((i == 7) ? NANOS : STD_UNITS[i]);
-                parts.add(this.format(values[i], unit, negative, width));
+                bounds[2 * count] = parts.length();
+                this.format(values[i], unit, negative, width, parts);
+                bounds[2 * count + 1] = parts.length();
                 count++;
             }
         }
@@ -872,13 +1010,14 @@ public final class PrettyTime {
 
         // special case of only one item
         if (count == 1) {
-            return parts.get(0).toString();
+            buffer.append(parts);
+            return;
         }
 
         // multiple items >= 2
-        return MessageFormat.format(
-            UnitPatterns.of(this.locale).getListPattern(width, count),
-            parts.toArray(new Object[count]));
+        int[] itemBounds = new int[count * 2];
+        System.arraycopy(bounds, 0, itemBounds, 0, itemBounds.length);
+        UnitPatterns.of(this.locale).getListPattern(width, count).print(parts, itemBounds, buffer);
 
     }
 
@@ -1137,6 +1276,51 @@ public final class PrettyTime {
         TimeUnit precision
     ) {
 
+        StringBuilder buffer = new StringBuilder(32);
+
+        try {
+            this.printRelative(moment, tz, precision, buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.toString();
+
+    }
+
+    /**
+     * <p>Formats given time point relative to the current time of
+     * {@link #getReferenceClock()} as duration in given precision
+     * and writes the text into given buffer. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur aktuellen Zeit
+     * der Referenzuhr {@link #getReferenceClock()} als Dauer in der angegebenen
+     * maximalen Genauigkeit und schreibt den Text in den angegebenen Puffer. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to buffer fails
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.19
+     */
+    public void printRelative(
+        UnixTime moment,
+        Timezone tz,
+        TimeUnit precision,
+        Appendable buffer
+    ) throws IOException {
+
         UnixTime ref = this.getReferenceClock().currentTime();
         Moment t1 = Moment.from(ref);
         Moment t2 = Moment.from(moment);
@@ -1145,11 +1329,12 @@ public final class PrettyTime {
             long delta = t1.until(t2, TimeUnit.SECONDS);
 
             if (Math.abs(delta) < 60L) {
-                return this.printRelativeSeconds(t1, t2, delta);
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+                return;
             }
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, null, null);
+        this.printRelativeTime(t1, t2, tz, precision, null, null, buffer);
 
     }
 
@@ -1193,14 +1378,21 @@ public final class PrettyTime {
 
         if (Math.abs(delta) > maxdelta) {
             return formatter.format(t2);
-        } else if (
-            (precision.compareTo(TimeUnit.SECONDS) <= 0)
-            && (Math.abs(delta) < 60L)
-        ) {
-            return this.printRelativeSeconds(t1, t2, delta);
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, null, null);
+        StringBuilder buffer = new StringBuilder(32);
+
+        try {
+            if ((precision.compareTo(TimeUnit.SECONDS) <= 0) && (Math.abs(delta) < 60L)) {
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+            } else {
+                this.printRelativeTime(t1, t2, tz, precision, null, null, buffer);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.toString();
 
     }
 
@@ -1246,14 +1438,19 @@ public final class PrettyTime {
         Moment t2 = Moment.from(moment);
         long delta = t1.until(t2, TimeUnit.SECONDS);
 
-        if (
-            (precision.compareTo(TimeUnit.SECONDS) <= 0)
-            && (Math.abs(delta) < 60L)
-        ) {
-            return this.printRelativeSeconds(t1, t2, delta);
+        StringBuilder buffer = new StringBuilder(32);
+
+        try {
+            if ((precision.compareTo(TimeUnit.SECONDS) <= 0) && (Math.abs(delta) < 60L)) {
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+            } else {
+                this.printRelativeTime(t1, t2, tz, precision, maxRelativeUnit, formatter, buffer);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, maxRelativeUnit, formatter);
+        return buffer.toString();
 
     }
 
@@ -1323,7 +1520,7 @@ public final class PrettyTime {
             }
         }
 
-        String pattern = (
+        UnitPatterns.Template pattern = (
             duration.isNegative()
             ? this.getPastPattern(amount, unit)
             : this.getFuturePattern(amount, unit));
@@ -1331,35 +1528,38 @@ public final class PrettyTime {
 
     }
 
-    private String printRelativeSeconds(
+    private void printRelativeSeconds(
         Moment t1,
         Moment t2,
-        long delta
-    ) {
+        long delta,
+        Appendable buffer
+    ) throws IOException {
 
         if (t1.getPosixTime() >= START_1972 && t2.getPosixTime() >= START_1972) {
             delta = SI.SECONDS.between(t1, t2); // leap second correction
         }
         if (delta == 0) {
-            return UnitPatterns.of(this.locale).getNowWord();
+            buffer.append(UnitPatterns.of(this.locale).getNowWord());
+            return;
         }
         long amount = Math.abs(delta);
-        String pattern = (
+        UnitPatterns.Template pattern = (
             (delta < 0)
             ? this.getPastPattern(amount, ClockUnit.SECONDS)
             : this.getFuturePattern(amount, ClockUnit.SECONDS));
-        return this.format(pattern, amount);
+        this.format(pattern, amount, buffer);
 
     }
 
-    private String printRelativeTime(
+    private void printRelativeTime(
         Moment ref,
         Moment moment,
         Timezone tz,
         TimeUnit precision,
         CalendarUnit maxRelativeUnit,
-        TemporalFormatter<Moment> formatter
-    ) {
+        TemporalFormatter<Moment> formatter,
+        Appendable buffer
+    ) throws IOException {
 
         PlainTimestamp start =
             PlainTimestamp.from(
@@ -1374,7 +1574,8 @@ public final class PrettyTime {
         Duration<IsoUnit> duration = Duration.in(tz, units).between(start, end);
 
         if (duration.isEmpty()) {
-            return this.getEmptyRelativeString(precision);
+            buffer.append(this.getEmptyRelativeString(precision));
+            return;
         }
 
         TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
@@ -1383,13 +1584,15 @@ public final class PrettyTime {
 
         if (unit instanceof ClockUnit) {
             if (5 - ((ClockUnit) unit).ordinal() < precision.ordinal()) {
-                return this.getEmptyRelativeString(precision);
+                buffer.append(this.getEmptyRelativeString(precision));
+                return;
             }
         } else if (
             (maxRelativeUnit != null)
             && (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0)
         ) {
-            return formatter.format(moment);
+            buffer.append(formatter.format(moment));
+            return;
         } else if (
             (amount == 1L)
             && unit.equals(CalendarUnit.DAYS)
@@ -1398,11 +1601,12 @@ public final class PrettyTime {
             String replacement = (duration.isNegative() ? patterns.getYesterdayWord() : patterns.getTomorrowWord());
 
             if (!replacement.isEmpty()) {
-                return replacement;
+                buffer.append(replacement);
+                return;
             }
         }
 
-        String pattern;
+        UnitPatterns.Template pattern;
 
         if (duration.isNegative()) {
             if (unit.isCalendrical()) {
@@ -1418,7 +1622,7 @@ public final class PrettyTime {
             }
         }
 
-        return this.format(pattern, amount);
+        this.format(pattern, amount, buffer);
 
     }
 
@@ -1438,7 +1642,7 @@ public final class PrettyTime {
 
     }
 
-    private String getPastPattern(
+    private UnitPatterns.Template getPastPattern(
         long amount,
         CalendarUnit unit
     ) {
@@ -1449,7 +1653,7 @@ public final class PrettyTime {
 
     }
 
-    private String getFuturePattern(
+    private UnitPatterns.Template getFuturePattern(
         long amount,
         CalendarUnit unit
     ) {
@@ -1460,7 +1664,7 @@ public final class PrettyTime {
 
     }
 
-    private String getPastPattern(
+    private UnitPatterns.Template getPastPattern(
         long amount,
         ClockUnit unit
     ) {
@@ -1471,7 +1675,7 @@ public final class PrettyTime {
 
     }
 
-    private String getFuturePattern(
+    private UnitPatterns.Template getFuturePattern(
         long amount,
         ClockUnit unit
     ) {
@@ -1615,12 +1819,13 @@ public final class PrettyTime {
 
     }
 
-    private String format(
+    private void format(
         long amount,
         IsoUnit unit,
         boolean negative,
-        TextWidth width
-    ) {
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
 
         long value = amount;
 
@@ -1631,7 +1836,7 @@ public final class PrettyTime {
         if (SUPPORTED_UNITS.contains(unit)) {
             if (unit.isCalendrical()) {
                 CalendarUnit u = CalendarUnit.class.cast(unit);
-                return this.print(value, u, width);
+                this.print(value, u, width, buffer);
             } else {
                 ClockUnit u = ClockUnit.class.cast(unit);
                 if (u == NANOS) {
@@ -1643,8 +1848,9 @@ public final class PrettyTime {
                         value = value / 1000;
                     }
                 }
-                return this.print(value, u, width);
+                this.print(value, u, width, buffer);
             }
+            return;
         }
 
         throw new UnsupportedOperationException("Unknown unit: " + unit);
@@ -1652,50 +1858,61 @@ public final class PrettyTime {
     }
 
     private String format(
-        String pattern,
+        UnitPatterns.Template pattern,
         long amount
     ) {
 
-        for (int i = 0, n = pattern.length(); i < n; i++) {
-            if (
-                (i < n - 2)
-                && (pattern.charAt(i) == '{')
-                && (pattern.charAt(i + 1) == '0')
-                && (pattern.charAt(i + 2) == '}')
-            ) {
-                StringBuilder sb = new StringBuilder(pattern);
-                sb.replace(i, i + 3, this.format(amount));
-                return sb.toString();
-            }
-        }
+        StringBuilder buffer = new StringBuilder(32);
 
-        if (amount < 0) {
-            return this.minusSign + pattern;
+        try {
+            this.format(pattern, amount, buffer);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
         }
 
-        return pattern;
+        return buffer.toString();
 
     }
 
-    private String format(long amount) {
+    private void format(
+        UnitPatterns.Template pattern,
+        long amount,
+        Appendable buffer
+    ) throws IOException {
+
+        if (pattern.hasPlaceholder()) {
+            buffer.append(pattern.getPrefix());
+            this.format(amount, buffer);
+            buffer.append(pattern.getSuffix());
+        } else {
+            if (amount < 0) {
+                buffer.append(this.minusSign);
+            }
+            buffer.append(pattern.getPrefix());
+        }
+
+    }
+
+    private void format(
+        long amount,
+        Appendable buffer
+    ) throws IOException {
 
         String num = String.valueOf(Math.abs(amount));
         char zero = this.zeroDigit;
-        StringBuilder sb = new StringBuilder();
 
         if (amount < 0) {
-            sb.append(this.minusSign);
+            buffer.append(this.minusSign);
         }
 
-        for (int i = 0, n = num.length(); i < n; i++) {
-            char c = num.charAt(i);
-            if (zero != '0') {
-                c = (char) (c + zero - '0');
-            }
-            sb.append(c);
+        if (zero == '0') {
+            buffer.append(num);
+            return;
         }
 
-        return sb.toString();
+        for (int i = 0, n = num.length(); i < n; i++) {
+            buffer.append((char) (num.charAt(i) + zero - '0'));
+        }
 
     }
 
@@ -25,6 +25,7 @@ import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.engine.ChronoException;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
@@ -40,6 +41,9 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -466,6 +470,102 @@ public abstract class TemporalType<S, T> {
      */
     public abstract S from(T time4j);
 
+    /**
+     * <p>Converts an array of external objects to Time4J-objects. </p>
+     *
+     * <p>Every element of the target array will be set to the translated source element
+     * at the same index. Elements which are {@code null} remain {@code null}. The predefined
+     * bridges share work between the elements where possible, for example the timezone
+     * lookup in {@link #ZONED_DATE_TIME}. </p>
+     *
+     * @param   sources     array of external objects
+     * @param   targets     array to be filled with translated Time4J-objects
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von externen Objekten nach Time4J. </p>
+     *
+     * <p>Jedes Element des Ziel-Arrays wird auf das konvertierte Quellelement mit demselben
+     * Index gesetzt. Elemente, die {@code null} sind, bleiben {@code null}. Die vordefinierten
+     * Br&uuml;cken teilen Arbeit zwischen den Elementen, wo m&ouml;glich, zum Beispiel die
+     * Zeitzonensuche in {@link #ZONED_DATE_TIME}. </p>
+     *
+     * @param   sources     array of external objects
+     * @param   targets     array to be filled with translated Time4J-objects
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   4.19
+     */
+    public void translate(
+        S[] sources,
+        T[] targets
+    ) {
+
+        checkLength(sources, targets);
+
+        for (int i = 0; i < sources.length; i++) {
+            S source = sources[i];
+            targets[i] = ((source == null) ? null : this.translate(source));
+        }
+
+    }
+
+    /**
+     * <p>Converts an array of Time4J-objects to external objects. </p>
+     *
+     * <p>Every element of the target array will be set to the translated Time4J-element
+     * at the same index. Elements which are {@code null} remain {@code null}. </p>
+     *
+     * @param   time4j      array of Time4J-objects
+     * @param   targets     array to be filled with translated external objects
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Time4J-Objekten zu externen Objekten. </p>
+     *
+     * <p>Jedes Element des Ziel-Arrays wird auf das konvertierte Time4J-Element mit demselben
+     * Index gesetzt. Elemente, die {@code null} sind, bleiben {@code null}. </p>
+     *
+     * @param   time4j      array of Time4J-objects
+     * @param   targets     array to be filled with translated external objects
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   4.19
+     */
+    public void from(
+        T[] time4j,
+        S[] targets
+    ) {
+
+        checkLength(time4j, targets);
+
+        for (int i = 0; i < time4j.length; i++) {
+            T value = time4j[i];
+            targets[i] = ((value == null) ? null : this.from(value));
+        }
+
+    }
+
+    private static void checkLength(
+        Object[] sources,
+        Object[] targets
+    ) {
+
+        if (targets.length < sources.length) {
+            throw new IllegalArgumentException(
+                "Target array too short: " + targets.length + " < " + sources.length);
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class JavaUtilDateRule
@@ -631,30 +731,100 @@ public abstract class TemporalType<S, T> {
     private static class ZonedDateTimeRule
         extends TemporalType<ZonedDateTime, ZonalDateTime> {
 
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MAX_CACHE_SIZE = 1024;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        // canonical timezone id => ZoneId oder leer, wenn java.time die Zone nicht kennt
+        private final ConcurrentMap<String, Optional<ZoneId>> zones = new ConcurrentHashMap<>();
+
         //~ Methoden ------------------------------------------------------
 
         @Override
         public ZonalDateTime translate(ZonedDateTime source) {
 
-            Moment moment = TemporalType.INSTANT.translate(source.toInstant());
-            return moment.inZonalView(source.getZone().getId());
+            return ZonalDateTime.of(toMoment(source), toTimezone(source.getZone()));
 
         }
 
         @Override
         public ZonedDateTime from(ZonalDateTime zdt) {
 
-            Instant instant = TemporalType.INSTANT.from(zdt.toMoment());
-            ZoneId zone;
+            Moment moment = zdt.toMoment();
+            Instant instant = Instant.ofEpochSecond(moment.getPosixTime(), moment.getNanosecond());
+            Optional<ZoneId> zone = this.getZone(zdt.getTimezone());
 
-            try {
-                zone = ZoneId.of(zdt.getTimezone().canonical());
-            } catch (DateTimeException ex) {
-                ZonalOffset zo = Timezone.of(zdt.getTimezone()).getOffset(zdt.toMoment());
-                zone = ZoneOffset.of(zo.toString());
+            if (zone.isPresent()) {
+                return ZonedDateTime.ofInstant(instant, zone.get());
+            }
+
+            ZonalOffset zo = Timezone.of(zdt.getTimezone()).getOffset(moment);
+            return ZonedDateTime.ofInstant(instant, ZoneOffset.of(zo.toString()));
+
+        }
+
+        @Override
+        public void translate(
+            ZonedDateTime[] sources,
+            ZonalDateTime[] targets
+        ) {
+
+            checkLength(sources, targets);
+
+            ZoneId lastZone = null;
+            Timezone lastTZ = null;
+
+            for (int i = 0; i < sources.length; i++) {
+                ZonedDateTime source = sources[i];
+                if (source == null) {
+                    targets[i] = null;
+                } else {
+                    ZoneId zone = source.getZone();
+                    if (!zone.equals(lastZone)) { // Zonensuche nur bei Wechsel der Zone
+                        lastTZ = toTimezone(zone);
+                        lastZone = zone;
+                    }
+                    targets[i] = ZonalDateTime.of(toMoment(source), lastTZ);
+                }
+            }
+
+        }
+
+        private static Moment toMoment(ZonedDateTime source) {
+
+            return Moment.of(source.toEpochSecond(), source.getNano(), TimeScale.POSIX);
+
+        }
+
+        private static Timezone toTimezone(ZoneId zone) {
+
+            if (zone instanceof ZoneOffset) { // keine Textinterpretation der festen Verschiebung
+                return Timezone.of(ZonalOffset.ofTotalSeconds(((ZoneOffset) zone).getTotalSeconds()));
+            }
+
+            return Timezone.of(zone.getId());
+
+        }
+
+        private Optional<ZoneId> getZone(TZID tzid) {
+
+            String canonical = tzid.canonical();
+            Optional<ZoneId> zone = this.zones.get(canonical);
+
+            if (zone == null) {
+                try {
+                    zone = Optional.of(ZoneId.of(canonical));
+                } catch (DateTimeException ex) {
+                    zone = Optional.empty();
+                }
+                if (this.zones.size() < MAX_CACHE_SIZE) {
+                    this.zones.putIfAbsent(canonical, zone);
+                }
             }
 
-            return ZonedDateTime.ofInstant(instant, zone);
+            return zone;
 
         }
 
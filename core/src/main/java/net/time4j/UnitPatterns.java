@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (UnitPatterns.java) is part of project Time4J.
  *
@@ -27,9 +27,13 @@ import net.time4j.format.RelativeTimeProvider;
 import net.time4j.format.TextWidth;
 import net.time4j.format.UnitPatternProvider;
 
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
@@ -88,12 +92,12 @@ final class UnitPatterns {
     //~ Instanzvariablen --------------------------------------------------
 
     private final Locale locale;
-    private final Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> patterns;
-    private final Map<IsoUnit, Map<PluralCategory, String>> past;
-    private final Map<IsoUnit, Map<PluralCategory, String>> future;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortPast;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortFuture;
-    private final Map<Integer, Map<TextWidth, String>> list;
+    private final Map<IsoUnit, Map<TextWidth, Map<PluralCategory, Template>>> patterns;
+    private final Map<IsoUnit, Map<PluralCategory, Template>> past;
+    private final Map<IsoUnit, Map<PluralCategory, Template>> future;
+    private final Map<IsoUnit, Map<PluralCategory, Template>> shortPast;
+    private final Map<IsoUnit, Map<PluralCategory, Template>> shortFuture;
+    private final Map<Integer, Map<TextWidth, Template>> list;
     private final String now;
     private final String yesterday;
     private final String today;
@@ -106,20 +110,20 @@ final class UnitPatterns {
 
         this.locale = language;
 
-        Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> map = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapFuture = new HashMap<>(10);
-        Map<Integer, Map<TextWidth, String>> mapList = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortFuture = new HashMap<>(10);
+        Map<IsoUnit, Map<TextWidth, Map<PluralCategory, Template>>> map = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, Template>> mapPast = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, Template>> mapFuture = new HashMap<>(10);
+        Map<Integer, Map<TextWidth, Template>> mapList = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, Template>> mapShortPast = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, Template>> mapShortFuture = new HashMap<>(10);
 
         for (IsoUnit unit : UNIT_IDS) {
             // Standard-Muster
-            Map<TextWidth, Map<PluralCategory, String>> tmp1 = new EnumMap<>(TextWidth.class);
+            Map<TextWidth, Map<PluralCategory, Template>> tmp1 = new EnumMap<>(TextWidth.class);
             for (TextWidth width : TextWidth.values()) {
-                Map<PluralCategory, String> tmp2 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, Template> tmp2 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp2.put(cat, lookup(language, unit, width, cat));
+                    tmp2.put(cat, Template.ofUnit(lookup(language, unit, width, cat)));
                 }
                 tmp1.put(width, Collections.unmodifiableMap(tmp2));
             }
@@ -129,32 +133,32 @@ final class UnitPatterns {
 
             if (!Character.isDigit(unit.getSymbol())) { // no subseconds
                 // Vergangenheit
-                Map<PluralCategory, String> tmp3 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, Template> tmp3 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3.put(cat, lookup(language, unit, false, false, cat));
+                    tmp3.put(cat, Template.ofUnit(lookup(language, unit, false, false, cat)));
                 }
                 mapPast.put(
                     unit,
                     Collections.unmodifiableMap(tmp3));
-                Map<PluralCategory, String> tmp3a = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, Template> tmp3a = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3a.put(cat, lookup(language, unit, false, true, cat));
+                    tmp3a.put(cat, Template.ofUnit(lookup(language, unit, false, true, cat)));
                 }
                 mapShortPast.put(
                     unit,
                     Collections.unmodifiableMap(tmp3a));
 
                 // Zukunft
-                Map<PluralCategory, String> tmp4 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, Template> tmp4 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4.put(cat, lookup(language, unit, true, false, cat));
+                    tmp4.put(cat, Template.ofUnit(lookup(language, unit, true, false, cat)));
                 }
                 mapFuture.put(
                     unit,
                     Collections.unmodifiableMap(tmp4));
-                Map<PluralCategory, String> tmp4a = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, Template> tmp4a = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4a.put(cat, lookup(language, unit, true, true, cat));
+                    tmp4a.put(cat, Template.ofUnit(lookup(language, unit, true, true, cat)));
                 }
                 mapShortFuture.put(
                     unit,
@@ -165,9 +169,9 @@ final class UnitPatterns {
         // Liste
         for (int i = MIN_LIST_INDEX; i <= MAX_LIST_INDEX; i++) {
             Integer index = Integer.valueOf(i);
-            Map<TextWidth, String> tmp5 = new EnumMap<>(TextWidth.class);
+            Map<TextWidth, Template> tmp5 = new EnumMap<>(TextWidth.class);
             for (TextWidth width : TextWidth.values()) {
-                tmp5.put(width, lookup(language, width, index));
+                tmp5.put(width, Template.ofList(lookup(language, width, i), i));
             }
             mapList.put(
                 index,
@@ -244,7 +248,7 @@ final class UnitPatterns {
      * @param   unit        associated iso unit
      * @return  unit pattern
      */
-    String getPattern(
+    Template getPattern(
         TextWidth width,
         PluralCategory category,
         IsoUnit unit
@@ -266,7 +270,7 @@ final class UnitPatterns {
      * @return  unit pattern in the past
      * @since   3.6/4.4
      */
-    String getPatternInPast(
+    Template getPatternInPast(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
@@ -293,7 +297,7 @@ final class UnitPatterns {
      * @return  unit pattern in the future
      * @since   3.6/4.4
      */
-    String getPatternInFuture(
+    Template getPatternInFuture(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
@@ -365,7 +369,7 @@ final class UnitPatterns {
      * @return  message format pattern with placeholders {0}, {1}, ..., {x}, ...
      * @throws  IllegalArgumentException if size is smaller than 2
      */
-    String getListPattern(
+    Template getListPattern(
         TextWidth width,
         int size
     ) {
@@ -381,7 +385,7 @@ final class UnitPatterns {
             return this.list.get(Integer.valueOf(size)).get(width);
         }
 
-        return lookup(this.locale, width, size);
+        return Template.ofList(lookup(this.locale, width, size), size);
 
     }
 
@@ -915,4 +919,189 @@ final class UnitPatterns {
 
     }
 
+    /**
+     * <p>Pre-compiled pattern with literal segments and placeholders of the form {n}. </p>
+     *
+     * @doctags.concurrency {immutable}
+     */
+    static final class Template {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final String[] literals; // one more than count of placeholders
+        private final int[] indices; // null if MessageFormat is needed
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Template(
+            String pattern,
+            String[] literals,
+            int[] indices
+        ) {
+            super();
+
+            this.pattern = pattern;
+            this.literals = literals;
+            this.indices = indices;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Compiles given unit pattern where only the first occurrence of {0} is a placeholder. </p>
+         *
+         * @param   pattern     unit pattern
+         * @return  new template
+         */
+        static Template ofUnit(String pattern) {
+
+            int pos = pattern.indexOf("{0}");
+
+            if (pos == -1) {
+                return new Template(pattern, new String[] {pattern}, new int[0]);
+            }
+
+            String[] literals = {pattern.substring(0, pos), pattern.substring(pos + 3)};
+            return new Template(pattern, literals, new int[] {0});
+
+        }
+
+        /**
+         * <p>Compiles given list pattern in the style of {@code MessageFormat}. </p>
+         *
+         * <p>Patterns with quotes or other format elements than simple arguments are not compiled
+         * but delegated to {@code MessageFormat}. </p>
+         *
+         * @param   pattern     list pattern
+         * @param   size        count of list items
+         * @return  new template
+         */
+        static Template ofList(
+            String pattern,
+            int size
+        ) {
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> indices = new ArrayList<>();
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0, n = pattern.length(); i < n; i++) {
+                char c = pattern.charAt(i);
+
+                if (c == '{') {
+                    int index = 0;
+                    int j = i + 1;
+
+                    while ((j < n) && (pattern.charAt(j) >= '0') && (pattern.charAt(j) <= '9') && (j - i < 3)) {
+                        index = index * 10 + (pattern.charAt(j) - '0');
+                        j++;
+                    }
+
+                    if ((j == i + 1) || (j >= n) || (pattern.charAt(j) != '}') || (index >= size)) {
+                        return new Template(pattern, null, null);
+                    }
+
+                    literals.add(sb.toString());
+                    indices.add(Integer.valueOf(index));
+                    sb.setLength(0);
+                    i = j;
+                } else if ((c == '}') || (c == '\'')) {
+                    return new Template(pattern, null, null);
+                } else {
+                    sb.append(c);
+                }
+            }
+
+            literals.add(sb.toString());
+            int[] array = new int[indices.size()];
+
+            for (int i = 0; i < array.length; i++) {
+                array[i] = indices.get(i).intValue();
+            }
+
+            return new Template(pattern, literals.toArray(new String[literals.size()]), array);
+
+        }
+
+        /**
+         * <p>Yields the original pattern. </p>
+         *
+         * @return  String
+         */
+        String getPattern() {
+
+            return this.pattern;
+
+        }
+
+        /**
+         * <p>Does this unit template contain a placeholder? </p>
+         *
+         * @return  boolean
+         */
+        boolean hasPlaceholder() {
+
+            return (this.indices.length > 0);
+
+        }
+
+        /**
+         * <p>Yields the literal text before the first placeholder (or the whole text). </p>
+         *
+         * @return  String
+         */
+        String getPrefix() {
+
+            return this.literals[0];
+
+        }
+
+        /**
+         * <p>Yields the literal text after the first placeholder. </p>
+         *
+         * @return  String
+         */
+        String getSuffix() {
+
+            return this.literals[1];
+
+        }
+
+        /**
+         * <p>Prints the list items which are stored in given text buffer. </p>
+         *
+         * @param   items       text buffer containing all items
+         * @param   bounds      start and end positions of items in text buffer (twice the count of items)
+         * @param   buffer      text output
+         * @throws  IOException if writing to buffer fails
+         */
+        void print(
+            CharSequence items,
+            int[] bounds,
+            Appendable buffer
+        ) throws IOException {
+
+            if (this.indices == null) {
+                Object[] args = new Object[bounds.length / 2];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = items.subSequence(bounds[2 * i], bounds[2 * i + 1]).toString();
+                }
+                buffer.append(MessageFormat.format(this.pattern, args));
+                return;
+            }
+
+            for (int i = 0; i < this.indices.length; i++) {
+                buffer.append(this.literals[i]);
+                int index = this.indices[i];
+                buffer.append(items, bounds[2 * index], bounds[2 * index + 1]);
+            }
+
+            buffer.append(this.literals[this.indices.length]);
+
+        }
+
+    }
+
 }
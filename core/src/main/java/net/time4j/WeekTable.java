@@ -0,0 +1,384 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (WeekTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Precomputed table of the start dates of the first calendar week for a range of week-based years
+ * in a given {@link Weekmodel}. </p>
+ *
+ * <p>The table is designed for the mass calculation of calendar weeks, for example in week-based
+ * reporting over large sets of dates. All results are identical to those of the elements
+ * {@link Weekmodel#weekOfYear()} and - in case of the ISO-model - {@link PlainDate#YEAR_OF_WEEKDATE}.
+ * Dates outside of the tabulated range are still supported but will be calculated on the fly. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Weekmodel#tabulate(int, int)
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Vorausberechnete Tabelle der Anfangsdaten der ersten Kalenderwoche f&uuml;r einen Bereich von
+ * wochenbasierten Jahren in einem gegebenen {@link Weekmodel}. </p>
+ *
+ * <p>Die Tabelle ist f&uuml;r die Massenberechnung von Kalenderwochen gedacht, zum Beispiel in
+ * wochenbasierten Auswertungen &uuml;ber gro&szlig;e Datumsmengen. Alle Ergebnisse sind mit denen
+ * der Elemente {@link Weekmodel#weekOfYear()} und - im Fall des ISO-Modells -
+ * {@link PlainDate#YEAR_OF_WEEKDATE} identisch. Datumsangaben au&szlig;erhalb des tabellierten
+ * Bereichs werden weiterhin unterst&uuml;tzt, aber direkt berechnet. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Weekmodel#tabulate(int, int)
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+public final class WeekTable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Weekmodel model;
+    private final int minYear;
+    private final long[] starts; // utc-days of first day of week 1 for years minYear..(maxYear + 1)
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new table. </p>
+     *
+     * @param   model       underlying week model
+     * @param   minYear     first week-based year to be tabulated
+     * @param   maxYear     last week-based year to be tabulated
+     * @throws  IllegalArgumentException if the year range is not valid
+     */
+    WeekTable(
+        Weekmodel model,
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        if (minYear > maxYear) {
+            throw new IllegalArgumentException("Invalid year range: " + minYear + " > " + maxYear);
+        } else if (minYear < GregorianMath.MIN_YEAR + 1) {
+            throw new IllegalArgumentException("Minimum year out of range: " + minYear);
+        } else if (maxYear > GregorianMath.MAX_YEAR - 1) {
+            throw new IllegalArgumentException("Maximum year out of range: " + maxYear);
+        }
+
+        long[] values = new long[maxYear - minYear + 2];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = model.getStartOfFirstWeek(minYear + i);
+        }
+
+        this.model = model;
+        this.minYear = minYear;
+        this.starts = values;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the underlying week model. </p>
+     *
+     * @return  Weekmodel
+     */
+    /*[deutsch]
+     * <p>Liefert das zugrundeliegende Wochenmodell. </p>
+     *
+     * @return  Weekmodel
+     */
+    public Weekmodel getModel() {
+
+        return this.model;
+
+    }
+
+    /**
+     * <p>Yields the first tabulated week-based year. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert das erste tabellierte wochenbasierte Jahr. </p>
+     *
+     * @return  int
+     */
+    public int getMinYear() {
+
+        return this.minYear;
+
+    }
+
+    /**
+     * <p>Yields the last tabulated week-based year. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert das letzte tabellierte wochenbasierte Jahr. </p>
+     *
+     * @return  int
+     */
+    public int getMaxYear() {
+
+        return this.minYear + this.starts.length - 2;
+
+    }
+
+    /**
+     * <p>Yields the first day of the first calendar week of given week-based year. </p>
+     *
+     * @param   yearOfWeekdate  week-based year
+     * @return  first day of week 1
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den ersten Tag der ersten Kalenderwoche des angegebenen wochenbasierten Jahres. </p>
+     *
+     * @param   yearOfWeekdate  week-based year
+     * @return  first day of week 1
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public PlainDate getStartOfFirstWeek(int yearOfWeekdate) {
+
+        return PlainDate.of(this.startOfYear(yearOfWeekdate), EpochDays.UTC);
+
+    }
+
+    /**
+     * <p>Determines the calendar week like {@code date.get(getModel().weekOfYear())}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week of year in range 1-52/53
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Kalenderwoche wie {@code date.get(getModel().weekOfYear())}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week of year in range 1-52/53
+     */
+    public int getWeekOfYear(PlainDate date) {
+
+        long utcDays = date.getDaysSinceUTC();
+        int yow = this.getYearOfWeekdate(utcDays, date.getYear());
+        return (int) ((utcDays - this.startOfYear(yow)) / 7) + 1;
+
+    }
+
+    /**
+     * <p>Determines the week-based year which contains the calendar week of given date. </p>
+     *
+     * <p>In case of the ISO-model, the result is equal to {@code date.get(PlainDate.YEAR_OF_WEEKDATE)}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week-based year
+     */
+    /*[deutsch]
+     * <p>Bestimmt das wochenbasierte Jahr, das die Kalenderwoche des angegebenen Datums enth&auml;lt. </p>
+     *
+     * <p>Im Fall des ISO-Modells ist das Ergebnis gleich {@code date.get(PlainDate.YEAR_OF_WEEKDATE)}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week-based year
+     */
+    public int getYearOfWeekdate(PlainDate date) {
+
+        return this.getYearOfWeekdate(date.getDaysSinceUTC(), date.getYear());
+
+    }
+
+    /**
+     * <p>Determines the calendar weeks and week-based years of all given epoch days in one step. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *  WeekTable table = Weekmodel.of(Locale.US).tabulate(2000, 2030);
+     *  long[] days = {16071, 16436}; // 2014-01-01, 2015-01-01
+     *  int[] weeks = new int[days.length];
+     *  int[] years = new int[days.length];
+     *  table.compute(days, EpochDays.UNIX, weeks, years);
+     * </pre>
+     *
+     * @param   epochDays       input array of days relative to given epoch
+     * @param   epoch           reference date scale
+     * @param   weekOfYear      output array for calendar weeks (optional)
+     * @param   yearOfWeekdate  output array for week-based years (optional)
+     * @throws  IllegalArgumentException if any output array is shorter than the input array
+     *          or if any epoch day is out of range
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Kalenderwochen und wochenbasierten Jahre aller angegebenen Epochentage
+     * in einem Schritt. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *  WeekTable table = Weekmodel.of(Locale.US).tabulate(2000, 2030);
+     *  long[] days = {16071, 16436}; // 2014-01-01, 2015-01-01
+     *  int[] weeks = new int[days.length];
+     *  int[] years = new int[days.length];
+     *  table.compute(days, EpochDays.UNIX, weeks, years);
+     * </pre>
+     *
+     * @param   epochDays       input array of days relative to given epoch
+     * @param   epoch           reference date scale
+     * @param   weekOfYear      output array for calendar weeks (optional)
+     * @param   yearOfWeekdate  output array for week-based years (optional)
+     * @throws  IllegalArgumentException if any output array is shorter than the input array
+     *          or if any epoch day is out of range
+     */
+    public void compute(
+        long[] epochDays,
+        EpochDays epoch,
+        int[] weekOfYear,
+        int[] yearOfWeekdate
+    ) {
+
+        int n = epochDays.length;
+
+        if (
+            ((weekOfYear != null) && (weekOfYear.length < n))
+            || ((yearOfWeekdate != null) && (yearOfWeekdate.length < n))
+        ) {
+            throw new IllegalArgumentException("Output array too short.");
+        }
+
+        for (int i = 0; i < n; i++) {
+            long utcDays = EpochDays.UTC.transform(epochDays[i], epoch);
+            int yow = this.lookup(utcDays);
+
+            if (yow == Integer.MIN_VALUE) {
+                yow = this.getYearOfWeekdate(utcDays, PlainDate.of(utcDays, EpochDays.UTC).getYear());
+            }
+
+            if (weekOfYear != null) {
+                weekOfYear[i] = (int) ((utcDays - this.startOfYear(yow)) / 7) + 1;
+            }
+
+            if (yearOfWeekdate != null) {
+                yearOfWeekdate[i] = yow;
+            }
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof WeekTable) {
+            WeekTable that = (WeekTable) obj;
+            return (
+                this.model.equals(that.model)
+                && (this.minYear == that.minYear)
+                && (this.starts.length == that.starts.length)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.model.hashCode() + 31 * this.minYear + 37 * this.starts.length;
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("WeekTable[model=");
+        sb.append(this.model);
+        sb.append(",years=");
+        sb.append(this.getMinYear());
+        sb.append('-');
+        sb.append(this.getMaxYear());
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private int getYearOfWeekdate(
+        long utcDays,
+        int calendarYear
+    ) {
+
+        int yow = this.lookup(utcDays);
+
+        if (yow == Integer.MIN_VALUE) {
+            if (utcDays < this.startOfYear(calendarYear)) {
+                yow = calendarYear - 1;
+            } else if (utcDays >= this.startOfYear(calendarYear + 1)) {
+                yow = calendarYear + 1;
+            } else {
+                yow = calendarYear;
+            }
+        }
+
+        return yow;
+
+    }
+
+    // Integer.MIN_VALUE if not tabulated
+    private int lookup(long utcDays) {
+
+        int index = Arrays.binarySearch(this.starts, utcDays);
+
+        if (index < 0) {
+            index = -index - 2;
+
+            if ((index < 0) || (index >= this.starts.length - 1)) {
+                return Integer.MIN_VALUE;
+            }
+        } else if (index == this.starts.length - 1) {
+            return Integer.MIN_VALUE;
+        }
+
+        return this.minYear + index;
+
+    }
+
+    private long startOfYear(int year) {
+
+        int index = year - this.minYear;
+
+        if ((index >= 0) && (index < this.starts.length)) {
+            return this.starts[index];
+        }
+
+        return this.model.getStartOfFirstWeek(year);
+
+    }
+
+}
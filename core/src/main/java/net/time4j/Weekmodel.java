@@ -33,6 +33,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
+import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
 import net.time4j.format.Attributes;
 import net.time4j.format.CalendarText;
@@ -798,6 +799,58 @@ public final class Weekmodel
 
     }
 
+    /**
+     * <p>Creates a table of precomputed calendar week data for the given range of week-based years. </p>
+     *
+     * <p>Such a table is suitable for the fast mass calculation of calendar weeks and yields the
+     * same results as the element {@link #weekOfYear()}. Example: </p>
+     *
+     * <pre>
+     *  WeekTable table = Weekmodel.ISO.tabulate(1900, 2100);
+     *  PlainDate date = PlainDate.of(2012, 12, 31); // Monday
+     *  System.out.println(table.getWeekOfYear(date));
+     *  // Output: 1
+     *  System.out.println(table.getYearOfWeekdate(date));
+     *  // Output: 2013
+     * </pre>
+     *
+     * @param   minYear     first week-based year to be tabulated
+     * @param   maxYear     last week-based year to be tabulated
+     * @return  new table of calendar week data for this model
+     * @throws  IllegalArgumentException if the year range is not valid
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Tabelle mit vorausberechneten Kalenderwochendaten f&uuml;r den angegebenen
+     * Bereich von wochenbasierten Jahren. </p>
+     *
+     * <p>Eine solche Tabelle eignet sich f&uuml;r die schnelle Massenberechnung von Kalenderwochen
+     * und liefert die gleichen Ergebnisse wie das Element {@link #weekOfYear()}. Beispiel: </p>
+     *
+     * <pre>
+     *  WeekTable table = Weekmodel.ISO.tabulate(1900, 2100);
+     *  PlainDate date = PlainDate.of(2012, 12, 31); // Montag
+     *  System.out.println(table.getWeekOfYear(date));
+     *  // Ausgabe: 1
+     *  System.out.println(table.getYearOfWeekdate(date));
+     *  // Ausgabe: 2013
+     * </pre>
+     *
+     * @param   minYear     first week-based year to be tabulated
+     * @param   maxYear     last week-based year to be tabulated
+     * @return  new table of calendar week data for this model
+     * @throws  IllegalArgumentException if the year range is not valid
+     * @since   4.19
+     */
+    public WeekTable tabulate(
+        int minYear,
+        int maxYear
+    ) {
+
+        return new WeekTable(this, minYear, maxYear);
+
+    }
+
     /**
      * <p>Compares on the base of internal week rules. </p>
      */
@@ -874,6 +927,37 @@ public final class Weekmodel
 
     }
 
+    /**
+     * <p>Ermittelt den ersten Tag der ersten Kalenderwoche des angegebenen
+     * wochenbasierten Jahres. </p>
+     *
+     * @param   year    week-based year (may exceed the year range by one)
+     * @return  count of days since UTC epoch (1972-01-01)
+     */
+    long getStartOfFirstWeek(int year) {
+
+        long newYear; // Jahresanfang in UTC-Tagen
+
+        if (year > GregorianMath.MAX_YEAR) {
+            newYear = toUTC(GregorianMath.toMJD(year - 1, 12, 31)) + 1;
+        } else if (year < GregorianMath.MIN_YEAR) {
+            newYear = toUTC(GregorianMath.toMJD(year + 1, 1, 1)) - (GregorianMath.isLeapYear(year) ? 366 : 365);
+        } else {
+            newYear = toUTC(GregorianMath.toMJD(year, 1, 1));
+        }
+
+        int dow = getDayOfWeek(newYear).getValue(this);
+        int wstart = ((dow <= 8 - this.minimalDaysInFirstWeek) ? 2 - dow : 9 - dow);
+        return newYear + wstart - 1;
+
+    }
+
+    private static long toUTC(long mjd) {
+
+        return EpochDays.UTC.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
     /**
      * <p>Ermittelt den Wochentag. </p>
      *
@@ -0,0 +1,313 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Instrumentation.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.base;
+
+
+/**
+ * <p>Service provider for collecting metrics of some hot paths in Time4J, namely
+ * cache statistics, loading latencies and parse failures. </p>
+ *
+ * <p>An implementation will be found by help of {@link ResourceLoader#services(Class)}
+ * (for example registered in the file
+ * &quot;META-INF/services/net.time4j.base.Instrumentation&quot;). Only the first
+ * implementation found is used. If there is no implementation then the instrumentation
+ * is disabled and all call sites are guarded by the constant {@link #isEnabled()}
+ * so that no measurement overhead remains. </p>
+ *
+ * <p>All methods of this class do nothing by default so subclasses only need to
+ * override those methods they are interested in. Implementations must be
+ * <i>thread-safe</i>, should be fast and must never throw any exception. </p>
+ *
+ * <p><strong>Specification:</strong>
+ * All external subclasses must have a public no-arg constructor. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.19
+ */
+/*[deutsch]
+ * <p>Service-Provider zum Sammeln von Metriken einiger viel benutzter Pfade in Time4J,
+ * n&auml;mlich Cache-Statistiken, Ladezeiten und Parse-Fehler. </p>
+ *
+ * <p>Eine Implementierung wird mit Hilfe von {@link ResourceLoader#services(Class)}
+ * gefunden (zum Beispiel registriert in der Datei
+ * &quot;META-INF/services/net.time4j.base.Instrumentation&quot;). Nur die erste gefundene
+ * Implementierung wird verwendet. Gibt es keine Implementierung, ist die Instrumentierung
+ * abgeschaltet, und alle Aufrufstellen sind mit der Konstanten {@link #isEnabled()}
+ * gesch&uuml;tzt, so da&szlig; kein Messaufwand &uuml;brig bleibt. </p>
+ *
+ * <p>Alle Methoden dieser Klasse tun standardm&auml;&szlig;ig nichts, so da&szlig;
+ * Subklassen nur die Methoden &uuml;berschreiben m&uuml;ssen, an denen sie interessiert
+ * sind. Implementierungen m&uuml;ssen <i>thread-safe</i> und schnell sein und d&uuml;rfen
+ * niemals eine Ausnahme werfen. </p>
+ *
+ * <p><strong>Specification:</strong>
+ * All external subclasses must have a public no-arg constructor. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.19
+ */
+public abstract class Instrumentation {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Name of the internal cache of timezones. </p>
+     */
+    /*[deutsch]
+     * <p>Name des internen Cache von Zeitzonen. </p>
+     */
+    public static final String CACHE_TIMEZONES = "net.time4j.tz.Timezone";
+
+    /**
+     * <p>Name of the internal cache of calendar texts. </p>
+     */
+    /*[deutsch]
+     * <p>Name des internen Cache von Kalendertexten. </p>
+     */
+    public static final String CACHE_CALENDAR_TEXTS = "net.time4j.format.CalendarText";
+
+    /**
+     * <p>Name of the internal cache of pattern-based formatters. </p>
+     */
+    /*[deutsch]
+     * <p>Name des internen Cache von musterbasierten Formatierern. </p>
+     */
+    public static final String CACHE_FORMATTERS = "net.time4j.format.expert.ChronoFormatter";
+
+    /**
+     * <p>Name of the internal cache of timezone names used in parsing. </p>
+     */
+    /*[deutsch]
+     * <p>Name des internen Cache von Zeitzonennamen, die beim Parsen verwendet werden. </p>
+     */
+    public static final String CACHE_TIMEZONE_NAMES = "net.time4j.format.expert.TimezoneNameProcessor";
+
+    /**
+     * <p>Name of the operation of loading a timezone which is not yet cached (usually
+     * from a {@code ZoneModelProvider}). </p>
+     */
+    /*[deutsch]
+     * <p>Name der Operation, eine noch nicht gecachte Zeitzone zu laden (normalerweise
+     * von einem {@code ZoneModelProvider}). </p>
+     */
+    public static final String LOAD_TIMEZONE = "net.time4j.tz.ZoneModelProvider.load";
+
+    /**
+     * <p>Name of the operation of creating calendar texts for a new combination of calendar type and locale. </p>
+     */
+    /*[deutsch]
+     * <p>Name der Operation, Kalendertexte f&uuml;r eine neue Kombination aus Kalendertyp und Sprache
+     * zu erzeugen. </p>
+     */
+    public static final String LOAD_CALENDAR_TEXT = "net.time4j.format.CalendarText.getInstance";
+
+    /**
+     * <p>Name of the operation of loading the leap second table. </p>
+     */
+    /*[deutsch]
+     * <p>Name der Operation, die Schaltsekundentabelle zu laden. </p>
+     */
+    public static final String LOAD_LEAP_SECONDS = "net.time4j.scale.LeapSeconds";
+
+    /**
+     * <p>Name of the operation of printing a chronological entity by a {@code ChronoFormatter}. </p>
+     */
+    /*[deutsch]
+     * <p>Name der Operation, eine chronologische Entit&auml;t mit einem {@code ChronoFormatter}
+     * zu formatieren. </p>
+     */
+    public static final String FORMAT_PRINT = "net.time4j.format.expert.ChronoFormatter.format";
+
+    /**
+     * <p>Name of the operation of parsing a text by a {@code ChronoFormatter}. </p>
+     */
+    /*[deutsch]
+     * <p>Name der Operation, einen Text mit einem {@code ChronoFormatter} zu interpretieren. </p>
+     */
+    public static final String FORMAT_PARSE = "net.time4j.format.expert.ChronoFormatter.parse";
+
+    private static final Instrumentation INSTANCE;
+    private static final boolean ENABLED;
+
+    static {
+        Instrumentation found = null;
+
+        for (Instrumentation candidate : ResourceLoader.getInstance().services(Instrumentation.class)) {
+            found = candidate;
+            break;
+        }
+
+        ENABLED = (found != null);
+        INSTANCE = (ENABLED ? found : new NoopInstrumentation());
+    }
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * For subclasses only.
+     *
+     * @see     #getInstance()
+     */
+    protected Instrumentation() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Queries if any instrumentation has been registered. </p>
+     *
+     * <p>The result is determined once and never changes afterwards. </p>
+     *
+     * @return  {@code true} if an external instrumentation is active else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob eine Instrumentierung registriert wurde. </p>
+     *
+     * <p>Das Ergebnis wird einmal bestimmt und &auml;ndert sich danach nicht mehr. </p>
+     *
+     * @return  {@code true} if an external instrumentation is active else {@code false}
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+
+    }
+
+    /**
+     * <p>Yields the registered instrumentation or a variant which does nothing. </p>
+     *
+     * @return  Instrumentation
+     */
+    /*[deutsch]
+     * <p>Liefert die registrierte Instrumentierung oder eine Variante, die nichts tut. </p>
+     *
+     * @return  Instrumentation
+     */
+    public static Instrumentation getInstance() {
+
+        return INSTANCE;
+
+    }
+
+    /**
+     * <p>Called if a cache lookup was successful. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    /*[deutsch]
+     * <p>Wird aufgerufen, wenn ein Cache-Zugriff erfolgreich war. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    public void recordCacheHit(String cache) {
+        // no-op
+    }
+
+    /**
+     * <p>Called if a cache lookup failed so the value has to be created. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    /*[deutsch]
+     * <p>Wird aufgerufen, wenn ein Cache-Zugriff fehlschlug, so da&szlig; der Wert neu
+     * erzeugt werden mu&szlig;. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    public void recordCacheMiss(String cache) {
+        // no-op
+    }
+
+    /**
+     * <p>Called if a cache entry was removed in order to free memory or to respect a size limit. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    /*[deutsch]
+     * <p>Wird aufgerufen, wenn ein Cache-Eintrag entfernt wurde, um Speicher freizugeben oder
+     * eine Gr&ouml;&szlig;engrenze einzuhalten. </p>
+     *
+     * @param   cache       name of cache (see constants of this class)
+     */
+    public void recordCacheEviction(String cache) {
+        // no-op
+    }
+
+    /**
+     * <p>Called after an operation has been measured. </p>
+     *
+     * @param   operation   name of operation (see constants of this class)
+     * @param   nanos       elapsed time in nanoseconds as measured by {@link System#nanoTime()}
+     */
+    /*[deutsch]
+     * <p>Wird nach der Messung einer Operation aufgerufen. </p>
+     *
+     * @param   operation   name of operation (see constants of this class)
+     * @param   nanos       elapsed time in nanoseconds as measured by {@link System#nanoTime()}
+     */
+    public void recordTime(
+        String operation,
+        long nanos
+    ) {
+        // no-op
+    }
+
+    /**
+     * <p>Called if a parser could not parse a text. </p>
+     *
+     * <p>Only the outermost parsing call is reported, not the failed trials of nested or
+     * alternative parsers. The name of the error category is passed instead of the error
+     * message so that no message needs to be built and no parsed text is exposed. The
+     * parsers of the i18n-module use the constant names of {@code net.time4j.format.expert.ParseErrorCode}. </p>
+     *
+     * @param   type        chronological type of the parser
+     * @param   code        name of error category
+     */
+    /*[deutsch]
+     * <p>Wird aufgerufen, wenn ein Parser einen Text nicht interpretieren konnte. </p>
+     *
+     * <p>Nur der &auml;u&szlig;erste Parse-Aufruf wird gemeldet, nicht die fehlgeschlagenen
+     * Versuche von eingebetteten oder alternativen Parsern. Statt der Fehlermeldung wird der
+     * Name der Fehlerkategorie &uuml;bergeben, so da&szlig; keine Meldung erzeugt werden mu&szlig;
+     * und kein interpretierter Text preisgegeben wird. Die Parser des i18n-Moduls verwenden die
+     * Konstantennamen von {@code net.time4j.format.expert.ParseErrorCode}. </p>
+     *
+     * @param   type        chronological type of the parser
+     * @param   code        name of error category
+     */
+    public void recordParseFailure(
+        Class<?> type,
+        String code
+    ) {
+        // no-op
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class NoopInstrumentation
+        extends Instrumentation {
+
+    }
+
+}
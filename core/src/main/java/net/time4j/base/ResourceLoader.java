@@ -30,7 +30,13 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -249,6 +255,11 @@ public abstract class ResourceLoader {
     /**
      * <p>Finds a collection of service providers available for given service provider interface. </p>
      *
+     * <p>The standard implementation instantiates the providers lazily during iteration and
+     * only once per service interface. Subsequent calls yield the same unmodifiable collection
+     * until {@link #reloadServices()} is called. Providers which cannot be loaded or
+     * instantiated will be skipped. </p>
+     *
      * @param   <S> generic service type
      * @param   serviceInterface    service provider interface
      * @return  iterable collection of service providers
@@ -258,6 +269,11 @@ public abstract class ResourceLoader {
      * <p>Findet eine Menge von <i>Service Provider</i>-Objekten, die zum angegebenen Interface
      * verf&uuml;gbar sind. </p>
      *
+     * <p>Die Standardimplementierung instanziiert die <i>Provider</i> erst beim Iterieren und
+     * nur einmal je <i>Service</i>-Interface. Weitere Aufrufe liefern dieselbe unver&auml;nderliche
+     * Sammlung, bis {@link #reloadServices()} aufgerufen wird. <i>Provider</i>, die nicht geladen
+     * oder instanziiert werden k&ouml;nnen, werden &uuml;bersprungen. </p>
+     *
      * @param   <S> generic service type
      * @param   serviceInterface    service provider interface
      * @return  iterable collection of service providers
@@ -265,11 +281,52 @@ public abstract class ResourceLoader {
      */
     public abstract <S> Iterable<S> services(Class<S> serviceInterface);
 
+    /**
+     * <p>Discards all service providers which might have been cached by the method
+     * {@link #services(Class)} so that the next call will scan the class path again. </p>
+     *
+     * <p>The standard implementation caches the providers per service interface class.
+     * Applications which install or remove providers at runtime (for example by adding
+     * jars to a class loader) should call this method afterwards. Components
+     * which have already stored a provider in a static field will not be affected. The
+     * default implementation of this method does nothing. </p>
+     *
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Verwirft alle <i>Service Provider</i>-Objekte, die von der Methode {@link #services(Class)}
+     * vorgehalten worden sein k&ouml;nnen, so da&szlig; der n&auml;chste Aufruf den Klassenpfad
+     * wieder durchsucht. </p>
+     *
+     * <p>Die Standardimplementierung speichert die <i>Provider</i> je <i>Service</i>-Interface-Klasse.
+     * Anwendungen, die zur Laufzeit <i>Provider</i> installieren oder entfernen (zum Beispiel, indem
+     * sie einem <i>Classloader</i> Jars hinzuf&uuml;gen), sollten danach diese Methode aufrufen. Komponenten, die schon einen <i>Provider</i> in einem statischen
+     * Feld gespeichert haben, sind davon nicht betroffen. Die Standardimplementierung dieser Methode
+     * tut nichts. </p>
+     *
+     * @since   4.19
+     */
+    public void reloadServices() {
+        // no-op
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class StdResourceLoader
         extends ResourceLoader {
 
+        //~ Instanzvariablen ----------------------------------------------
+
+        // ClassValue hält die Provider je Service-Interface-Klasse, ohne deren Entladen zu verhindern
+        private final AtomicInteger generation = new AtomicInteger();
+        private final ClassValue<ServiceEntry> registry =
+            new ClassValue<ServiceEntry>() {
+                @Override
+                protected ServiceEntry computeValue(Class<?> type) {
+                    return new ServiceEntry(StdResourceLoader.this.generation.get(), type);
+                }
+            };
+
         //~ Konstruktoren -------------------------------------------------
 
         protected StdResourceLoader() {
@@ -350,9 +407,114 @@ public abstract class ResourceLoader {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <S> Iterable<S> services(Class<S> serviceInterface) {
 
-            return ServiceLoader.load(serviceInterface, serviceInterface.getClassLoader());
+            int generation = this.generation.get();
+            ServiceEntry entry = this.registry.get(serviceInterface);
+
+            if (entry.generation != generation) {
+                this.registry.remove(serviceInterface);
+                entry = this.registry.get(serviceInterface);
+            }
+
+            return (Iterable<S>) entry;
+
+        }
+
+        @Override
+        public void reloadServices() {
+
+            this.generation.incrementAndGet();
+
+        }
+
+    }
+
+    private static class ServiceEntry
+        implements Iterable<Object> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int generation;
+        private final Iterator<?> source; // nur unter Sperre von this benutzen
+        private final List<Object> providers;
+
+        private volatile boolean complete;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ServiceEntry(
+            int generation,
+            Class<?> serviceInterface
+        ) {
+            super();
+
+            this.generation = generation;
+            this.source = ServiceLoader.load(serviceInterface, serviceInterface.getClassLoader()).iterator();
+            this.providers = new CopyOnWriteArrayList<>();
+            this.complete = false;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Iterator<Object> iterator() {
+
+            return new Iterator<Object>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return ServiceEntry.this.isAvailable(this.index);
+                }
+
+                @Override
+                public Object next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return ServiceEntry.this.providers.get(this.index++);
+                }
+            };
+
+        }
+
+        // lädt bei Bedarf den nächsten Provider, defekte Provider werden dauerhaft übersprungen,
+        // ein unmittelbar wiederholter Fehler beendet die Suche
+        private boolean isAvailable(int index) {
+
+            if ((index < this.providers.size()) || this.complete) {
+                return (index < this.providers.size());
+            }
+
+            synchronized (this) {
+                String lastError = null;
+                while ((index >= this.providers.size()) && !this.complete) {
+                    try {
+                        if (this.source.hasNext()) {
+                            this.providers.add(this.source.next());
+                        } else {
+                            this.complete = true;
+                        }
+                        lastError = null;
+                    } catch (ServiceConfigurationError error) {
+                        String msg = String.valueOf(error.getMessage());
+                        if (msg.equals(lastError)) {
+                            // kein Fortschritt, zum Beispiel bei einer IOException des ClassLoaders
+                            System.err.println("Warning: Stopping service lookup (" + msg + ").");
+                            this.complete = true;
+                        } else {
+                            // der ServiceLoader-Iterator ist schon hinter dem defekten Eintrag
+                            System.err.println("Warning: Skipping service provider (" + msg + ").");
+                            lastError = msg;
+                        }
+                    }
+                }
+            }
+
+            return (index < this.providers.size());
 
         }
 
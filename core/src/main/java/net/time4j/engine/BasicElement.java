@@ -24,6 +24,7 @@ package net.time4j.engine;
 import net.time4j.base.UnixTime;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -43,6 +44,13 @@ import java.io.Serializable;
 public abstract class BasicElement<V extends Comparable<V>>
     implements ChronoElement<V>, Serializable {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // Wert vor Einführung des Index, damit die Serialisierung kompatibel bleibt
+    private static final long serialVersionUID = 4543642363711426570L;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
     //~ Instanzvariablen --------------------------------------------------
 
     /**
@@ -69,6 +77,9 @@ public abstract class BasicElement<V extends Comparable<V>>
      */
     private final int hash;
 
+    // laufende Nummer in der JVM, nach Deserialisierung 0 (= ohne Index)
+    private transient final int index;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -101,6 +112,7 @@ public abstract class BasicElement<V extends Comparable<V>>
         this.name = name;
         this.hash = name.hashCode();
         this.identity = (this.isSingleton() ? ((this.hash == -1) ? ~this.hash : this.hash) : -1);
+        this.index = SEQUENCE.incrementAndGet();
 
     }
 
@@ -418,6 +430,20 @@ public abstract class BasicElement<V extends Comparable<V>>
 
     }
 
+    /**
+     * <p>Liefert die laufende Nummer dieses Elements in der JVM. </p>
+     *
+     * <p>Dient Chronologien als Index f&uuml;r eine dichte Regeltabelle. </p>
+     *
+     * @return  positive number or {@code 0} if deserialized
+     * @since   4.19
+     */
+    final int getIndex() {
+
+        return this.index;
+
+    }
+
     /**
      * <p>Will be called by {@code equals(Object)}. </p>
      *
@@ -58,6 +58,19 @@ public class Chronology<T extends ChronoEntity<T>>
 
     private static final List<ChronoReference> CHRONOS = new CopyOnWriteArrayList<>();
     private static final ReferenceQueue<Chronology<?>> QUEUE = new ReferenceQueue<>();
+    private static final Object NOT_FOUND = new Object();
+    private static final int MAX_INDEX_SPAN = 1024;
+    private static final int MAX_DERIVED_RULES = 128;
+
+    // schneller Zugriff pro Klasse, ohne das Entladen von Klassen zu verhindern
+    private static final ClassValue<Object> REGISTRY =
+        new ClassValue<Object>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                Chronology<?> chronology = search(type);
+                return ((chronology == null) ? NOT_FOUND : chronology);
+            }
+        };
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -67,6 +80,15 @@ public class Chronology<T extends ChronoEntity<T>>
     private final List<ChronoExtension> extensions;
     private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
 
+    // dichte Regeltabelle, indiziert mit BasicElement.getIndex() - indexOffset
+    private final int indexOffset;
+    private final ChronoElement<?>[] indexedElements;
+    private final ElementRule<?, ?>[] indexedRules;
+    private final IntElementRule<?>[] indexedIntRules;
+
+    // abgeleitete Regeln (Identität des Elements als Schlüssel, copy-on-write)
+    private volatile Map<ChronoElement<?>, ElementRule<?, ?>> derivedRules;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -117,6 +139,47 @@ public class Chronology<T extends ChronoEntity<T>>
         intRules.putAll(tmpRules);
         this.intRules = intRules;
 
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+
+        for (ChronoElement<?> element : this.ruleMap.keySet()) {
+            if (element instanceof BasicElement) {
+                int index = BasicElement.class.cast(element).getIndex();
+                if (index > 0) {
+                    min = Math.min(min, index);
+                    max = Math.max(max, index);
+                }
+            }
+        }
+
+        if ((min <= max) && (max - min < MAX_INDEX_SPAN)) {
+            int size = max - min + 1;
+            this.indexOffset = min;
+            this.indexedElements = new ChronoElement<?>[size];
+            this.indexedRules = new ElementRule<?, ?>[size];
+            this.indexedIntRules = new IntElementRule<?>[size];
+
+            for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry : this.ruleMap.entrySet()) {
+                ChronoElement<?> element = entry.getKey();
+                if (element instanceof BasicElement) {
+                    int index = BasicElement.class.cast(element).getIndex();
+                    if (index > 0) {
+                        int pos = index - min;
+                        this.indexedElements[pos] = element;
+                        this.indexedRules[pos] = entry.getValue();
+                        this.indexedIntRules[pos] = intRules.get(element);
+                    }
+                }
+            }
+        } else {
+            this.indexOffset = 0;
+            this.indexedElements = new ChronoElement<?>[0];
+            this.indexedRules = new ElementRule<?, ?>[0];
+            this.indexedIntRules = new IntElementRule<?>[0];
+        }
+
+        this.derivedRules = Collections.emptyMap();
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -385,35 +448,15 @@ public class Chronology<T extends ChronoEntity<T>>
      */
     public static <T extends ChronoEntity<T>> Chronology<T> lookup(Class<T> chronoType) {
 
-        try {
-            // Initialisierung der Klasse anstoßen, wenn noch nicht erfolgt
-            Class.forName(
-                chronoType.getName(),
-                true,
-                chronoType.getClassLoader());
-        } catch (ClassNotFoundException cnfe) {
-            throw new IllegalStateException(cnfe);
-        }
-
-        Chronology<?> ret = null;
-        boolean purged = false;
-
-        for (ChronoReference cref : CHRONOS) {
-            Chronology<?> chronology = cref.get();
-
-            if (chronology == null) {
-                purged = true;
-            } else if (chronology.getChronoType() == chronoType) {
-                ret = chronology;
-                break;
-            }
-        }
+        Object value = REGISTRY.get(chronoType);
 
-        if (purged) {
-            purgeQueue();
+        if (value == NOT_FOUND) {
+            // nicht dauerhaft merken, denn die Registrierung kann noch während der Klasseninitialisierung folgen
+            REGISTRY.remove(chronoType);
+            return null;
         }
 
-        return cast(ret); // type-safe
+        return cast(value); // type-safe
 
     }
 
@@ -448,13 +491,25 @@ public class Chronology<T extends ChronoEntity<T>>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        int pos = this.getPosition(element);
+
+        if (pos >= 0) {
+            return cast(this.indexedRules[pos]); // type-safe
+        }
+
+        ElementRule<?, ?> rule = this.derivedRules.get(element);
 
         if (rule == null) {
-            rule = this.getDerivedRule(element, true);
+            rule = this.ruleMap.get(element);
 
             if (rule == null) {
-                throw new RuleNotFoundException(this, element);
+                rule = this.getDerivedRule(element, true);
+
+                if (rule == null) {
+                    throw new RuleNotFoundException(this, element);
+                }
+
+                this.cacheDerivedRule(element, rule);
             }
         }
 
@@ -471,10 +526,73 @@ public class Chronology<T extends ChronoEntity<T>>
      */
     IntElementRule<T> getIntegerRule(ChronoElement<Integer> element) {
 
+        int pos = this.getPosition(element);
+
+        if (pos >= 0) {
+            return cast(this.indexedIntRules[pos]); // type-safe
+        }
+
         return this.intRules.get(element);
 
     }
 
+    // Position in der dichten Regeltabelle oder -1
+    private int getPosition(ChronoElement<?> element) {
+
+        if (element instanceof BasicElement) {
+            int pos = BasicElement.class.cast(element).getIndex() - this.indexOffset;
+
+            if ((pos >= 0) && (pos < this.indexedElements.length) && (this.indexedElements[pos] == element)) {
+                return pos;
+            }
+        }
+
+        return -1;
+
+    }
+
+    // nur Elemente ohne Veto aus eigenen Modulen werden gemerkt, bei Überlauf beginnt der Cache neu
+    private void cacheDerivedRule(
+        ChronoElement<?> element,
+        ElementRule<?, ?> rule
+    ) {
+
+        if (!this.isOwned(element)) {
+            return;
+        }
+
+        synchronized (this.ruleMap) {
+            Map<ChronoElement<?>, ElementRule<?, ?>> old = this.derivedRules;
+
+            if (!old.containsKey(element)) {
+                Map<ChronoElement<?>, ElementRule<?, ?>> map =
+                    ((old.size() < MAX_DERIVED_RULES) ? new IdentityHashMap<>(old) : new IdentityHashMap<>());
+                map.put(element, rule);
+                this.derivedRules = map;
+            }
+        }
+
+    }
+
+    // Elemente aus fremden ClassLoadern würden sonst deren Entladen verhindern
+    private boolean isOwned(ChronoElement<?> element) {
+
+        ClassLoader loader = element.getClass().getClassLoader();
+
+        if (loader == this.chronoType.getClassLoader()) {
+            return true;
+        }
+
+        for (ChronoExtension extension : this.extensions) {
+            if (loader == extension.getClass().getClassLoader()) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
     // optional
     private ElementRule<T, ?> getDerivedRule(
         ChronoElement<?> element,
@@ -507,6 +625,41 @@ public class Chronology<T extends ChronoEntity<T>>
 
     }
 
+    // einmalige Suche pro Klasse, Ergebnis wird in REGISTRY gespeichert
+    private static Chronology<?> search(Class<?> chronoType) {
+
+        try {
+            // Initialisierung der Klasse anstoßen, wenn noch nicht erfolgt
+            Class.forName(
+                chronoType.getName(),
+                true,
+                chronoType.getClassLoader());
+        } catch (ClassNotFoundException cnfe) {
+            throw new IllegalStateException(cnfe);
+        }
+
+        Chronology<?> ret = null;
+        boolean purged = false;
+
+        for (ChronoReference cref : CHRONOS) {
+            Chronology<?> chronology = cref.get();
+
+            if (chronology == null) {
+                purged = true;
+            } else if (chronology.getChronoType() == chronoType) {
+                ret = chronology;
+                break;
+            }
+        }
+
+        if (purged) {
+            purgeQueue();
+        }
+
+        return ret;
+
+    }
+
     // vom GC behandelte Referenzen wegräumen
     private static void purgeQueue() {
 
@@ -21,6 +21,7 @@
 
 package net.time4j.format;
 
+import net.time4j.base.Instrumentation;
 import net.time4j.base.ResourceLoader;
 import net.time4j.engine.CalendarEra;
 import net.time4j.engine.ChronoElement;
@@ -39,11 +40,14 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.IsoFields;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
@@ -208,18 +212,21 @@ public final class CalendarText {
 
     private static final ConcurrentMap<String, CalendarText> CACHE = new ConcurrentHashMap<>();
 
+    private static final int TW_COUNT = TextWidth.values().length;
+    private static final int OC_COUNT = OutputContext.values().length;
+
     //~ Instanzvariablen --------------------------------------------------
 
     // Name des Provider
     private final String provider;
 
-    // Standardtexte
-    private final Map<TextWidth, Map<OutputContext, TextAccessor>> stdMonths;
-    private final Map<TextWidth, Map<OutputContext, TextAccessor>> leapMonths;
-    private final Map<TextWidth, Map<OutputContext, TextAccessor>> quarters;
-    private final Map<TextWidth, Map<OutputContext, TextAccessor>> weekdays;
-    private final Map<TextWidth, Map<OutputContext, TextAccessor>> meridiems;
-    private final Map<TextWidth, TextAccessor> eras;
+    // Standardtexte als flache Tabellen, Index = TextWidth.ordinal() * OC_COUNT + OutputContext.ordinal()
+    private final TextAccessor[] stdMonths;
+    private final TextAccessor[] leapMonths;
+    private final TextAccessor[] quarters;
+    private final TextAccessor[] weekdays;
+    private final TextAccessor[] meridiems;
+    private final TextAccessor[] eras; // Index = TextWidth.ordinal()
 
     // Allgemeine Textformen spezifisch für eine Chronologie
     private final Map<String, String> textForms;
@@ -237,80 +244,48 @@ public final class CalendarText {
 
         this.provider = p.toString();
 
-        // Monate, Quartale, Wochentage, Äras und AM/PM
-        this.stdMonths =
-            Collections.unmodifiableMap(
-                getMonths(calendarType, locale, p, false));
+        // gleiche Textformen (etwa FORMAT und STANDALONE) teilen sich eine Instanz
+        List<TextAccessor> shared = new ArrayList<>();
 
-        Map<TextWidth, Map<OutputContext, TextAccessor>> tmpLeapMonths =
-            getMonths(calendarType, locale, p, true);
+        // Monate, Quartale, Wochentage, Äras und AM/PM
+        this.stdMonths = getMonths(calendarType, locale, p, false, shared);
 
-        if (tmpLeapMonths == null) {
-            this.leapMonths = this.stdMonths;
-        } else {
-            this.leapMonths = Collections.unmodifiableMap(tmpLeapMonths);
-        }
+        TextAccessor[] tmpLeapMonths = getMonths(calendarType, locale, p, true, shared);
+        this.leapMonths = ((tmpLeapMonths == null) ? this.stdMonths : tmpLeapMonths);
 
-        Map<TextWidth, Map<OutputContext, TextAccessor>> qt =
-            new EnumMap<>(TextWidth.class);
+        TextAccessor[] qt = new TextAccessor[TW_COUNT * OC_COUNT];
         for (TextWidth tw : TextWidth.values()) {
-            Map<OutputContext, TextAccessor> qo =
-                new EnumMap<>(OutputContext.class);
             for (OutputContext oc : OutputContext.values()) {
-                qo.put(
-                    oc,
-                    new TextAccessor(
-                        p.quarters(calendarType, locale, tw, oc),
-                        locale));
+                qt[index(tw, oc)] = share(p.quarters(calendarType, locale, tw, oc), locale, shared);
             }
-            qt.put(tw, qo);
         }
 
-        this.quarters = Collections.unmodifiableMap(qt);
+        this.quarters = qt;
 
-        Map<TextWidth, Map<OutputContext, TextAccessor>> wt =
-            new EnumMap<>(TextWidth.class);
+        TextAccessor[] wt = new TextAccessor[TW_COUNT * OC_COUNT];
         for (TextWidth tw : TextWidth.values()) {
-            Map<OutputContext, TextAccessor> wo =
-                new EnumMap<>(OutputContext.class);
             for (OutputContext oc : OutputContext.values()) {
-                wo.put(
-                    oc,
-                    new TextAccessor(
-                        p.weekdays(calendarType, locale, tw, oc),
-                        locale));
+                wt[index(tw, oc)] = share(p.weekdays(calendarType, locale, tw, oc), locale, shared);
             }
-            wt.put(tw, wo);
         }
 
-        this.weekdays = Collections.unmodifiableMap(wt);
+        this.weekdays = wt;
 
-        Map<TextWidth, TextAccessor> et =
-            new EnumMap<>(TextWidth.class);
+        TextAccessor[] et = new TextAccessor[TW_COUNT];
         for (TextWidth tw : TextWidth.values()) {
-            et.put(
-                tw,
-                new TextAccessor(p.eras(calendarType, locale, tw), locale));
+            et[tw.ordinal()] = share(p.eras(calendarType, locale, tw), locale, shared);
         }
 
-        this.eras = Collections.unmodifiableMap(et);
+        this.eras = et;
 
-        Map<TextWidth, Map<OutputContext, TextAccessor>> mt =
-            new EnumMap<>(TextWidth.class);
+        TextAccessor[] mt = new TextAccessor[TW_COUNT * OC_COUNT];
         for (TextWidth tw : TextWidth.values()) {
-            Map<OutputContext, TextAccessor> mo =
-                new EnumMap<>(OutputContext.class);
             for (OutputContext oc : OutputContext.values()) {
-                mo.put(
-                    oc,
-                    new TextAccessor(
-                        p.meridiems(calendarType, locale, tw, oc),
-                        locale));
+                mt[index(tw, oc)] = share(p.meridiems(calendarType, locale, tw, oc), locale, shared);
             }
-            mt.put(tw, mo);
         }
 
-        this.meridiems = Collections.unmodifiableMap(mt);
+        this.meridiems = mt;
 
         // Allgemeine Textformen als optionales Bundle vorbereiten
         // Wichtig: Letzter Schritt im Konstruktor wg. Bundle-Cache
@@ -425,6 +400,13 @@ public final class CalendarText {
         CalendarText instance = CACHE.get(key);
 
         if (instance == null) {
+            long start = 0L;
+
+            if (Instrumentation.isEnabled()) {
+                Instrumentation.getInstance().recordCacheMiss(Instrumentation.CACHE_CALENDAR_TEXTS);
+                start = System.nanoTime();
+            }
+
             TextProvider p = null;
 
             if (locale.getLanguage().isEmpty() && calendarType.equals(ISO_CALENDAR_TYPE)) {
@@ -464,12 +446,85 @@ public final class CalendarText {
             if (old != null) {
                 instance = old;
             }
+
+            if (Instrumentation.isEnabled()) {
+                Instrumentation.getInstance().recordTime(Instrumentation.LOAD_CALENDAR_TEXT, System.nanoTime() - start);
+            }
+        } else if (Instrumentation.isEnabled()) {
+            Instrumentation.getInstance().recordCacheHit(Instrumentation.CACHE_CALENDAR_TEXTS);
         }
 
         return instance;
 
     }
 
+    /**
+     * <p>Loads and caches the calendar texts for all combinations of given calendar types and
+     * languages in parallel. </p>
+     *
+     * <p>Applications rendering many languages can call this method once during startup in order
+     * to avoid latency spikes when a combination of calendar type and language is used for the
+     * first time. The loaded texts are immutable and stored in flat tables where identical text
+     * forms (for example format and stand-alone forms) share the same instance. </p>
+     *
+     * @param   calendarTypes   names of calendar systems
+     * @param   locales         languages
+     * @return  estimated count of bytes retained by the texts of all given combinations
+     *          (assuming compressed object references)
+     * @see     #getInstance(String, Locale)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>L&auml;dt die Kalendertexte f&uuml;r alle Kombinationen der angegebenen Kalendertypen und
+     * Sprachen parallel und legt sie im Cache ab. </p>
+     *
+     * <p>Anwendungen, die viele Sprachen darstellen, k&ouml;nnen diese Methode einmal beim Start
+     * aufrufen, um Latenzspitzen bei der ersten Benutzung einer Kombination aus Kalendertyp und
+     * Sprache zu vermeiden. Die geladenen Texte sind unver&auml;nderlich und in flachen Tabellen
+     * gespeichert, in denen sich gleiche Textformen (zum Beispiel Format- und Standalone-Formen)
+     * dieselbe Instanz teilen. </p>
+     *
+     * @param   calendarTypes   names of calendar systems
+     * @param   locales         languages
+     * @return  estimated count of bytes retained by the texts of all given combinations
+     *          (assuming compressed object references)
+     * @see     #getInstance(String, Locale)
+     * @since   4.19
+     */
+    public static long preload(
+        Collection<String> calendarTypes,
+        Collection<Locale> locales
+    ) {
+
+        List<String> types = new ArrayList<>(calendarTypes);
+
+        for (String calendarType : types) {
+            if (calendarType == null) {
+                throw new NullPointerException("Missing calendar type.");
+            }
+        }
+
+        List<CalendarText> loaded = Collections.synchronizedList(new ArrayList<>());
+
+        new ArrayList<>(locales).parallelStream().forEach(
+            locale -> {
+                for (String calendarType : types) {
+                    loaded.add(getInstance(calendarType, locale));
+                }
+            }
+        );
+
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        long size = 0;
+
+        for (CalendarText ct : loaded) {
+            size += ct.estimateSize(visited);
+        }
+
+        return size;
+
+    }
+
     /**
      * <p>Yields an {@code Accessor} for all standard months. </p>
      *
@@ -592,7 +647,7 @@ public final class CalendarText {
         OutputContext outputContext
     ) {
 
-        return this.quarters.get(textWidth).get(outputContext);
+        return this.quarters[index(textWidth, outputContext)];
 
     }
 
@@ -634,7 +689,7 @@ public final class CalendarText {
         OutputContext outputContext
     ) {
 
-        return this.weekdays.get(textWidth).get(outputContext);
+        return this.weekdays[index(textWidth, outputContext)];
 
     }
 
@@ -674,7 +729,7 @@ public final class CalendarText {
      */
     public TextAccessor getEras(TextWidth textWidth) {
 
-        return this.eras.get(textWidth);
+        return this.eras[textWidth.ordinal()];
 
     }
 
@@ -738,7 +793,7 @@ public final class CalendarText {
         OutputContext outputContext
     ) {
 
-        return this.meridiems.get(textWidth).get(outputContext);
+        return this.meridiems[index(textWidth, outputContext)];
 
     }
 
@@ -1202,27 +1257,58 @@ public final class CalendarText {
         boolean leapForm
     ) {
 
-        if (leapForm) {
-            return this.leapMonths.get(textWidth).get(outputContext);
-        } else {
-            return this.stdMonths.get(textWidth).get(outputContext);
+        return (leapForm ? this.leapMonths : this.stdMonths)[index(textWidth, outputContext)];
+
+    }
+
+    private long estimateSize(Set<Object> visited) {
+
+        if (!visited.add(this)) {
+            return 0;
         }
 
+        long size = 48;
+
+        for (TextAccessor[] table : Arrays.asList(
+            this.stdMonths, this.leapMonths, this.quarters, this.weekdays, this.meridiems, this.eras)
+        ) {
+            if (visited.add(table)) {
+                size += 16 + 4 * table.length;
+
+                for (TextAccessor accessor : table) {
+                    size += accessor.estimateSize(visited);
+                }
+            }
+        }
+
+        if (visited.add(this.textForms)) {
+            size += 64 + 32 * this.textForms.size();
+
+            for (Map.Entry<String, String> entry : this.textForms.entrySet()) {
+                for (String s : Arrays.asList(entry.getKey(), entry.getValue())) {
+                    if (visited.add(s)) {
+                        size += 40 + 2 * s.length();
+                    }
+                }
+            }
+        }
+
+        return size;
+
     }
 
-    private static Map<TextWidth, Map<OutputContext, TextAccessor>> getMonths(
+    private static TextAccessor[] getMonths(
         String calendarType,
         Locale locale,
         TextProvider p,
-        boolean leapForm
+        boolean leapForm,
+        List<TextAccessor> shared
     ) {
 
-        Map<TextWidth, Map<OutputContext, TextAccessor>> mt = new EnumMap<>(TextWidth.class);
+        TextAccessor[] mt = new TextAccessor[TW_COUNT * OC_COUNT];
         boolean usesDifferentLeapForm = false;
 
         for (TextWidth tw : TextWidth.values()) {
-            Map<OutputContext, TextAccessor> mo =
-                new EnumMap<>(OutputContext.class);
             for (OutputContext oc : OutputContext.values()) {
                 String[] ls =
                     p.months(calendarType, locale, tw, oc, leapForm);
@@ -1231,15 +1317,42 @@ public final class CalendarText {
                         p.months(calendarType, locale, tw, oc, false);
                     usesDifferentLeapForm = !Arrays.equals(std, ls);
                 }
-                mo.put(oc, new TextAccessor(ls, locale));
+                mt[index(tw, oc)] = share(ls, locale, shared);
             }
-            mt.put(tw, mo);
         }
 
         return ((!leapForm || usesDifferentLeapForm) ? mt : null);
 
     }
 
+    private static TextAccessor share(
+        String[] textForms,
+        Locale locale,
+        List<TextAccessor> shared
+    ) {
+
+        TextAccessor accessor = new TextAccessor(textForms, locale);
+
+        for (TextAccessor candidate : shared) {
+            if (candidate.hasSameTextForms(accessor)) {
+                return candidate;
+            }
+        }
+
+        shared.add(accessor);
+        return accessor;
+
+    }
+
+    private static int index(
+        TextWidth textWidth,
+        OutputContext outputContext
+    ) {
+
+        return textWidth.ordinal() * OC_COUNT + outputContext.ordinal();
+
+    }
+
     private static boolean isCalendarTypeSupported(
         TextProvider p,
         String calendarType
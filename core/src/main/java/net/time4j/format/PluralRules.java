@@ -26,6 +26,7 @@ import net.time4j.base.ResourceLoader;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.time4j.format.PluralCategory.FEW;
 import static net.time4j.format.PluralCategory.ONE;
@@ -79,6 +80,13 @@ public abstract class PluralRules {
     private static final Map<String, PluralRules> CARDINAL_MAP = new ConcurrentHashMap<>();
     private static final Map<String, PluralRules> ORDINAL_MAP = new ConcurrentHashMap<>();
 
+    // schon aufgelöste Regeln je Locale, wird bei jeder Registrierung geleert
+    private static final int MAX_RESOLVED = 500;
+    private static final Map<Locale, PluralRules> RESOLVED_CARDINALS = new ConcurrentHashMap<>();
+    private static final Map<Locale, PluralRules> RESOLVED_ORDINALS = new ConcurrentHashMap<>();
+    // Generation der registrierten Regeln, schützt den Cache vor veralteten Einträgen
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -113,8 +121,15 @@ public abstract class PluralRules {
         NumberType numType
     ) {
 
+        int generation = GENERATION.get();
+        Map<Locale, PluralRules> resolved = getResolvedMap(numType);
+        PluralRules rules = resolved.get(locale);
+
+        if (rules != null) {
+            return rules;
+        }
+
         Map<String, PluralRules> map = getRuleMap(numType);
-        PluralRules rules = null;
 
         if (!map.isEmpty()) {
             if (!locale.getCountry().equals("")) {
@@ -129,6 +144,13 @@ public abstract class PluralRules {
             rules = Holder.PROVIDER.load(locale, numType);
         }
 
+        if (resolved.size() < MAX_RESOLVED) {
+            resolved.put(locale, rules);
+            if (GENERATION.get() != generation) { // parallele Registrierung, Eintrag evtl. veraltet
+                resolved.remove(locale, rules);
+            }
+        }
+
         return rules;
 
     }
@@ -162,6 +184,8 @@ public abstract class PluralRules {
         }
 
         map.put(key, rules);
+        GENERATION.incrementAndGet();
+        getResolvedMap(rules.getNumberType()).clear();
 
     }
 
@@ -209,6 +233,19 @@ public abstract class PluralRules {
 
     }
 
+    private static Map<Locale, PluralRules> getResolvedMap(NumberType numType) {
+
+        switch (numType) {
+            case CARDINALS:
+                return RESOLVED_CARDINALS;
+            case ORDINALS:
+                return RESOLVED_ORDINALS;
+            default:
+                throw new UnsupportedOperationException(numType.name());
+        }
+
+    }
+
     private static String toKey(Locale country) {
 
         StringBuilder kb = new StringBuilder();
@@ -25,8 +25,7 @@ import net.time4j.engine.AttributeQuery;
 
 import java.text.ParsePosition;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.Set;
 import java.util.Locale;
 
 
@@ -52,9 +51,12 @@ public final class TextAccessor {
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private final List<String> textForms;
+    private final String[] textForms;
     // private final Locale locale;
 
+    // lazy, bei Bedarf pro Enum-Typ erstellt
+    private volatile Compiled compiled;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -69,9 +71,9 @@ public final class TextAccessor {
     ) {
         super();
 
-        this.textForms =
-            Collections.unmodifiableList(Arrays.asList(textForms));
+        this.textForms = textForms; // flache Tabelle, wird nach der Konstruktion nie verändert
         // this.locale = locale;
+        this.compiled = null;
 
     }
 
@@ -99,10 +101,10 @@ public final class TextAccessor {
 
         int index = value.ordinal();
 
-        if (this.textForms.size() <= index) {
+        if (this.textForms.length <= index) {
             return value.name();
         } else {
-            return this.textForms.get(index);
+            return this.textForms[index];
         }
 
     }
@@ -248,7 +250,7 @@ public final class TextAccessor {
     @Override
     public String toString() {
 
-        int n = this.textForms.size();
+        int n = this.textForms.length;
         StringBuilder sb = new StringBuilder(n * 16 + 2);
         sb.append('{');
         boolean first = true;
@@ -258,7 +260,7 @@ public final class TextAccessor {
             } else {
                 sb.append(',');
             }
-            sb.append(this.textForms.get(i));
+            sb.append(this.textForms[i]);
         }
         sb.append('}');
         return sb.toString();
@@ -273,64 +275,91 @@ public final class TextAccessor {
         boolean partialCompare
     ) {
 
-        V[] enums = valueType.getEnumConstants();
-        int len = this.textForms.size();
-        int start = status.getIndex();
-        int end = parseable.length();
-
-        int maxEq = 0;
-        V candidate = null;
-
-        for (int i = 0; i < enums.length; i++) {
-            String s = ((i >= len) ? enums[i].name() : this.textForms.get(i));
-            int pos = start;
-            int n = s.length();
-            boolean eq = true;
-
-            for (int j = 0; eq && (j < n); j++) {
-                if (start + j >= end) {
-                    eq = false;
-                } else {
-                    char c = parseable.charAt(start + j);
-                    char t = s.charAt(j);
-
-                    if (caseInsensitive) {
-                        eq = (c == t) || this.compareIgnoreCase(c, t);
-                    } else {
-                        eq = (c == t);
-                    }
+        Compiled c = this.compiled;
 
-                    if (eq) {
-                        pos++;
-                    }
-                }
-            }
+        if ((c == null) || (c.valueType != valueType)) {
+            c = new Compiled(valueType, this.textForms);
+            this.compiled = c;
+        }
 
-            if (partialCompare || (n == 1)) {
-                if (maxEq < pos - start) {
-                    maxEq = pos - start;
-                    candidate = enums[i];
-                } else if (maxEq == pos - start) {
-                    candidate = null;
-                }
-            } else if (eq) {
-                assert pos == start + n;
-                status.setIndex(pos);
-                return enums[i];
+        int start = status.getIndex();
+        Search search = new Search(parseable, start, caseInsensitive);
+        search.walk(c.root, 0);
+
+        // entspricht dem zeichenweisen Vergleich aller Textformen in Enum-Reihenfolge:
+        // entweder der längste eindeutige Präfix oder die erste vollständig passende Textform
+        // (mit Ausnahme von einbuchstabigen Textformen, die eindeutig sein müssen)
+        int index = -1;
+        int matched = 0;
+
+        if (partialCompare) {
+            if ((search.maxDepth > 0) && (search.maxCount == 1)) {
+                index = search.maxForm;
+                matched = search.maxDepth;
             }
+        } else if (search.exactForm >= 0) {
+            index = search.exactForm;
+            matched = c.lengths[index];
+        } else if (search.oneCount == 1) {
+            index = search.oneForm;
+            matched = 1;
         }
 
-        if (candidate == null) {
+        if (index == -1) {
             status.setErrorIndex(start);
+            return null;
         } else {
-            status.setIndex(start + maxEq);
+            status.setIndex(start + matched);
+            return valueType.cast(c.enums[index]);
         }
 
-        return candidate;
+    }
+
+    /**
+     * <p>Hat dieses Objekt die gleichen Textformen wie das angegebene Objekt? </p>
+     *
+     * @param   other   another text accessor
+     * @return  boolean
+     */
+    boolean hasSameTextForms(TextAccessor other) {
+
+        return Arrays.equals(this.textForms, other.textForms);
 
     }
 
-    private boolean compareIgnoreCase(char c1, char c2) {
+    /**
+     * <p>Sch&auml;tzt den belegten Speicher in Bytes ab (komprimierte Objektreferenzen und
+     * UTF-16-Zeichen vorausgesetzt). </p>
+     *
+     * <p>Schon besuchte Objekte werden nicht mehr gez&auml;hlt. Der vorkompilierte Pr&auml;fixbaum
+     * f&uuml;r das Parsen wird ignoriert, weil er erst bei Bedarf entsteht. </p>
+     *
+     * @param   visited     identity set of already counted objects
+     * @return  estimated count of bytes
+     */
+    long estimateSize(Set<Object> visited) {
+
+        if (!visited.add(this)) {
+            return 0;
+        }
+
+        long size = 16;
+
+        if (visited.add(this.textForms)) {
+            size += 16 + 4 * this.textForms.length;
+
+            for (String s : this.textForms) {
+                if ((s != null) && visited.add(s)) {
+                    size += 40 + 2 * s.length();
+                }
+            }
+        }
+
+        return size;
+
+    }
+
+    private static boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
             if (c2 >= 'A' && c2 <= 'Z') {
@@ -356,4 +385,176 @@ public final class TextAccessor {
 //        return s1.equals(s2);
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // vorkompilierte Textformen als Präfixbaum
+    private static class Compiled {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Class<?> valueType;
+        private final Enum<?>[] enums;
+        private final int[] lengths;
+        private final Node root;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Compiled(
+            Class<? extends Enum<?>> valueType,
+            String[] textForms
+        ) {
+            super();
+
+            this.valueType = valueType;
+            this.enums = valueType.getEnumConstants(); // einmaliger Klon
+            this.lengths = new int[this.enums.length];
+            this.root = new Node();
+
+            int len = textForms.length;
+
+            for (int i = 0; i < this.enums.length; i++) {
+                String s = ((i >= len) ? this.enums[i].name() : textForms[i]);
+                this.lengths[i] = s.length();
+                this.root.insert(s, 0, i);
+            }
+
+        }
+
+    }
+
+    private static class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+
+        private int count = 0; // Anzahl der Textformen in diesem Teilbaum
+        private int single = -1; // Index der Textform, falls count == 1
+        private int exact = -1; // kleinster Index einer hier endenden Textform mit Länge != 1
+        private int oneCount = 0; // Anzahl der hier endenden Textformen mit Länge 1
+        private int oneForm = -1;
+
+        //~ Methoden ------------------------------------------------------
+
+        void insert(
+            String s,
+            int depth,
+            int form
+        ) {
+
+            this.count++;
+            this.single = ((this.count == 1) ? form : -1);
+
+            if (depth == s.length()) {
+                if (depth == 1) {
+                    this.oneCount++;
+                    this.oneForm = form;
+                } else if (this.exact == -1) {
+                    this.exact = form;
+                }
+                return;
+            }
+
+            char c = s.charAt(depth);
+            Node child = null;
+
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] == c) {
+                    child = this.children[i];
+                    break;
+                }
+            }
+
+            if (child == null) {
+                int n = this.keys.length;
+                this.keys = Arrays.copyOf(this.keys, n + 1);
+                this.children = Arrays.copyOf(this.children, n + 1);
+                this.keys[n] = c;
+                child = new Node();
+                this.children[n] = child;
+            }
+
+            child.insert(s, depth + 1, form);
+
+        }
+
+    }
+
+    private static class Search {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharSequence parseable;
+        private final int start;
+        private final int end;
+        private final boolean caseInsensitive;
+
+        private int maxDepth = 0;
+        private int maxCount = 0;
+        private int maxForm = -1;
+        private int exactForm = -1;
+        private int oneCount = 0;
+        private int oneForm = -1;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Search(
+            CharSequence parseable,
+            int start,
+            boolean caseInsensitive
+        ) {
+            super();
+
+            this.parseable = parseable;
+            this.start = start;
+            this.end = parseable.length();
+            this.caseInsensitive = caseInsensitive;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // ohne Berücksichtigung der Groß- und Kleinschreibung können mehrere Äste passen
+        void walk(
+            Node node,
+            int depth
+        ) {
+
+            if ((node.exact >= 0) && ((this.exactForm == -1) || (node.exact < this.exactForm))) {
+                this.exactForm = node.exact;
+            }
+
+            if (node.oneCount > 0) {
+                this.oneCount += node.oneCount;
+                this.oneForm = node.oneForm;
+            }
+
+            if (depth > this.maxDepth) {
+                this.maxDepth = depth;
+                this.maxCount = node.count;
+                this.maxForm = node.single;
+            } else if (depth == this.maxDepth) {
+                this.maxCount += node.count;
+                this.maxForm = node.single;
+            }
+
+            int pos = this.start + depth;
+
+            if (pos < this.end) {
+                char c = this.parseable.charAt(pos);
+
+                for (int i = 0; i < node.keys.length; i++) {
+                    char t = node.keys[i];
+
+                    if ((c == t) || (this.caseInsensitive && compareIgnoreCase(c, t))) {
+                        this.walk(node.children[i], depth + 1);
+                    }
+                }
+            }
+
+        }
+
+    }
+
 }
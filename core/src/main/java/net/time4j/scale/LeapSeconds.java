@@ -23,6 +23,7 @@ package net.time4j.scale;
 
 import net.time4j.base.GregorianDate;
 import net.time4j.base.GregorianMath;
+import net.time4j.base.Instrumentation;
 import net.time4j.base.ResourceLoader;
 
 import java.io.Serializable;
@@ -190,6 +191,7 @@ public final class LeapSeconds
     private LeapSeconds() {
         super();
 
+        long start = (Instrumentation.isEnabled() ? System.nanoTime() : 0L);
         LeapSecondProvider loaded = null;
         int leapCount = 0;
 
@@ -264,6 +266,10 @@ public final class LeapSeconds
             }
         }
 
+        if (Instrumentation.isEnabled()) {
+            Instrumentation.getInstance().recordTime(Instrumentation.LOAD_LEAP_SECONDS, System.nanoTime() - start);
+        }
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -22,6 +22,7 @@
 package net.time4j.tz;
 
 import net.time4j.base.GregorianDate;
+import net.time4j.base.Instrumentation;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
@@ -1289,11 +1290,19 @@ public abstract class Timezone
             tz = sref.get();
             if (tz == null) {
                 CACHE.remove(sref.tzid);
+                if (Instrumentation.isEnabled()) {
+                    Instrumentation.getInstance().recordCacheEviction(Instrumentation.CACHE_TIMEZONES);
+                }
             }
         }
 
         if (tz != null) {
+            if (Instrumentation.isEnabled()) {
+                Instrumentation.getInstance().recordCacheHit(Instrumentation.CACHE_TIMEZONES);
+            }
             return tz;
+        } else if (Instrumentation.isEnabled() && cacheActive) {
+            Instrumentation.getInstance().recordCacheMiss(Instrumentation.CACHE_TIMEZONES);
         }
 
         // ZoneModelProvider auflösen
@@ -1356,6 +1365,8 @@ public abstract class Timezone
             }
         }
 
+        long start = (Instrumentation.isEnabled() ? System.nanoTime() : 0L);
+
         // java.util.TimeZone hat keine öffentliche Historie
         if (provider == PLATFORM_PROVIDER) {
             PlatformTimezone test = new PlatformTimezone(resolved, zoneKey);
@@ -1380,6 +1391,10 @@ public abstract class Timezone
             }
         }
 
+        if (Instrumentation.isEnabled()) {
+            Instrumentation.getInstance().recordTime(Instrumentation.LOAD_TIMEZONE, System.nanoTime() - start);
+        }
+
         // Ungültige ID?
         if (tz == null) {
             if (wantsException) {
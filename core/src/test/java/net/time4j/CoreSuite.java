@@ -23,6 +23,7 @@ import org.junit.runners.Suite.SuiteClasses;
         MinMaxTest.class,
         NumberSuite.class,
         OperatorSuite.class,
+        RuleTableTest.class,
         ScaleSuite.class,
         SerializationTest.class,
         SystemClockTest.class,
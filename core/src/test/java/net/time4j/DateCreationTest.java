@@ -264,6 +264,13 @@ public class DateCreationTest {
         assertThat(EpochDays.UTC.getDefaultMaximum(), is(max));
     }
 
+    @Test
+    public void lookupChronology() {
+        assertThat(Chronology.lookup(PlainDate.class) == PlainDate.axis(), is(true));
+        assertThat(Chronology.lookup(PlainDate.class) == PlainDate.axis(), is(true));
+        assertThat(Chronology.lookup(PlainTime.class) == PlainTime.axis(), is(true));
+    }
+
     @Test
     public void ofEpochDays3() {
         long min =
@@ -0,0 +1,110 @@
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DurationBatchTest {
+
+    @Test
+    public void inYearsMonthsDaysExample() {
+        long[] start = {PlainDate.of(2016, 1, 31).get(EpochDays.UTC)};
+        long[] end = {PlainDate.of(2017, 3, 1).get(EpochDays.UTC)};
+        assertThat(
+            DurationBatch.inYearsMonthsDays(start, end, EpochDays.UTC),
+            is(new long[] {1, 1, 1}));
+        assertThat(
+            DurationBatch.inYearsMonthsDays(end, start, EpochDays.UTC),
+            is(new long[] {-1, -1, -1}));
+    }
+
+    @Test
+    public void inYearsMonthsDaysConformsToMetric() {
+        Random random = new Random(4711);
+        int n = 20000; // also parallel
+        long[] start = new long[n];
+        long[] end = new long[n];
+        PlainDate[] d1 = new PlainDate[n];
+        PlainDate[] d2 = new PlainDate[n];
+
+        for (int i = 0; i < n; i++) {
+            d1[i] = PlainDate.of(random.nextInt(200000) - 100000, EpochDays.MODIFIED_JULIAN_DATE);
+            d2[i] = d1[i].plus(random.nextInt(4000) - 2000, CalendarUnit.DAYS);
+            start[i] = d1[i].get(EpochDays.MODIFIED_JULIAN_DATE);
+            end[i] = d2[i].get(EpochDays.MODIFIED_JULIAN_DATE);
+        }
+
+        long[] result = DurationBatch.inYearsMonthsDays(start, end, EpochDays.MODIFIED_JULIAN_DATE);
+        assertThat(result.length, is(n * DurationBatch.CALENDAR_STRIDE));
+
+        for (int i = 0; i < n; i++) {
+            Duration<CalendarUnit> expected = Duration.inYearsMonthsDays().between(d1[i], d2[i]);
+            int sign = (expected.isNegative() ? -1 : 1);
+            int offset = i * DurationBatch.CALENDAR_STRIDE;
+            assertThat(result[offset], is(sign * expected.getPartialAmount(CalendarUnit.YEARS)));
+            assertThat(result[offset + 1], is(sign * expected.getPartialAmount(CalendarUnit.MONTHS)));
+            assertThat(result[offset + 2], is(sign * expected.getPartialAmount(CalendarUnit.DAYS)));
+        }
+    }
+
+    @Test
+    public void inClockUnitsConformsToMetric() {
+        Random random = new Random(1234);
+        int n = 10000;
+        long[] startSecs = new long[n];
+        int[] startNanos = new int[n];
+        long[] endSecs = new long[n];
+        int[] endNanos = new int[n];
+        PlainTimestamp[] t1 = new PlainTimestamp[n];
+        PlainTimestamp[] t2 = new PlainTimestamp[n];
+        PlainTimestamp epoch = PlainTimestamp.of(1970, 1, 1, 0, 0);
+
+        for (int i = 0; i < n; i++) {
+            startSecs[i] = random.nextInt(2000000000);
+            endSecs[i] = startSecs[i] + random.nextInt(1000000) - 500000;
+            startNanos[i] = random.nextInt(1000000000);
+            endNanos[i] = ((i % 3 == 0) ? startNanos[i] : random.nextInt(1000000000));
+            t1[i] = epoch.plus(startSecs[i], ClockUnit.SECONDS).plus(startNanos[i], ClockUnit.NANOS);
+            t2[i] = epoch.plus(endSecs[i], ClockUnit.SECONDS).plus(endNanos[i], ClockUnit.NANOS);
+        }
+
+        long[] result = DurationBatch.inClockUnits(startSecs, startNanos, endSecs, endNanos);
+
+        for (int i = 0; i < n; i++) {
+            Duration<ClockUnit> expected = Duration.inClockUnits().between(t1[i], t2[i]);
+            int sign = (expected.isNegative() ? -1 : 1);
+            int offset = i * DurationBatch.CLOCK_STRIDE;
+            assertThat(result[offset], is(sign * expected.getPartialAmount(ClockUnit.HOURS)));
+            assertThat(result[offset + 1], is(sign * expected.getPartialAmount(ClockUnit.MINUTES)));
+            assertThat(result[offset + 2], is(sign * expected.getPartialAmount(ClockUnit.SECONDS)));
+            assertThat(result[offset + 3], is(sign * expected.getPartialAmount(ClockUnit.NANOS)));
+        }
+    }
+
+    @Test
+    public void inClockUnitsWithoutNanos() {
+        assertThat(
+            DurationBatch.inClockUnits(new long[] {0L, 3723L}, new long[] {3723L, 0L}),
+            is(new long[] {1, 2, 3, 0, -1, -2, -3, 0}));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void differentLengths() {
+        DurationBatch.inYearsMonthsDays(new long[1], new long[2], EpochDays.UTC);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanoOutOfRange() {
+        DurationBatch.inClockUnits(new long[1], new int[] {1000000000}, new long[1], null);
+    }
+
+}
@@ -0,0 +1,263 @@
+package net.time4j;
+
+import net.time4j.base.TimeSource;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.BasicElement;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.ChronoMerger;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.ElementRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class RuleTableTest {
+
+    @Test
+    public void denseTableOfPlainDate() throws Exception {
+        checkDenseTable(PlainDate.axis());
+    }
+
+    @Test
+    public void denseTableOfPlainTimestamp() throws Exception {
+        checkDenseTable(PlainTimestamp.axis());
+    }
+
+    @Test
+    public void wideIndexSpanFallsBackToRuleMap() throws Exception {
+        assertThat(getTable(Probe.CHRONO).length, is(0));
+        Probe probe = new Probe();
+        assertThat(probe.get(Probe.FIRST), is(1));
+        assertThat(probe.get(Probe.LAST), is(2));
+        assertThat(probe.with(Probe.LAST, 5).get(Probe.LAST), is(5));
+    }
+
+    @Test
+    public void derivedRulesAfterOverflow() throws Exception {
+        PlainDate date = PlainDate.of(2014, 4, 21);
+        ChronoElement<Integer> woy = null;
+        for (int i = 0; i < 200; i++) {
+            woy = Weekmodel.of(Weekday.SUNDAY, 1).weekOfYear(); // new model and element every time
+            assertThat(date.get(woy), is(17));
+        }
+        assertThat(getDerivedRules(PlainDate.axis()).containsKey(woy), is(true));
+        assertThat(getDerivedRules(PlainDate.axis()).size() <= 128, is(true));
+    }
+
+    private static void checkDenseTable(Chronology<?> chronology) throws Exception {
+        ChronoElement<?>[] table = getTable(chronology);
+        int offset = getField(chronology, "indexOffset", Integer.class);
+        int indexed = 0;
+        for (ChronoElement<?> element : chronology.getRegisteredElements()) {
+            if (element instanceof BasicElement) {
+                int index = getIndex(element);
+                if (index > 0) {
+                    assertThat(table[index - offset] == element, is(true));
+                    indexed++;
+                }
+            }
+        }
+        int filled = 0;
+        for (ChronoElement<?> element : table) {
+            if (element != null) {
+                filled++;
+            }
+        }
+        assertThat(table.length > 0, is(true));
+        assertThat(table.length <= 1024, is(true));
+        assertThat(filled, is(indexed));
+        assertThat(table[getIndex(PlainDate.YEAR) - offset] == PlainDate.YEAR, is(true));
+    }
+
+    private static ChronoElement<?>[] getTable(Chronology<?> chronology) throws Exception {
+        return getField(chronology, "indexedElements", ChronoElement[].class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ChronoElement<?>, ?> getDerivedRules(Chronology<?> chronology) throws Exception {
+        return getField(chronology, "derivedRules", Map.class);
+    }
+
+    private static <V> V getField(
+        Chronology<?> chronology,
+        String name,
+        Class<V> type
+    ) throws Exception {
+        Field field = Chronology.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return type.cast(field.get(chronology));
+    }
+
+    private static int getIndex(ChronoElement<?> element) throws Exception {
+        Method method = BasicElement.class.getDeclaredMethod("getIndex");
+        method.setAccessible(true);
+        return (Integer) method.invoke(element);
+    }
+
+    private static class Probe
+        extends ChronoEntity<Probe> {
+
+        static final ProbeElement FIRST = new ProbeElement("FIRST");
+        static final ProbeElement LAST;
+        static final Chronology<Probe> CHRONO;
+
+        static {
+            for (int i = 0; i < 1024; i++) {
+                new ProbeElement("FILLER"); // widens the index span
+            }
+            LAST = new ProbeElement("LAST");
+            CHRONO =
+                Chronology.Builder.setUp(Probe.class, new ProbeMerger())
+                    .appendElement(FIRST, new ProbeRule(true))
+                    .appendElement(LAST, new ProbeRule(false))
+                    .build();
+        }
+
+        private final int first;
+        private final int last;
+
+        Probe() {
+            this(1, 2);
+        }
+
+        private Probe(
+            int first,
+            int last
+        ) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected Chronology<Probe> getChronology() {
+            return CHRONO;
+        }
+
+        @Override
+        protected Probe getContext() {
+            return this;
+        }
+
+    }
+
+    private static class ProbeElement
+        extends BasicElement<Integer> {
+
+        ProbeElement(String name) {
+            super(name);
+        }
+
+        @Override
+        public Class<Integer> getType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer getDefaultMinimum() {
+            return 0;
+        }
+
+        @Override
+        public Integer getDefaultMaximum() {
+            return 9;
+        }
+
+        @Override
+        public boolean isDateElement() {
+            return false;
+        }
+
+        @Override
+        public boolean isTimeElement() {
+            return false;
+        }
+
+    }
+
+    private static class ProbeRule
+        implements ElementRule<Probe, Integer> {
+
+        private final boolean first;
+
+        ProbeRule(boolean first) {
+            this.first = first;
+        }
+
+        @Override
+        public Integer getValue(Probe context) {
+            return (this.first ? context.first : context.last);
+        }
+
+        @Override
+        public Integer getMinimum(Probe context) {
+            return 0;
+        }
+
+        @Override
+        public Integer getMaximum(Probe context) {
+            return 9;
+        }
+
+        @Override
+        public boolean isValid(
+            Probe context,
+            Integer value
+        ) {
+            return (value != null) && (value >= 0) && (value <= 9);
+        }
+
+        @Override
+        public Probe withValue(
+            Probe context,
+            Integer value,
+            boolean lenient
+        ) {
+            return (this.first ? new Probe(value, context.last) : new Probe(context.first, value));
+        }
+
+        @Override
+        public ChronoElement<?> getChildAtFloor(Probe context) {
+            return null;
+        }
+
+        @Override
+        public ChronoElement<?> getChildAtCeiling(Probe context) {
+            return null;
+        }
+
+    }
+
+    private static class ProbeMerger
+        implements ChronoMerger<Probe> {
+
+        @Override
+        public Probe createFrom(
+            TimeSource<?> clock,
+            AttributeQuery attributes
+        ) {
+            return null;
+        }
+
+        @Override
+        @Deprecated
+        public Probe createFrom(
+            ChronoEntity<?> entity,
+            AttributeQuery attributes,
+            boolean preparsing
+        ) {
+            return null;
+        }
+
+    }
+
+}
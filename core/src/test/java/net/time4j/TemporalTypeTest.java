@@ -5,6 +5,7 @@ import net.time4j.engine.ChronoException;
 import net.time4j.scale.LeapSeconds;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -373,4 +374,63 @@ public class TemporalTypeTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void zonedDateTimeRoundTrip() {
+        Instant instant = Instant.ofEpochSecond(1459040400L, 123456789); // 2016-03-27T01:00:00.123456789Z
+        ZoneId[] zones = {
+            ZoneId.of("Europe/Berlin"),
+            ZoneId.of("America/New_York"),
+            ZoneOffset.UTC,
+            ZoneOffset.ofHoursMinutesSeconds(5, 30, 15),
+            ZoneOffset.ofHours(-8)
+        };
+        for (ZoneId zone : zones) {
+            ZonedDateTime zdt = ZonedDateTime.ofInstant(instant, zone);
+            ZonalDateTime result = TemporalType.ZONED_DATE_TIME.translate(zdt);
+            assertThat(result.toMoment(), is(TemporalType.INSTANT.translate(instant)));
+            assertThat(result.toTimestamp(), is(TemporalType.LOCAL_DATE_TIME.translate(zdt.toLocalDateTime())));
+            ZonedDateTime back = TemporalType.ZONED_DATE_TIME.from(result);
+            assertThat(back.toInstant(), is(instant));
+            assertThat(back.getOffset(), is(zdt.getOffset()));
+        }
+        ZonalDateTime fixed = TemporalType.ZONED_DATE_TIME.translate(ZonedDateTime.ofInstant(instant, zones[3]));
+        assertThat(fixed.getTimezone(), is(ZonalOffset.ofTotalSeconds(5 * 3600 + 30 * 60 + 15)));
+        assertThat(TemporalType.ZONED_DATE_TIME.from(fixed).getZone(), is(ZoneId.of("UTC+05:30:15")));
+        ZonalDateTime berlin = TemporalType.ZONED_DATE_TIME.translate(ZonedDateTime.ofInstant(instant, zones[0]));
+        assertThat(berlin.getTimezone().canonical(), is("Europe/Berlin"));
+        assertThat(TemporalType.ZONED_DATE_TIME.from(berlin).getZone(), is(zones[0]));
+    }
+
+    @Test
+    public void bulkTranslation() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        ZonedDateTime[] sources = new ZonedDateTime[5];
+        for (int i = 0; i < 4; i++) {
+            ZoneId zone = ((i < 3) ? berlin : ZoneOffset.UTC);
+            sources[i] = ZonedDateTime.ofInstant(Instant.ofEpochSecond(1459040400L + i * 1800), zone);
+        }
+        ZonalDateTime[] targets = new ZonalDateTime[5];
+        TemporalType.ZONED_DATE_TIME.translate(sources, targets);
+        for (int i = 0; i < 4; i++) {
+            assertThat(targets[i].toMoment(), is(TemporalType.ZONED_DATE_TIME.translate(sources[i]).toMoment()));
+            assertThat(targets[i].getTimezone(), is(TemporalType.ZONED_DATE_TIME.translate(sources[i]).getTimezone()));
+        }
+        assertThat(targets[4] == null, is(true));
+
+        PlainDate[] dates = {PlainDate.of(2016, 2, 29), null, PlainDate.of(-999999999, 1, 1)};
+        LocalDate[] local = new LocalDate[3];
+        TemporalType.LOCAL_DATE.from(dates, local);
+        assertThat(
+            Arrays.asList(local),
+            is(Arrays.asList(LocalDate.of(2016, 2, 29), null, LocalDate.of(-999999999, 1, 1))));
+        PlainDate[] copy = new PlainDate[4];
+        TemporalType.LOCAL_DATE.translate(local, copy);
+        assertThat(Arrays.asList(copy).subList(0, 3), is(Arrays.asList(dates)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkTranslationWithShortTarget() {
+        TemporalType.INSTANT.translate(new Instant[2], new Moment[1]);
+    }
+
+}
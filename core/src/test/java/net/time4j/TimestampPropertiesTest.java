@@ -1,6 +1,7 @@
 package net.time4j;
 
 import net.time4j.base.GregorianMath;
+import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 import net.time4j.engine.Chronology;
 
@@ -28,6 +29,25 @@ public class TimestampPropertiesTest {
             is(true));
     }
 
+    @Test
+    public void registeredElementsOfDateAndTime() {
+        PlainDate date = PlainDate.of(2014, 4, 21);
+        PlainTime time = PlainTime.of(19, 45, 30, 123456789);
+        PlainTimestamp tsp = PlainTimestamp.of(date, time);
+
+        for (ChronoElement<?> element : PlainTimestamp.axis().getRegisteredElements()) {
+            if (PlainDate.axis().isRegistered(element)) {
+                assertThat(tsp.get(element), is((Object) date.get(element)));
+            } else if ((element != PlainTime.PRECISION) && PlainTime.axis().isRegistered(element)) {
+                assertThat(tsp.get(element), is((Object) time.get(element)));
+            }
+        }
+
+        Weekmodel model = Weekmodel.of(Weekday.SUNDAY, 1);
+        assertThat(tsp.get(model.weekOfYear()), is(date.get(model.weekOfYear())));
+        assertThat(tsp.get(model.weekOfYear()), is(17)); // cached derived rule
+    }
+
     @Test
     public void toStringISO() {
         PlainDate date = PlainDate.of(2014, 4, 21);
@@ -1,6 +1,7 @@
 package net.time4j;
 
 import net.time4j.engine.ChronoElement;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.NumericalElement;
 
 import java.util.Locale;
@@ -1145,4 +1146,58 @@ public class WeekmodelTest {
             is(PlainDate.of(2014, 4, 21)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void weekTableISO() {
+        WeekTable table = Weekmodel.ISO.tabulate(1995, 2005);
+        assertThat(table.getMinYear(), is(1995));
+        assertThat(table.getMaxYear(), is(2005));
+        assertThat(table.getStartOfFirstWeek(2013), is(PlainDate.of(2012, 12, 31)));
+        assertThat(table.getStartOfFirstWeek(2000), is(PlainDate.of(2000, 1, 3)));
+
+        PlainDate start = PlainDate.of(1990, 1, 1);
+        PlainDate end = PlainDate.of(2010, 12, 31);
+        for (PlainDate date = start; !date.isAfter(end); date = date.plus(1, CalendarUnit.DAYS)) {
+            assertThat(table.getWeekOfYear(date), is(date.get(Weekmodel.ISO.weekOfYear())));
+            assertThat(table.getYearOfWeekdate(date), is(date.get(PlainDate.YEAR_OF_WEEKDATE)));
+        }
+    }
+
+    @Test
+    public void weekTableAllModels() {
+        for (Weekday firstDayOfWeek : Weekday.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                Weekmodel model = Weekmodel.of(firstDayOfWeek, minDays);
+                WeekTable table = model.tabulate(2000, 2004);
+                long first = PlainDate.of(1998, 12, 1).get(EpochDays.UNIX);
+                long[] days = new long[365 * 8];
+                for (int i = 0; i < days.length; i++) {
+                    days[i] = first + i;
+                }
+                int[] weeks = new int[days.length];
+                int[] years = new int[days.length];
+                table.compute(days, EpochDays.UNIX, weeks, years);
+
+                for (int i = 0; i < days.length; i++) {
+                    PlainDate date = PlainDate.of(days[i], EpochDays.UNIX);
+                    int week = date.get(model.weekOfYear());
+                    int year = date.getYear();
+                    if ((week == 1) && (date.getMonth() == 12)) {
+                        year++;
+                    } else if ((week >= 52) && (date.getMonth() == 1)) {
+                        year--;
+                    }
+                    assertThat(weeks[i], is(week));
+                    assertThat(years[i], is(year));
+                    assertThat(table.getWeekOfYear(date), is(week));
+                    assertThat(table.getYearOfWeekdate(date), is(year));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void weekTableInvalidRange() {
+        Weekmodel.ISO.tabulate(2010, 2009);
+    }
+
+}
@@ -9,6 +9,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         EthiopicNumberTest.class,
+        TextAccessorTest.class,
         RomanNumberTestForModernUsage.class,
         RomanNumberTestForOtherFormats.class
     }
@@ -0,0 +1,216 @@
+package net.time4j.format;
+
+import net.time4j.Meridiem;
+import net.time4j.Month;
+import net.time4j.Quarter;
+import net.time4j.Weekday;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    @Test
+    public void parseCaseInsensitive() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(2);
+        assertThat(accessor.parse("xxmaRCH 2016", pp, Month.class), is(Month.MARCH));
+        assertThat(pp.getIndex(), is(7));
+    }
+
+    @Test
+    public void parseStrict() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("march", pp, Month.class, Leniency.STRICT), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+    }
+
+    @Test
+    public void parsePartialCompare() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("Sept.", pp, Month.class, Leniency.LAX), is(Month.SEPTEMBER));
+        assertThat(pp.getIndex(), is(4));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Ju", pp, Month.class, Leniency.LAX), nullValue()); // ambivalent
+        assertThat(pp.getErrorIndex(), is(0));
+    }
+
+    @Test
+    public void conformsToLinearSearch() {
+        Random random = new Random(2016);
+        Locale[] locales = {
+            Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("ru"), new Locale("tr"), new Locale("el"),
+            new Locale("ar"), Locale.JAPANESE, new Locale("fi"), new Locale("pl")
+        };
+
+        for (Locale locale : locales) {
+            CalendarText ct = CalendarText.getIsoInstance(locale);
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    check(ct.getStdMonths(tw, oc), Month.class, random);
+                    check(ct.getWeekdays(tw, oc), Weekday.class, random);
+                    check(ct.getQuarters(tw, oc), Quarter.class, random);
+                    check(ct.getMeridiems(tw, oc), Meridiem.class, random);
+                }
+            }
+        }
+    }
+
+    private static <V extends Enum<V>> void check(
+        TextAccessor accessor,
+        Class<V> type,
+        Random random
+    ) {
+        List<String> forms = new ArrayList<>();
+
+        for (V value : type.getEnumConstants()) {
+            forms.add(accessor.print(value));
+        }
+
+        for (int k = 0; k < 100; k++) {
+            String form = forms.get(random.nextInt(forms.size()));
+            StringBuilder sb = new StringBuilder();
+            if (random.nextBoolean()) {
+                sb.append("x");
+            }
+            int start = sb.length();
+            int cut = random.nextInt(form.length() + 1);
+            for (int i = 0; i < form.length(); i++) {
+                char c = form.charAt(i);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        c = Character.toUpperCase(c);
+                        break;
+                    case 1:
+                        c = Character.toLowerCase(c);
+                        break;
+                    default:
+                        break;
+                }
+                sb.append(c);
+            }
+            if (random.nextInt(3) == 0) {
+                sb.setLength(start + cut);
+            }
+            if (random.nextBoolean()) {
+                sb.append(random.nextBoolean() ? " " : ".");
+            }
+            String text = sb.toString();
+
+            for (int mode = 0; mode < 4; mode++) {
+                boolean caseInsensitive = ((mode & 1) == 0);
+                boolean partialCompare = ((mode & 2) != 0);
+                ParsePosition expectedPos = new ParsePosition(start);
+                V expected = linearSearch(forms, text, expectedPos, type, caseInsensitive, partialCompare);
+                ParsePosition pp = new ParsePosition(start);
+                V result =
+                    accessor.parse(
+                        text,
+                        pp,
+                        type,
+                        new Attributes.Builder()
+                            .set(Attributes.PARSE_CASE_INSENSITIVE, caseInsensitive)
+                            .set(Attributes.PARSE_PARTIAL_COMPARE, partialCompare)
+                            .build());
+                assertThat(text + "/" + mode, result, is(expected));
+                assertThat(text + "/" + mode, pp.getIndex(), is(expectedPos.getIndex()));
+                assertThat(text + "/" + mode, pp.getErrorIndex(), is(expectedPos.getErrorIndex()));
+            }
+        }
+    }
+
+    // previous implementation as reference
+    private static <V extends Enum<V>> V linearSearch(
+        List<String> forms,
+        CharSequence parseable,
+        ParsePosition status,
+        Class<V> valueType,
+        boolean caseInsensitive,
+        boolean partialCompare
+    ) {
+        V[] enums = valueType.getEnumConstants();
+        int start = status.getIndex();
+        int end = parseable.length();
+        int maxEq = 0;
+        V candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            String s = forms.get(i);
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    if (caseInsensitive) {
+                        eq = (c == t) || compareIgnoreCase(c, t);
+                    } else {
+                        eq = (c == t);
+                    }
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+
+            if (partialCompare || (n == 1)) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+
+        return candidate;
+    }
+
+    private static boolean compareIgnoreCase(char c1, char c2) {
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+            || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+    }
+
+}
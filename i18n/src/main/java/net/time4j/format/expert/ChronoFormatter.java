@@ -28,6 +28,7 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.base.Instrumentation;
 import net.time4j.base.TimeSource;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.AttributeKey;
@@ -81,6 +82,7 @@ import java.text.ParsePosition;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
@@ -91,7 +93,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
 
@@ -135,6 +141,10 @@ import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 public final class ChronoFormatter<T extends ChronoEntity<T>>
     implements ChronoPrinter<T>, ChronoParser<T>, TemporalFormatter<T> {
 
+    // Schachtelungstiefe von instrumentierten Parse- und Ausgabevorgängen im aktuellen Thread
+    private static final ThreadLocal<int[]> PARSE_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<int[]> PRINT_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final Chronology<T> chronology;
@@ -151,7 +161,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     private final int countOfElements;
     private final Leniency leniency;
     private final boolean indexable;
+    private final ConsistencyPlan consistencyPlan; // null, wenn die Konsistenzprüfung allgemein erfolgen muß
     private final boolean trailing;
+    private final SpecializedFormat<T> specialized;
+    private final Timezone boundZone;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -230,7 +243,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         }
 
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
+        this.specialized = null;
+        this.boundZone = null;
         this.steps = this.freeze(steps);
+        this.consistencyPlan = ConsistencyPlan.of(chronology, this.steps, this.defaults, ix);
 
     }
 
@@ -257,6 +273,17 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         ChronoFormatter<T> old,
         AttributeSet globalAttributes,
         ChronoHistory history
+    ) {
+        this(old, globalAttributes, history, null);
+
+    }
+
+    // Aufruf durch with(Timezone)
+    private ChronoFormatter(
+        ChronoFormatter<T> old,
+        AttributeSet globalAttributes,
+        ChronoHistory history,
+        Timezone zone
     ) {
         super();
 
@@ -334,7 +361,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
         this.indexable = ix;
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
+        this.specialized = null;
+        this.boundZone = bindZone(old, globalAttributes, zone);
         this.steps = this.freeze(copy);
+        this.consistencyPlan = ConsistencyPlan.of(this.chronology, this.steps, this.defaults, ix);
 
     }
 
@@ -380,7 +410,36 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
         this.defaults = Collections.unmodifiableMap(map);
         this.indexable = ix;
+        this.specialized = null;
+        this.boundZone = formatter.boundZone;
         this.steps = this.freeze(formatter.steps);
+        this.consistencyPlan = ConsistencyPlan.of(this.chronology, this.steps, this.defaults, ix);
+
+    }
+
+    // Aufruf durch withSpecialization
+    private ChronoFormatter(
+        ChronoFormatter<T> formatter,
+        SpecializedFormat<T> specialized
+    ) {
+        super();
+
+        this.chronology = formatter.chronology;
+        this.overrideHandler = formatter.overrideHandler;
+        this.globalAttributes = formatter.globalAttributes;
+        this.leniency = formatter.leniency;
+        this.defaults = formatter.defaults;
+        this.fracproc = formatter.fracproc;
+        this.hasOptionals = formatter.hasOptionals;
+        this.needsHistorization = formatter.needsHistorization;
+        this.needsExtensions = formatter.needsExtensions;
+        this.countOfElements = formatter.countOfElements;
+        this.indexable = formatter.indexable;
+        this.consistencyPlan = formatter.consistencyPlan;
+        this.trailing = formatter.trailing;
+        this.specialized = specialized;
+        this.boundZone = formatter.boundZone;
+        this.steps = formatter.steps;
 
     }
 
@@ -547,6 +606,32 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     @Override
     public String format(T formattable) {
 
+        if (Instrumentation.isEnabled()) {
+            try {
+                return printInstrumented(() -> this.formatEntity(formattable));
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+        }
+
+        return this.formatEntity(formattable);
+
+    }
+
+    private String formatEntity(T formattable) {
+
+        if (this.specialized != null) {
+            StringBuilder buffer = new StringBuilder(32);
+
+            try {
+                if (this.specialized.print(formattable, buffer)) {
+                    return buffer.toString();
+                }
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         return this.format0(display);
 
@@ -603,7 +688,28 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Appendable buffer
     ) throws IOException {
 
-        this.print(formattable, buffer, this.globalAttributes);
+        if (Instrumentation.isEnabled()) {
+            printInstrumented(
+                () -> {
+                    this.formatToBuffer0(formattable, buffer);
+                    return null;
+                });
+        } else {
+            this.formatToBuffer0(formattable, buffer);
+        }
+
+    }
+
+    private void formatToBuffer0(
+        T formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        if ((this.specialized != null) && this.specialized.print(formattable, buffer)) {
+            return;
+        }
+
+        this.printEntity(formattable, buffer, this.globalAttributes);
 
     }
 
@@ -614,10 +720,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         AttributeQuery attributes
     ) {
 
-        ChronoDisplay display = this.display(formattable, attributes);
-
         try {
-            return this.print(display, buffer, attributes, true);
+            return this.print(formattable, (Appendable) buffer, attributes);
         } catch (IOException ioe) {
             throw new AssertionError(ioe);
         }
@@ -698,8 +802,11 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         AttributeQuery attributes
     ) throws IOException {
 
-        ChronoDisplay display = this.display(formattable, attributes);
-        return this.print(display, buffer, attributes, true);
+        if (Instrumentation.isEnabled()) {
+            return printInstrumented(() -> this.printEntity(formattable, buffer, attributes));
+        }
+
+        return this.printEntity(formattable, buffer, attributes);
 
     }
 
@@ -711,12 +818,71 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         ChronoFunction<ChronoDisplay, R> query
     ) throws IOException {
 
+        if (Instrumentation.isEnabled()) {
+            return printInstrumented(() -> this.printEntity(formattable, buffer, attributes, query));
+        }
+
+        return this.printEntity(formattable, buffer, attributes, query);
+
+    }
+
+    private Set<ElementPosition> printEntity(
+        T formattable,
+        Appendable buffer,
+        AttributeQuery attributes
+    ) throws IOException {
+
+        ChronoDisplay display = this.display(formattable, attributes);
+        return this.print(display, buffer, attributes, true);
+
+    }
+
+    private <R> R printEntity(
+        T formattable,
+        Appendable buffer,
+        AttributeQuery attributes,
+        ChronoFunction<ChronoDisplay, R> query
+    ) throws IOException {
+
         ChronoDisplay display = this.display(formattable, attributes);
         this.print(display, buffer, attributes, false);
         return query.apply(display);
 
     }
 
+    /**
+     * <p>F&uuml;hrt einen Ausgabevorgang mit eingeschalteter Instrumentierung aus. </p>
+     *
+     * <p>Nur der &auml;u&szlig;erste Aufruf eines Threads wird gemessen, so da&szlig; eingebettete
+     * Formatierer nicht doppelt gez&auml;hlt werden. </p>
+     *
+     * @param   printing    printing action
+     * @return  result of printing action
+     * @throws  IOException if writing to buffer fails
+     */
+    private static <R> R printInstrumented(PrintAction<R> printing) throws IOException {
+
+        int[] depth = PRINT_DEPTH.get();
+        boolean outermost = (depth[0] == 0);
+        long start = (outermost ? System.nanoTime() : 0L);
+        R result;
+
+        depth[0]++;
+
+        try {
+            result = printing.run();
+        } finally {
+            depth[0]--;
+        }
+
+        if (outermost) {
+            Instrumentation.getInstance().recordTime(Instrumentation.FORMAT_PRINT, System.nanoTime() - start);
+        }
+
+        return result;
+
+    }
+
     private T toEntity(TemporalAccessor formattable) {
 
         T entity = this.chronology.createFrom(formattable, this.globalAttributes);
@@ -874,6 +1040,168 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         AttributeQuery attributes
     ) {
 
+        if (Instrumentation.isEnabled()) {
+            return parseInstrumented(
+                this.chronology.getChronoType(),
+                status,
+                () -> this.parseEntity(text, status, attributes));
+        }
+
+        return this.parseEntity(text, status, attributes);
+
+    }
+
+    /**
+     * <p>F&uuml;hrt einen Parse-Vorgang mit eingeschalteter Instrumentierung aus. </p>
+     *
+     * <p>Nur der &auml;u&szlig;erste Aufruf eines Threads wird gemessen und meldet einen Fehler,
+     * so da&szlig; die fehlgeschlagenen Versuche von eingebetteten Parsern oder eines
+     * {@code MultiFormatParser} nicht als eigene Fehler gez&auml;hlt werden. </p>
+     *
+     * @param   type        chronological type of the parser
+     * @param   status      parser information
+     * @param   parsing     parsing action
+     * @return  result or {@code null} if parsing does not work
+     */
+    static <R> R parseInstrumented(
+        Class<?> type,
+        ParseLog status,
+        Supplier<R> parsing
+    ) {
+
+        int[] depth = PARSE_DEPTH.get();
+        boolean outermost = (depth[0] == 0);
+        long start = (outermost ? System.nanoTime() : 0L);
+        R result;
+
+        depth[0]++;
+
+        try {
+            result = parsing.get();
+        } finally {
+            depth[0]--;
+        }
+
+        if (outermost) {
+            Instrumentation instrumentation = Instrumentation.getInstance();
+            instrumentation.recordTime(Instrumentation.FORMAT_PARSE, System.nanoTime() - start);
+            if (result == null) {
+                // nur der Fehlercode, damit eine verzögerte Fehlermeldung nicht erzeugt werden muß
+                ParseErrorCode code = status.getErrorCode();
+                if (code == null) {
+                    code = ParseErrorCode.UNPARSEABLE_ELEMENT;
+                }
+                instrumentation.recordParseFailure(type, code.name());
+            }
+        }
+
+        return result;
+
+    }
+
+    private T parseEntity(
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes
+    ) {
+
+        if ((this.specialized != null) && (attributes == this.globalAttributes)) {
+            int start = status.getPosition();
+            T result = this.specialized.parse(text, status, this.trailing);
+
+            if (result != null) {
+                // Rohdaten werden nur bei Bedarf mit dem generischen Verfahren ermittelt
+                String s = text.toString();
+                status.setRawValues(() -> this.parseRawValues(s, start));
+                return result;
+            }
+        }
+
+        return this.parseGeneric(text, status, attributes);
+
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity starting at the specified position in parse log
+     * and reuses the internal working memory of given parse context. </p>
+     *
+     * <p>This method is intended for high-rate parsing where every thread has its own parse context.
+     * The raw values of the parse log are only valid until the next call with the same context. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information (usually {@link ParseContext#getParseLog(int)})
+     * @param   context     thread-confined parse context
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text ab der angegebenen Position im Log und verwendet dabei
+     * den internen Arbeitsspeicher des angegebenen Parse-Kontexts wieder. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r massenhaftes Parsen gedacht, bei dem jeder Thread seinen
+     * eigenen Parse-Kontext hat. Die Rohdaten des Parse-Logs sind nur bis zum n&auml;chsten Aufruf
+     * mit demselben Kontext g&uuml;ltig. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information (usually {@link ParseContext#getParseLog(int)})
+     * @param   context     thread-confined parse context
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @since   4.19
+     */
+    public T parse(
+        CharSequence text,
+        ParseLog status,
+        ParseContext context
+    ) {
+
+        context.recycle();
+        status.setContext(context);
+
+        try {
+            return this.parse(text, status, this.globalAttributes);
+        } finally {
+            status.setContext(null);
+        }
+
+    }
+
+    /**
+     * <p>Creates a copy of this formatter which uses given specialized
+     * format as fast path for printing and parsing with default attributes. </p>
+     *
+     * <p>Any derived formatter (for example via {@code with()}-methods)
+     * will again use the generic format processing. </p>
+     *
+     * @param   specialized     fast path for fixed format
+     * @return  changed copy with given specialization
+     * @since   4.19
+     */
+    ChronoFormatter<T> withSpecialization(SpecializedFormat<T> specialized) {
+
+        return new ChronoFormatter<>(this, specialized);
+
+    }
+
+    private ParsedValues parseRawValues(
+        CharSequence text,
+        int start
+    ) {
+
+        ParseLog plog = new ParseLog(start);
+        this.parseGeneric(text, plog, this.globalAttributes);
+        ParsedValues parsed = plog.getRawValues0();
+        return ((parsed == null) ? new ParsedValues(0, false) : parsed);
+
+    }
+
+    private T parseGeneric(
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes
+    ) {
+
         AttributeQuery attrs = attributes;
         Leniency leniency = this.leniency;
         boolean quickPath = true;
@@ -924,7 +1252,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             }
 
             if (moment == null) {
-                status.setError(text.length(), "Missing timezone or offset.");
+                status.setError(text.length(), ParseErrorCode.MISSING_TIMEZONE, "Missing timezone or offset.");
                 return null;
             } else {
                 updateSelf(parsed, Moment.axis().element(), moment);
@@ -957,21 +1285,17 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         try {
             result = this.chronology.createFrom(parsed, attrs, leniency.isLax(), false);
         } catch (RuntimeException re) {
-            status.setError(
-                text.length(),
-                re.getMessage() + getDescription(parsed));
+            setConversionError(status, text.length(), re, parsed);
             return null;
         }
 
         if (result == null) {
             if (!status.isError()) {
-                status.setError(
-                    text.length(),
-                    getReason(parsed) + getDescription(parsed));
+                setInsufficientData(status, text.length(), parsed);
             }
             return null;
         } else if (leniency.isStrict()) {
-            return checkConsistency(parsed, result, text, status);
+            return checkConsistency(parsed, result, text, status, this.consistencyPlan);
         } else {
             return result;
         }
@@ -1037,7 +1361,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             status.setRawValues(parsed);
         } catch (AmbivalentValueException ex) {
             if (!status.isError()) {
-                status.setError(status.getPosition(), ex.getMessage());
+                status.setError(status.getPosition(), ParseErrorCode.AMBIVALENT_VALUE, ex.getMessage());
             }
         }
 
@@ -1311,7 +1635,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                 .build();
         AttributeSet as = this.globalAttributes.withAttributes(attrs);
         as = as.withInternal(Attributes.TRANSITION_STRATEGY, tz.getStrategy());
-        return new ChronoFormatter<>(this, as);
+        return new ChronoFormatter<>(this, as, null, tz);
 
     }
 
@@ -1969,11 +2293,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        builder.addPattern(pattern, type);
-
         try {
-            return builder.build();
+            return ofCachedPattern(PlainDate.axis(), pattern, type, locale, null);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2006,11 +2327,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        builder.addPattern(pattern, type);
-
         try {
-            return builder.build();
+            return ofCachedPattern(PlainTime.axis(), pattern, type, locale, null);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2043,11 +2361,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        builder.addPattern(pattern, type);
-
         try {
-            return builder.build();
+            return ofCachedPattern(PlainTimestamp.axis(), pattern, type, locale, null);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2083,11 +2398,12 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        builder.addPattern(pattern, type);
+        if (tzid == null) {
+            throw new NullPointerException("Missing timezone id.");
+        }
 
         try {
-            return builder.build().withTimezone(tzid);
+            return ofCachedPattern(Moment.axis(), pattern, type, locale, tzid);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2131,11 +2447,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        builder.addPattern(pattern, type);
-
         try {
-            return builder.build();
+            return ofCachedPattern(chronology, pattern, type, locale, null);
         } catch (IllegalStateException ise) {
             throw new IllegalArgumentException(ise);
         }
@@ -2296,9 +2609,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
         if (LocalizedPatternSupport.class.isAssignableFrom(chronology.getChronoType())) {
             String pattern = chronology.getFormatPattern(style, locale);
-            Builder<T> builder = new Builder<>(chronology, locale);
-            builder.addPattern(pattern, PatternType.CLDR);
-            return builder.build();
+            return ofCachedPattern(chronology, pattern, PatternType.CLDR, locale, null);
         } else if (chronology.equals(Moment.axis())) {
             throw new UnsupportedOperationException("Timezone required, use 'ofMomentStyle()' instead.");
         } else {
@@ -2553,6 +2864,12 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     ) {
 
         if (this.overrideHandler == null) {
+            if ((this.boundZone != null) && (query == this.globalAttributes)) {
+                ChronoDisplay display = ZonalMomentDisplay.of(Moment.class.cast(formattable), this.boundZone);
+                if (display != null) {
+                    return display;
+                }
+            }
             return this.chronology.preformat(formattable, query);
         }
 
@@ -2583,6 +2900,83 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    // bindet eine aufgelöste Zeitzone an Moment-Formatierer, solange die Zeitzonen-ID unverändert bleibt
+    private static Timezone bindZone(
+        ChronoFormatter<?> old,
+        AttributeSet globalAttributes,
+        Timezone zone
+    ) {
+
+        if ((old.overrideHandler != null) || !old.chronology.equals(Moment.axis())) {
+            return null;
+        } else if (zone != null) {
+            return zone;
+        } else if (old.boundZone == null) {
+            return null;
+        }
+
+        TZID tzid = globalAttributes.get(Attributes.TIMEZONE_ID, null);
+
+        if ((tzid != null) && tzid.canonical().equals(old.boundZone.getID().canonical())) {
+            return old.boundZone;
+        }
+
+        return null;
+
+    }
+
+    // baut einen musterbasierten Formatierer oder liefert ihn aus dem Cache
+    private static <T extends ChronoEntity<T>> ChronoFormatter<T> ofCachedPattern(
+        Chronology<T> chronology,
+        String pattern,
+        PatternType type,
+        Locale locale,
+        TZID tzid
+    ) {
+
+        Cache.Key key = null;
+        ChronoFormatter<T> formatter = null;
+
+        if (
+            Cache.active
+            && (chronology != null)
+            && (pattern != null)
+            && (type != null)
+            && (locale != null)
+        ) {
+            key = new Cache.Key(chronology, pattern, type, locale);
+            ChronoFormatter<?> cached = Cache.FORMATTERS.get(key);
+
+            if (cached == null) {
+                Cache.MISSES.increment();
+                if (Instrumentation.isEnabled()) {
+                    Instrumentation.getInstance().recordCacheMiss(Instrumentation.CACHE_FORMATTERS);
+                }
+            } else {
+                Cache.HITS.increment();
+                if (Instrumentation.isEnabled()) {
+                    Instrumentation.getInstance().recordCacheHit(Instrumentation.CACHE_FORMATTERS);
+                }
+                formatter = cast(cached);
+            }
+        }
+
+        if (formatter == null) {
+            Builder<T> builder = new Builder<>(chronology, locale);
+            builder.addPattern(pattern, type);
+            formatter = builder.build();
+
+            if (key != null) {
+                Cache.store(key, formatter);
+            }
+        }
+
+        // nur der zeitzonenfreie Formatierer wird gecacht, damit nach Timezone.Cache.refresh()
+        // keine veralteten Zeitzonendaten im Cache bleiben
+        return ((tzid == null) ? formatter : formatter.withTimezone(tzid));
+
+    }
+
     private static <T extends ChronoDisplay> T parse(
         ChronoFormatter<?> cf,
         ChronoMerger<T> merger,
@@ -2612,7 +3006,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             status.setRawValues(parsed);
         } catch (AmbivalentValueException ex) {
             if (!status.isError()) {
-                status.setError(status.getPosition(), ex.getMessage());
+                status.setError(status.getPosition(), ParseErrorCode.AMBIVALENT_VALUE, ex.getMessage());
             }
         }
 
@@ -2625,7 +3019,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         if ((index < len) && !trailing) {
             status.setError(
                 index,
-                "Unparsed trailing characters: " + sub(index, text));
+                ParseErrorCode.TRAILING_CHARACTERS,
+                () -> "Unparsed trailing characters: " + sub(index, text));
             return null;
         }
 
@@ -2645,9 +3040,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                     parsed = ext.resolve(parsed, cf.getLocale(), attributes);
                 }
             } catch (RuntimeException re) {
-                status.setError(
-                    len,
-                    re.getMessage() + getDescription(parsed));
+                setConversionError(status, len, re, parsed);
                 return null;
             }
         }
@@ -2658,9 +3051,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         try {
             result = merger.createFrom(parsed, attributes, leniency.isLax(), preparsing);
         } catch (RuntimeException re) {
-            status.setError(
-                len,
-                re.getMessage() + getDescription(parsed));
+            setConversionError(status, len, re, parsed);
             return null;
         }
 
@@ -2675,13 +3066,11 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         // Phase 5: Konsistenzprüfung
         if (result == null) {
             if (!preparsing) {
-                status.setError(
-                    len,
-                    getReason(parsed) + getDescription(parsed));
+                setInsufficientData(status, len, parsed);
             }
             return null;
         } else if (leniency.isStrict()) {
-            return checkConsistency(parsed, result, text, status);
+            return checkConsistency(parsed, result, text, status, cf.consistencyPlan);
         } else {
             return result;
         }
@@ -2695,20 +3084,39 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
-    private static String getReason(ParsedValues parsed) {
-
-        String reason;
+    private static void setInsufficientData(
+        ParseLog status,
+        int index,
+        ParsedValues parsed
+    ) {
 
         if (parsed.contains(ValidationElement.ERROR_MESSAGE)) {
-            reason =
-                "Validation failed => "
-                + parsed.get(ValidationElement.ERROR_MESSAGE);
+            String validation = parsed.get(ValidationElement.ERROR_MESSAGE);
             parsed.with(ValidationElement.ERROR_MESSAGE, null);
+            status.setError(
+                index,
+                ParseErrorCode.VALIDATION_FAILED,
+                () -> "Validation failed => " + validation + getDescription(parsed));
         } else {
-            reason = "Insufficient data:";
+            status.setError(
+                index,
+                ParseErrorCode.INSUFFICIENT_DATA,
+                () -> "Insufficient data:" + getDescription(parsed));
         }
 
-        return reason;
+    }
+
+    private static void setConversionError(
+        ParseLog status,
+        int index,
+        RuntimeException re,
+        ParsedValues parsed
+    ) {
+
+        status.setError(
+            index,
+            ParseErrorCode.CONVERSION_FAILED,
+            () -> re.getMessage() + getDescription(parsed));
 
     }
 
@@ -2735,7 +3143,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         ParsedValues parsed,
         T result,
         CharSequence text,
-        ParseLog status
+        ParseLog status,
+        ConsistencyPlan plan
     ) {
 
         // Zeitzonenkonversion ergibt immer Unterschied zwischen
@@ -2751,7 +3160,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                 TZID tzid = parsed.get(TimezoneElement.TIMEZONE_ID);
                 TZID offset = parsed.get(TimezoneElement.TIMEZONE_OFFSET);
                 if (!Timezone.of(tzid).getOffset(ut).equals(offset)) {
-                    status.setError(text.length(), "Ambivalent offset information: " + tzid + " versus " + offset);
+                    status.setError(
+                        text.length(),
+                        ParseErrorCode.INCONSISTENT_DATA,
+                        () -> "Ambivalent offset information: " + tzid + " versus " + offset);
                     return null;
                 }
             }
@@ -2762,28 +3174,39 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                 try {
                     boolean dst = Timezone.of(tzid).isDaylightSaving(ut);
                     if (dst != status.getDSTInfo().booleanValue()) {
-                        StringBuilder reason = new StringBuilder(256);
-                        reason.append("Conflict found: ");
-                        reason.append("Parsed entity is ");
-                        if (!dst) {
-                            reason.append("not ");
-                        }
-                        reason.append("daylight-saving, but timezone name");
-                        reason.append(" has not the appropriate form in {");
-                        reason.append(text.toString());
-                        reason.append("}.");
-                        status.setError(text.length(), reason.toString());
+                        status.setError(
+                            text.length(),
+                            ParseErrorCode.INCONSISTENT_DATA,
+                            () -> {
+                                StringBuilder reason = new StringBuilder(256);
+                                reason.append("Conflict found: ");
+                                reason.append("Parsed entity is ");
+                                if (!dst) {
+                                    reason.append("not ");
+                                }
+                                reason.append("daylight-saving, but timezone name");
+                                reason.append(" has not the appropriate form in {");
+                                reason.append(text.toString());
+                                reason.append("}.");
+                                return reason.toString();
+                            });
                         result = null;
                     }
                 } catch (IllegalArgumentException iae) {
-                    StringBuilder reason = new StringBuilder(256);
-                    reason.append("Unable to check timezone name: ");
-                    reason.append(iae.getMessage());
-                    status.setError(text.length(), reason.toString());
+                    status.setError(
+                        text.length(),
+                        ParseErrorCode.INCONSISTENT_DATA,
+                        () -> "Unable to check timezone name: " + iae.getMessage());
                     return null;
                 }
             }
         } else {
+            // schneller Weg über den vorab bestimmten Prüfplan, bei einem Konflikt oder unbekannten Elementen
+            // wird die allgemeine Prüfung wiederholt, damit die Fehlermeldung unverändert bleibt
+            if ((plan != null) && (plan.check(parsed, result) == ConsistencyPlan.CONSISTENT)) {
+                return result;
+            }
+
             ChronoEntity<?> date = null;
 
             if (
@@ -2829,19 +3252,26 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                     }
 
                     if (!ok) {
-                        StringBuilder reason = new StringBuilder(256);
-                        reason.append("Conflict found: ");
-                        reason.append("Text {");
-                        reason.append(text.toString());
-                        reason.append("} with element ");
-                        reason.append(e.name());
-                        reason.append(" {");
-                        reason.append(value);
-                        reason.append("}, but parsed entity ");
-                        reason.append("has element value {");
-                        reason.append(test.get(e));
-                        reason.append("}.");
-                        status.setError(text.length(), reason.toString());
+                        ChronoDisplay entity = test;
+                        Object found = value;
+                        status.setError(
+                            text.length(),
+                            ParseErrorCode.INCONSISTENT_DATA,
+                            () -> {
+                                StringBuilder reason = new StringBuilder(256);
+                                reason.append("Conflict found: ");
+                                reason.append("Text {");
+                                reason.append(text.toString());
+                                reason.append("} with element ");
+                                reason.append(e.name());
+                                reason.append(" {");
+                                reason.append(found);
+                                reason.append("}, but parsed entity ");
+                                reason.append("has element value {");
+                                reason.append(entity.get(e));
+                                reason.append("}.");
+                                return reason.toString();
+                            });
                         return null;
                     }
                 }
@@ -2852,6 +3282,21 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    private ParsedValues newValues(
+        ParseLog status,
+        int countOfElements
+    ) {
+
+        ParseContext context = status.getContext();
+
+        if (context == null) {
+            return new ParsedValues(countOfElements, this.indexable);
+        } else {
+            return context.obtain(countOfElements, this.indexable);
+        }
+
+    }
+
     private ParsedValues parseElements(
         CharSequence text,
         ParseLog status,
@@ -2860,7 +3305,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = this.newValues(status, countOfElements);
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -2886,7 +3331,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    values = new ParsedValues(countOfElements >>> 1, this.indexable);
+                    values = this.newValues(status, countOfElements >>> 1);
                     values.setPosition(status.getPosition());
                     data.push(values);
                     level--;
@@ -3083,6 +3528,320 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Offers some static methods for the configuration and monitoring of the
+     * internal cache of pattern-based formatters. </p>
+     *
+     * <p>The factory methods {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()}, {@code ofPattern()}
+     * and the derived style-based factory methods can yield a shared instance
+     * for the same combination of chronology, pattern, pattern type and locale.
+     * This is safe because formatters are immutable. Formatters with a timezone
+     * are derived from the cached formatter on every call, so the cache never
+     * holds timezone data which might be outdated after
+     * {@link Timezone.Cache#refresh()}. If the cache
+     * is full then the oldest entries will be evicted first. The cache is active
+     * by default and holds at most 500 formatters unless the system property
+     * &quot;net.time4j.format.cache.size&quot; specifies another size (where
+     * {@code 0} switches off the cache). </p>
+     *
+     * @author  Meno Hochschild
+     * @since   4.19
+     * @doctags.concurrency {threadsafe}
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zur Konfiguration und &Uuml;berwachung des
+     * internen Cache f&uuml;r musterbasierte Formatierer an. </p>
+     *
+     * <p>Die Fabrikmethoden {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()}, {@code ofPattern()}
+     * und die davon abgeleiteten stilbasierten Fabrikmethoden k&ouml;nnen f&uuml;r
+     * dieselbe Kombination aus Chronologie, Formatmuster, Mustertyp und Sprache
+     * eine gemeinsame Instanz liefern. Das ist sicher, weil Formatierer
+     * unver&auml;nderlich sind. Formatierer mit Zeitzone werden bei jedem Aufruf
+     * vom gecachten Formatierer abgeleitet, so da&szlig; der Cache nie Zeitzonendaten
+     * enth&auml;lt, die nach {@link Timezone.Cache#refresh()} veraltet sein
+     * k&ouml;nnten. Ist der Cache voll, werden die &auml;ltesten
+     * Eintr&auml;ge zuerst entfernt. Der Cache ist standardm&auml;&szlig;ig aktiv
+     * und enth&auml;lt h&ouml;chstens 500 Formatierer, es sei denn, die
+     * System-Property &quot;net.time4j.format.cache.size&quot; legt eine andere
+     * Gr&ouml;&szlig;e fest (wobei {@code 0} den Cache abschaltet). </p>
+     *
+     * @author  Meno Hochschild
+     * @since   4.19
+     * @doctags.concurrency {threadsafe}
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int DEFAULT_SIZE = Integer.getInteger("net.time4j.format.cache.size", 500);
+
+        // Lesezugriffe ohne Sperre, alle Änderungen von Map und Queue nur gemeinsam unter LOCK
+        private static final ConcurrentMap<Key, ChronoFormatter<?>> FORMATTERS = new ConcurrentHashMap<>();
+        private static final Queue<Key> INSERTION_ORDER = new ArrayDeque<>();
+        private static final Object LOCK = new Object();
+        private static final LongAdder HITS = new LongAdder();
+        private static final LongAdder MISSES = new LongAdder();
+
+        private static volatile boolean active = (DEFAULT_SIZE > 0);
+        private static volatile int maxSize = Math.max(DEFAULT_SIZE, 0);
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Aktivates or deactivates the internal cache. </p>
+         *
+         * <p>Deactivating the cache also clears it. Afterwards every call of a
+         * factory method will yield a new formatter. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        /*[deutsch]
+         * <p>Aktiviert oder deaktiviert den internen Cache. </p>
+         *
+         * <p>Ein Abschalten des Cache leert ihn auch. Danach liefert jeder Aufruf
+         * einer Fabrikmethode einen neuen Formatierer. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        public static void setActive(boolean active) {
+
+            Cache.active = active;
+
+            if (!active) {
+                clear();
+            }
+
+        }
+
+        /**
+         * <p>Queries if the internal cache is active. </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Ist der interne Cache aktiv? </p>
+         *
+         * @return  boolean
+         */
+        public static boolean isActive() {
+
+            return active;
+
+        }
+
+        /**
+         * <p>Sets the maximum count of cached formatters. </p>
+         *
+         * <p>Surplus entries will be evicted in the order of their insertion. </p>
+         *
+         * @param   maxSize     maximum count of cached formatters (at least {@code 1})
+         * @throws  IllegalArgumentException if the argument is smaller than {@code 1}
+         */
+        /*[deutsch]
+         * <p>Setzt die maximale Anzahl der gecachten Formatierer. </p>
+         *
+         * <p>&Uuml;berz&auml;hlige Eintr&auml;ge werden in der Reihenfolge ihres
+         * Einf&uuml;gens entfernt. </p>
+         *
+         * @param   maxSize     maximum count of cached formatters (at least {@code 1})
+         * @throws  IllegalArgumentException if the argument is smaller than {@code 1}
+         */
+        public static void setMaximumSize(int maxSize) {
+
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Maximum cache size must be positive: " + maxSize);
+            }
+
+            Cache.maxSize = maxSize;
+
+            synchronized (LOCK) {
+                evict();
+            }
+
+        }
+
+        /**
+         * <p>Yields the current count of cached formatters. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gecachten Formatierer. </p>
+         *
+         * @return  int
+         */
+        public static int size() {
+
+            return FORMATTERS.size();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which could be served by the cache
+         * since the last call of {@link #clear()}. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Aufrufe von Fabrikmethoden, die seit dem letzten
+         * Aufruf von {@link #clear()} aus dem Cache bedient werden konnten. </p>
+         *
+         * @return  long
+         */
+        public static long getHitCount() {
+
+            return HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of factory calls which had to build a new formatter
+         * although the cache was active since the last call of {@link #clear()}. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Aufrufe von Fabrikmethoden, die seit dem letzten
+         * Aufruf von {@link #clear()} trotz aktivem Cache einen neuen Formatierer
+         * erzeugen mussten. </p>
+         *
+         * @return  long
+         */
+        public static long getMissCount() {
+
+            return MISSES.sum();
+
+        }
+
+        /**
+         * <p>Removes all cached formatters and resets the hit and miss counters. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle gecachten Formatierer und setzt die Z&auml;hler zur&uuml;ck. </p>
+         */
+        public static void clear() {
+
+            synchronized (LOCK) {
+                FORMATTERS.clear();
+                INSERTION_ORDER.clear();
+            }
+
+            HITS.reset();
+            MISSES.reset();
+
+        }
+
+        private static void store(
+            Key key,
+            ChronoFormatter<?> formatter
+        ) {
+
+            synchronized (LOCK) {
+                if (!active) {
+                    return; // inzwischen abgeschaltet, clear() darf nicht unterlaufen werden
+                }
+                if (FORMATTERS.putIfAbsent(key, formatter) == null) {
+                    INSERTION_ORDER.offer(key);
+                    evict();
+                }
+            }
+
+        }
+
+        // nur unter LOCK aufrufen
+        private static void evict() {
+
+            int limit = maxSize;
+
+            while (FORMATTERS.size() > limit) {
+                Key eldest = INSERTION_ORDER.poll();
+                if (eldest == null) {
+                    break;
+                }
+                if ((FORMATTERS.remove(eldest) != null) && Instrumentation.isEnabled()) {
+                    Instrumentation.getInstance().recordCacheEviction(Instrumentation.CACHE_FORMATTERS);
+                }
+            }
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        private static final class Key {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final Chronology<?> chronology;
+            private final String pattern;
+            private final PatternType type;
+            private final Locale locale;
+            private final int hash;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            Key(
+                Chronology<?> chronology,
+                String pattern,
+                PatternType type,
+                Locale locale
+            ) {
+                super();
+
+                this.chronology = chronology;
+                this.pattern = pattern;
+                this.type = type;
+                this.locale = locale;
+
+                int h = chronology.hashCode();
+                h = 31 * h + pattern.hashCode();
+                h = 31 * h + type.hashCode();
+                h = 31 * h + locale.hashCode();
+                this.hash = h;
+
+            }
+
+            //~ Methoden --------------------------------------------------
+
+            @Override
+            public boolean equals(Object obj) {
+
+                if (this == obj) {
+                    return true;
+                } else if (obj instanceof Key) {
+                    Key that = (Key) obj;
+                    return (
+                        (this.hash == that.hash)
+                        && this.chronology.equals(that.chronology)
+                        && this.pattern.equals(that.pattern)
+                        && (this.type == that.type)
+                        && this.locale.equals(that.locale)
+                    );
+                } else {
+                    return false;
+                }
+
+            }
+
+            @Override
+            public int hashCode() {
+
+                return this.hash;
+
+            }
+
+        }
+
+    }
+
+
     /**
      * <p>Builder for creating a new {@code ChronoFormatter}. </p>
      *
@@ -6680,4 +7439,234 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    private static class ConsistencyPlan {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int CONSISTENT = 0;
+        private static final int CONFLICT = 1;
+        private static final int UNKNOWN = 2;
+
+        private static final int GENERIC = 0;
+        private static final int SKIP = 1;
+        private static final int YEAR = 2;
+        private static final int MONTH = 3;
+        private static final int DAY_OF_MONTH = 4;
+        private static final int MONTH_OF_YEAR = 5;
+        private static final int DAY_OF_WEEK = 6;
+        private static final int HOUR = 7;
+        private static final int MINUTE = 8;
+        private static final int SECOND = 9;
+        private static final int NANO = 10;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Class<?> resultType;
+        private final ChronoElement<?>[] elements;
+        private final int[] kinds;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ConsistencyPlan(
+            Class<?> resultType,
+            ChronoElement<?>[] elements,
+            int[] kinds
+        ) {
+            super();
+
+            this.resultType = resultType;
+            this.elements = elements;
+            this.kinds = kinds;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // einmal je Formatierer: Elemente aus Formatschritten und Standardwerten mit ihrer Prüfart
+        static ConsistencyPlan of(
+            Chronology<?> chronology,
+            List<FormatStep> steps,
+            Map<ChronoElement<?>, Object> defaults,
+            boolean indexable
+        ) {
+
+            List<ChronoElement<?>> list = new ArrayList<>();
+
+            for (FormatStep step : steps) {
+                ChronoElement<?> element = step.getProcessor().getElement();
+                if ((element != null) && !list.contains(element)) {
+                    list.add(element);
+                    if ((element == PlainDate.MONTH_OF_YEAR) && !list.contains(PlainDate.MONTH_AS_NUMBER)) {
+                        list.add(PlainDate.MONTH_AS_NUMBER); // Monatstexte werden als Zahl gespeichert
+                    }
+                }
+            }
+
+            for (ChronoElement<?> element : defaults.keySet()) {
+                if (!list.contains(element)) {
+                    list.add(element);
+                }
+            }
+
+            if (list.contains(PlainTime.ISO_HOUR) || list.contains(PlainTime.COMPONENT)) {
+                return null; // Sonderfall 24:00 nur über die allgemeine Prüfung
+            }
+
+            Class<?> chronoType = chronology.getChronoType();
+            boolean hasDate = ((chronoType == PlainDate.class) || (chronoType == PlainTimestamp.class));
+            boolean hasTime = ((chronoType == PlainTime.class) || (chronoType == PlainTimestamp.class));
+            int n = list.size();
+            int[] kinds = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ChronoElement<?> element = list.get(i);
+                int kind = GENERIC;
+                if (hasDate) {
+                    if (element == PlainDate.YEAR) {
+                        kind = YEAR;
+                    } else if (element == PlainDate.MONTH_AS_NUMBER) {
+                        kind = MONTH;
+                    } else if (element == PlainDate.DAY_OF_MONTH) {
+                        kind = DAY_OF_MONTH;
+                    } else if (element == PlainDate.MONTH_OF_YEAR) {
+                        kind = MONTH_OF_YEAR;
+                    } else if (element == PlainDate.DAY_OF_WEEK) {
+                        kind = DAY_OF_WEEK;
+                    }
+                    if (indexable && (kind != GENERIC)) {
+                        kind = SKIP; // der ChronoMerger bildet das Datum direkt aus Jahr, Monat und Tag
+                    }
+                }
+                if (hasTime) {
+                    if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
+                        kind = HOUR;
+                    } else if (element == PlainTime.MINUTE_OF_HOUR) {
+                        kind = MINUTE;
+                    } else if (element == PlainTime.SECOND_OF_MINUTE) {
+                        kind = SECOND;
+                    } else if (element == PlainTime.NANO_OF_SECOND) {
+                        kind = NANO;
+                    }
+                }
+                kinds[i] = kind;
+            }
+
+            return new ConsistencyPlan(
+                ((hasDate || hasTime) ? chronoType : null),
+                list.toArray(new ChronoElement<?>[n]),
+                kinds);
+
+        }
+
+        // vergleicht die Elementwerte, ISO-Felder direkt aus dem Ergebnis
+        int check(
+            ParsedValues parsed,
+            ChronoDisplay result
+        ) {
+
+            PlainDate date = null;
+            PlainTime time = null;
+
+            if (this.resultType != null) {
+                if (result.getClass() != this.resultType) {
+                    return UNKNOWN;
+                } else if (this.resultType == PlainTimestamp.class) {
+                    PlainTimestamp tsp = PlainTimestamp.class.cast(result);
+                    date = tsp.getCalendarDate();
+                    time = tsp.getWallTime();
+                } else if (this.resultType == PlainDate.class) {
+                    date = PlainDate.class.cast(result);
+                } else {
+                    time = PlainTime.class.cast(result);
+                }
+            }
+
+            int found = 0;
+
+            for (int i = 0; i < this.elements.length; i++) {
+                ChronoElement<?> element = this.elements[i];
+
+                if (!parsed.contains(element)) {
+                    continue;
+                }
+
+                found++;
+                boolean ok;
+
+                switch (this.kinds[i]) {
+                    case SKIP:
+                        ok = true;
+                        break;
+                    case YEAR:
+                        ok = (parsed.getInt(PlainDate.YEAR) == date.getYear());
+                        break;
+                    case MONTH:
+                        ok = (parsed.getInt(PlainDate.MONTH_AS_NUMBER) == date.getMonth());
+                        break;
+                    case DAY_OF_MONTH:
+                        ok = (parsed.getInt(PlainDate.DAY_OF_MONTH) == date.getDayOfMonth());
+                        break;
+                    case MONTH_OF_YEAR:
+                        ok = (parsed.get(PlainDate.MONTH_OF_YEAR).getValue() == date.getMonth());
+                        break;
+                    case DAY_OF_WEEK:
+                        ok = (parsed.get(PlainDate.DAY_OF_WEEK) == date.getDayOfWeek());
+                        break;
+                    case HOUR:
+                        ok = (parsed.getInt(PlainTime.DIGITAL_HOUR_OF_DAY) == time.getHour());
+                        break;
+                    case MINUTE:
+                        ok = (parsed.getInt(PlainTime.MINUTE_OF_HOUR) == time.getMinute());
+                        break;
+                    case SECOND:
+                        int second = parsed.getInt(PlainTime.SECOND_OF_MINUTE);
+                        ok = ((second == 60) || (second == time.getSecond()));
+                        break;
+                    case NANO:
+                        ok = (parsed.getInt(PlainTime.NANO_OF_SECOND) == time.getNanosecond());
+                        break;
+                    default:
+                        ok = isConsistent(parsed, result, element);
+                }
+
+                if (!ok) {
+                    return CONFLICT;
+                }
+            }
+
+            return ((found == parsed.size()) ? CONSISTENT : UNKNOWN);
+
+        }
+
+        private static boolean isConsistent(
+            ParsedValues parsed,
+            ChronoDisplay result,
+            ChronoElement<?> element
+        ) {
+
+            if (!result.contains(element)) {
+                return true;
+            } else if (element.getType() == Integer.class) {
+                ChronoElement<Integer> ie = cast(element);
+                int v = parsed.getInt(ie);
+                return (
+                    (result.getInt(ie) == v)
+                    || ((element == PlainTime.SECOND_OF_MINUTE) && (v == 60)));
+            } else {
+                return result.get(element).equals(parsed.get(element));
+            }
+
+        }
+
+    }
+
+    // Ausgabeaktion für die Instrumentierung, die in den Puffer schreiben darf
+    private interface PrintAction<R> {
+
+        //~ Methoden ------------------------------------------------------
+
+        R run() throws IOException;
+
+    }
+
 }
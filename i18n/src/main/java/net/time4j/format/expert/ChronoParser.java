@@ -82,6 +82,45 @@ public interface ChronoParser<T> {
 
     }
 
+    /**
+     * <p>Interpretes given text as chronological entity starting at the begin of text
+     * and yields {@code null} instead of throwing an exception if the text is not parseable. </p>
+     *
+     * <p>This method is intended for bulk processing of input with a high rate of invalid data.
+     * It neither constructs any {@code ParseException} nor builds any error message of the
+     * standard format engine (see {@link ParseLog#setLazyMessages(boolean)}). Applications
+     * needing the reason of failure should use {@link #parse(CharSequence, ParseLog)} instead. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parse result or {@code null} if the text is empty or not parseable
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text ab dem Anfang und liefert {@code null}, statt eine
+     * Ausnahme zu werfen, wenn der Text nicht interpretierbar ist. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r die Massenverarbeitung von Eingaben mit einem hohen Anteil
+     * ung&uuml;ltiger Daten gedacht. Sie erzeugt weder eine {@code ParseException} noch eine
+     * Fehlermeldung der Standard-Format-Engine (siehe {@link ParseLog#setLazyMessages(boolean)}).
+     * Anwendungen, die den Fehlergrund brauchen, sollten stattdessen
+     * {@link #parse(CharSequence, ParseLog)} verwenden. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parse result or {@code null} if the text is empty or not parseable
+     * @since   4.19
+     */
+    default T parseOrNull(CharSequence text) {
+
+        if (text.length() == 0) {
+            return null;
+        }
+
+        ParseLog status = new ParseLog();
+        status.setLazyMessages(true);
+        return this.parse(text, status);
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting
      * at the specified position in parse log. </p>
@@ -184,7 +184,11 @@ final class CustomizedProcessor<V>
             V value = this.parser.parse(text, status, attributes);
 
             if (value == null) {
-                status.setError(offset, status.getErrorMessage());
+                if (status.isError()) {
+                    status.moveErrorIndex(offset); // Fehlercode und ggf. verzögerte Meldung behalten
+                } else {
+                    status.setError(offset, status.getErrorMessage());
+                }
             } else {
                 ChronoEntity<?> raw = status.getRawValues();
                 for (ChronoElement<?> e : raw.getRegisteredElements()) {
@@ -0,0 +1,792 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatDetector.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.Chronology;
+import net.time4j.format.CalendarText;
+import net.time4j.format.DisplayMode;
+import net.time4j.format.Leniency;
+import net.time4j.format.LocalizedPatternSupport;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * <p>Detects the format of a column of date or timestamp texts whose format is unknown in advance. </p>
+ *
+ * <p>A detector holds an ordered list of candidate patterns, namely the localized CLDR-patterns,
+ * the patterns of the platform ({@code SimpleDateFormat}), the ISO-8601-patterns and some common
+ * numerical patterns. The method {@link #analyze(Iterable, int)} samples the first values of a column,
+ * tries every candidate in strict mode and locks in the candidate with most matches. Ties are resolved
+ * in favour of the earlier candidate, so the order of day and month preferred by the locale wins. The
+ * result reports the confidence and if the samples are ambiguous (for example {@code dd/MM} versus
+ * {@code MM/dd} if no day is greater than twelve). Example: </p>
+ *
+ * <pre>
+ *  FormatDetector.Result&lt;PlainDate&gt; result =
+ *      FormatDetector.ofDates(Locale.UK).analyze(Arrays.asList(&quot;25/12/2016&quot;, &quot;01/02/2017&quot;));
+ *  System.out.println(result.getPattern()); // dd/MM/y
+ *  System.out.println(result.parse(&quot;31/01/2017&quot;)); // 2017-01-31
+ * </pre>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Erkennt das Format einer Spalte von Datums- oder Zeitstempeltexten, deren Format vorher
+ * unbekannt ist. </p>
+ *
+ * <p>Ein Detektor enth&auml;lt eine geordnete Liste von Kandidatenmustern, n&auml;mlich die lokalisierten
+ * CLDR-Formatmuster, die Formatmuster der Plattform ({@code SimpleDateFormat}), die ISO-8601-Formatmuster
+ * und einige g&auml;ngige numerische Formatmuster. Die Methode {@link #analyze(Iterable, int)} nimmt die
+ * ersten Werte einer Spalte als Stichprobe, probiert jeden Kandidaten im strikten Modus aus und legt
+ * sich auf den Kandidaten mit den meisten Treffern fest. Bei Gleichstand gewinnt der fr&uuml;here Kandidat,
+ * so da&szlig; die von der Sprache bevorzugte Reihenfolge von Tag und Monat gewinnt. Das Ergebnis
+ * berichtet die Konfidenz und, ob die Stichprobe mehrdeutig ist (zum Beispiel {@code dd/MM} versus
+ * {@code MM/dd}, wenn kein Tag gr&ouml;&szlig;er als zw&ouml;lf ist). Beispiel: </p>
+ *
+ * <pre>
+ *  FormatDetector.Result&lt;PlainDate&gt; result =
+ *      FormatDetector.ofDates(Locale.UK).analyze(Arrays.asList(&quot;25/12/2016&quot;, &quot;01/02/2017&quot;));
+ *  System.out.println(result.getPattern()); // dd/MM/y
+ *  System.out.println(result.parse(&quot;31/01/2017&quot;)); // 2017-01-31
+ * </pre>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   4.19
+ * @doctags.concurrency {immutable}
+ */
+public final class FormatDetector<T extends ChronoEntity<T> & LocalizedPatternSupport> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_SAMPLE_SIZE = 100;
+
+    private static final DisplayMode[] STYLES = DisplayMode.values();
+    private static final DisplayMode[] TIME_STYLES = {DisplayMode.MEDIUM, DisplayMode.SHORT};
+    private static final int[] SDF_STYLES = {DateFormat.FULL, DateFormat.LONG, DateFormat.MEDIUM, DateFormat.SHORT};
+    private static final int[] SDF_TIME_STYLES = {DateFormat.MEDIUM, DateFormat.SHORT};
+
+    private static final String[] ISO_DATES = {"uuuu-MM-dd", "uuuuMMdd"};
+    private static final String[] ISO_TIMESTAMPS = {
+        "uuuu-MM-dd'T'HH:mm:ss", "uuuu-MM-dd'T'HH:mm:ss.SSS", "uuuu-MM-dd'T'HH:mm",
+        "uuuu-MM-dd HH:mm:ss", "uuuu-MM-dd HH:mm", "uuuuMMdd'T'HHmmss"};
+    private static final String[] DAY_FIRST = {"dd/MM/uuuu", "d/M/uuuu", "dd-MM-uuuu"};
+    private static final String[] MONTH_FIRST = {"MM/dd/uuuu", "M/d/uuuu", "MM-dd-uuuu"};
+    private static final String[] OTHER_DATES = {
+        "dd.MM.uuuu", "d.M.uuuu", "uuuu/MM/dd", "uuuu.MM.dd", "d MMM uuuu", "MMM d, uuuu", "d MMMM uuuu",
+        "MMMM d, uuuu"};
+    private static final String[] TIME_SUFFIXES = {" HH:mm:ss", " HH:mm"};
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Chronology<T> chronology;
+    private final Locale locale;
+    private final List<Candidate<T>> candidates;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FormatDetector(
+        Chronology<T> chronology,
+        Locale locale,
+        List<Candidate<T>> candidates
+    ) {
+        super();
+
+        this.chronology = chronology;
+        this.locale = locale;
+        this.candidates = Collections.unmodifiableList(candidates);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new format detector for calendar dates with the default candidates of given locale. </p>
+     *
+     * @param   locale      language and country setting
+     * @return  new immutable format detector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Formaterkenner f&uuml;r Kalenderdaten mit den Standardkandidaten der
+     * angegebenen Sprache. </p>
+     *
+     * @param   locale      language and country setting
+     * @return  new immutable format detector
+     */
+    public static FormatDetector<PlainDate> ofDates(Locale locale) {
+
+        Chronology<PlainDate> chronology = PlainDate.axis();
+        List<Candidate<PlainDate>> list = new ArrayList<>();
+
+        for (DisplayMode style : STYLES) {
+            add(list, chronology, locale, CalendarText.patternForDate(style, locale), PatternType.CLDR);
+        }
+
+        for (int style : SDF_STYLES) {
+            add(list, chronology, locale, DateFormat.getDateInstance(style, locale), PatternType.SIMPLE_DATE_FORMAT);
+        }
+
+        for (String pattern : ISO_DATES) {
+            add(list, chronology, locale, pattern, PatternType.CLDR);
+        }
+
+        for (String pattern : commonDates(locale)) {
+            add(list, chronology, locale, pattern, PatternType.CLDR);
+        }
+
+        return new FormatDetector<>(chronology, locale, list);
+
+    }
+
+    /**
+     * <p>Creates a new format detector for timestamps with the default candidates of given locale. </p>
+     *
+     * @param   locale      language and country setting
+     * @return  new immutable format detector
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Formaterkenner f&uuml;r Zeitstempel mit den Standardkandidaten der
+     * angegebenen Sprache. </p>
+     *
+     * @param   locale      language and country setting
+     * @return  new immutable format detector
+     */
+    public static FormatDetector<PlainTimestamp> ofTimestamps(Locale locale) {
+
+        Chronology<PlainTimestamp> chronology = PlainTimestamp.axis();
+        List<Candidate<PlainTimestamp>> list = new ArrayList<>();
+
+        // Zeitstile mit Zeitzonenangaben sind für PlainTimestamp ungeeignet
+        for (DisplayMode dateStyle : STYLES) {
+            for (DisplayMode timeStyle : TIME_STYLES) {
+                add(
+                    list,
+                    chronology,
+                    locale,
+                    CalendarText.patternForTimestamp(dateStyle, timeStyle, locale),
+                    PatternType.CLDR);
+            }
+        }
+
+        for (int dateStyle : SDF_STYLES) {
+            for (int timeStyle : SDF_TIME_STYLES) {
+                add(
+                    list,
+                    chronology,
+                    locale,
+                    DateFormat.getDateTimeInstance(dateStyle, timeStyle, locale),
+                    PatternType.SIMPLE_DATE_FORMAT);
+            }
+        }
+
+        for (String pattern : ISO_TIMESTAMPS) {
+            add(list, chronology, locale, pattern, PatternType.CLDR);
+        }
+
+        for (String pattern : commonDates(locale)) {
+            for (String suffix : TIME_SUFFIXES) {
+                add(list, chronology, locale, pattern + suffix, PatternType.CLDR);
+            }
+        }
+
+        return new FormatDetector<>(chronology, locale, list);
+
+    }
+
+    /**
+     * <p>Yields a copy of this detector with an additional candidate pattern. </p>
+     *
+     * <p>The new candidate has the lowest priority if several candidates match the same count of
+     * sampled values. A candidate which is already present will be ignored. </p>
+     *
+     * @param   pattern     format pattern
+     * @param   type        the type of the pattern to be used
+     * @return  changed copy of this detector
+     * @throws  IllegalArgumentException if resolving of pattern fails
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Erkenners mit einem zus&auml;tzlichen Kandidatenmuster. </p>
+     *
+     * <p>Der neue Kandidat hat die niedrigste Priorit&auml;t, wenn mehrere Kandidaten auf die gleiche
+     * Anzahl von Werten der Stichprobe passen. Ein schon vorhandener Kandidat wird ignoriert. </p>
+     *
+     * @param   pattern     format pattern
+     * @param   type        the type of the pattern to be used
+     * @return  changed copy of this detector
+     * @throws  IllegalArgumentException if resolving of pattern fails
+     */
+    public FormatDetector<T> withCandidate(
+        String pattern,
+        PatternType type
+    ) {
+
+        if (indexOf(this.candidates, pattern, type) >= 0) {
+            return this;
+        }
+
+        List<Candidate<T>> list = new ArrayList<>(this.candidates);
+        list.add(createCandidate(this.chronology, this.locale, pattern, type));
+        return new FormatDetector<>(this.chronology, this.locale, list);
+
+    }
+
+    /**
+     * <p>Yields the candidate patterns in the order of their priority. </p>
+     *
+     * @return  unmodifiable list of patterns
+     */
+    /*[deutsch]
+     * <p>Liefert die Kandidatenmuster in der Reihenfolge ihrer Priorit&auml;t. </p>
+     *
+     * @return  unmodifiable list of patterns
+     */
+    public List<String> getCandidates() {
+
+        List<String> patterns = new ArrayList<>(this.candidates.size());
+
+        for (Candidate<T> candidate : this.candidates) {
+            patterns.add(candidate.pattern);
+        }
+
+        return Collections.unmodifiableList(patterns);
+
+    }
+
+    /**
+     * <p>Analyzes the first hundred non-blank values of given column. </p>
+     *
+     * @param   column      column of texts to be analyzed
+     * @return  result containing the best format
+     * @throws  IllegalArgumentException if no candidate matches any sampled value
+     * @see     #analyze(Iterable, int)
+     */
+    /*[deutsch]
+     * <p>Analysiert die ersten hundert nicht-leeren Werte der angegebenen Spalte. </p>
+     *
+     * @param   column      column of texts to be analyzed
+     * @return  result containing the best format
+     * @throws  IllegalArgumentException if no candidate matches any sampled value
+     * @see     #analyze(Iterable, int)
+     */
+    public Result<T> analyze(Iterable<? extends CharSequence> column) {
+
+        return this.analyze(column, DEFAULT_SAMPLE_SIZE);
+
+    }
+
+    /**
+     * <p>Analyzes the first non-blank values of given column and locks in the best format. </p>
+     *
+     * <p>Every sampled value is trimmed and then parsed by every candidate. The candidate with most
+     * matches wins. Values which cannot be parsed by any candidate only reduce the confidence. </p>
+     *
+     * @param   column      column of texts to be analyzed
+     * @param   maxSamples  maximum count of non-blank values to be sampled
+     * @return  result containing the best format
+     * @throws  IllegalArgumentException if the sample size is not positive or if no candidate
+     *          matches any sampled value
+     */
+    /*[deutsch]
+     * <p>Analysiert die ersten nicht-leeren Werte der angegebenen Spalte und legt sich auf das
+     * beste Format fest. </p>
+     *
+     * <p>Jeder Wert der Stichprobe wird getrimmt und dann von jedem Kandidaten interpretiert. Der
+     * Kandidat mit den meisten Treffern gewinnt. Werte, die von keinem Kandidaten interpretiert
+     * werden k&ouml;nnen, verringern nur die Konfidenz. </p>
+     *
+     * @param   column      column of texts to be analyzed
+     * @param   maxSamples  maximum count of non-blank values to be sampled
+     * @return  result containing the best format
+     * @throws  IllegalArgumentException if the sample size is not positive or if no candidate
+     *          matches any sampled value
+     */
+    public Result<T> analyze(
+        Iterable<? extends CharSequence> column,
+        int maxSamples
+    ) {
+
+        if (maxSamples < 1) {
+            throw new IllegalArgumentException("Sample size must be positive: " + maxSamples);
+        }
+
+        List<String> samples = new ArrayList<>();
+
+        for (CharSequence value : column) {
+            if (samples.size() == maxSamples) {
+                break;
+            } else if (value != null) {
+                String s = value.toString().trim();
+                if (!s.isEmpty()) {
+                    samples.add(s);
+                }
+            }
+        }
+
+        int n = samples.size();
+        int count = this.candidates.size();
+        Object[][] parsed = new Object[count][];
+        int[] matches = new int[count];
+        int best = -1;
+
+        for (int i = 0; i < count; i++) {
+            ChronoFormatter<T> formatter = this.candidates.get(i).formatter;
+            Object[] values = new Object[n];
+            int hits = 0;
+            for (int j = 0; j < n; j++) {
+                values[j] = formatter.parseOrNull(samples.get(j));
+                if (values[j] != null) {
+                    hits++;
+                }
+            }
+            parsed[i] = values;
+            matches[i] = hits;
+            if ((hits > 0) && ((best == -1) || (hits > matches[best]))) {
+                best = i;
+            }
+        }
+
+        if (best == -1) {
+            throw new IllegalArgumentException("No candidate format matches the sampled values.");
+        }
+
+        // nur Kandidaten mit gleicher Trefferzahl, aber abweichenden Ergebnissen sind echte Alternativen
+        List<String> alternatives = new ArrayList<>();
+        List<Object[]> distinct = new ArrayList<>();
+        distinct.add(parsed[best]);
+
+        for (int i = 0; i < count; i++) {
+            if ((i != best) && (matches[i] == matches[best]) && isNew(distinct, parsed[i])) {
+                distinct.add(parsed[i]);
+                alternatives.add(this.candidates.get(i).pattern);
+            }
+        }
+
+        return new Result<>(this.candidates.get(best), n, matches[best], alternatives);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  description of content
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  description of content
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("FormatDetector[locale=");
+        sb.append(this.locale);
+        sb.append(",candidates=");
+        sb.append(this.getCandidates());
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private static String[] commonDates(Locale locale) {
+
+        // das Plattformmuster berücksichtigt auch das Land (en_GB versus en_US)
+        DateFormat platformFormat = DateFormat.getDateInstance(DateFormat.SHORT, locale);
+        String shortPattern = (
+            (platformFormat instanceof SimpleDateFormat)
+            ? ((SimpleDateFormat) platformFormat).toPattern()
+            : CalendarText.patternForDate(DisplayMode.SHORT, locale));
+        int m = shortPattern.indexOf('M');
+        int d = shortPattern.indexOf('d');
+        boolean monthFirst = ((m >= 0) && (d >= 0) && (m < d));
+
+        String[] first = (monthFirst ? MONTH_FIRST : DAY_FIRST);
+        String[] second = (monthFirst ? DAY_FIRST : MONTH_FIRST);
+        String[] result = new String[first.length + second.length + OTHER_DATES.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        System.arraycopy(OTHER_DATES, 0, result, first.length + second.length, OTHER_DATES.length);
+        return result;
+
+    }
+
+    private static boolean isNew(
+        List<Object[]> distinct,
+        Object[] values
+    ) {
+
+        for (Object[] known : distinct) {
+            if (Arrays.equals(known, values)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private static <T extends ChronoEntity<T>> void add(
+        List<Candidate<T>> list,
+        Chronology<T> chronology,
+        Locale locale,
+        DateFormat platformFormat,
+        PatternType type
+    ) {
+
+        if (platformFormat instanceof SimpleDateFormat) {
+            add(list, chronology, locale, ((SimpleDateFormat) platformFormat).toPattern(), type);
+        }
+
+    }
+
+    private static <T extends ChronoEntity<T>> void add(
+        List<Candidate<T>> list,
+        Chronology<T> chronology,
+        Locale locale,
+        String pattern,
+        PatternType type
+    ) {
+
+        if (indexOf(list, pattern, type) >= 0) {
+            return;
+        }
+
+        try {
+            list.add(createCandidate(chronology, locale, pattern, type));
+        } catch (IllegalArgumentException iae) {
+            // Formatmuster ohne Unterstützung (zum Beispiel mit Zeitzonensymbolen) werden übergangen
+        }
+
+    }
+
+    private static <T extends ChronoEntity<T>> int indexOf(
+        List<Candidate<T>> list,
+        String pattern,
+        PatternType type
+    ) {
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Candidate<T> candidate = list.get(i);
+            if (candidate.pattern.equals(pattern) && (candidate.type == type)) {
+                return i;
+            }
+        }
+
+        return -1;
+
+    }
+
+    // bewußt ohne den globalen Formatierer-Cache, damit die Kandidaten ihn nicht verdrängen
+    private static <T extends ChronoEntity<T>> Candidate<T> createCandidate(
+        Chronology<T> chronology,
+        Locale locale,
+        String pattern,
+        PatternType type
+    ) {
+
+        ChronoFormatter<T> formatter;
+
+        try {
+            formatter = ChronoFormatter.setUp(chronology, locale).addPattern(pattern, type).build();
+        } catch (IllegalStateException ise) {
+            throw new IllegalArgumentException(ise);
+        }
+
+        return new Candidate<>(pattern, type, formatter.with(Leniency.STRICT));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Candidate<T extends ChronoEntity<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final PatternType type;
+        private final ChronoFormatter<T> formatter;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Candidate(
+            String pattern,
+            PatternType type,
+            ChronoFormatter<T> formatter
+        ) {
+            super();
+
+            this.pattern = pattern;
+            this.type = type;
+            this.formatter = formatter;
+
+        }
+
+    }
+
+    /**
+     * <p>Result of a column analysis with the locked-in format. </p>
+     *
+     * @param   <T> generic type of chronological entity
+     * @since   4.19
+     * @doctags.concurrency {immutable}
+     */
+    /*[deutsch]
+     * <p>Ergebnis einer Spaltenanalyse mit dem festgelegten Format. </p>
+     *
+     * @param   <T> generic type of chronological entity
+     * @since   4.19
+     * @doctags.concurrency {immutable}
+     */
+    public static final class Result<T extends ChronoEntity<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Candidate<T> best;
+        private final int sampleSize;
+        private final int matchCount;
+        private final List<String> alternatives;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Result(
+            Candidate<T> best,
+            int sampleSize,
+            int matchCount,
+            List<String> alternatives
+        ) {
+            super();
+
+            this.best = best;
+            this.sampleSize = sampleSize;
+            this.matchCount = matchCount;
+            this.alternatives = Collections.unmodifiableList(alternatives);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the locked-in strict formatter. </p>
+         *
+         * @return  ChronoFormatter
+         */
+        /*[deutsch]
+         * <p>Liefert den festgelegten strikten Formatierer. </p>
+         *
+         * @return  ChronoFormatter
+         */
+        public ChronoFormatter<T> getFormatter() {
+
+            return this.best.formatter;
+
+        }
+
+        /**
+         * <p>Yields the pattern of the locked-in formatter. </p>
+         *
+         * @return  format pattern
+         */
+        /*[deutsch]
+         * <p>Liefert das Formatmuster des festgelegten Formatierers. </p>
+         *
+         * @return  format pattern
+         */
+        public String getPattern() {
+
+            return this.best.pattern;
+
+        }
+
+        /**
+         * <p>Yields the pattern type of the locked-in formatter. </p>
+         *
+         * @return  PatternType
+         */
+        /*[deutsch]
+         * <p>Liefert den Mustertyp des festgelegten Formatierers. </p>
+         *
+         * @return  PatternType
+         */
+        public PatternType getPatternType() {
+
+            return this.best.type;
+
+        }
+
+        /**
+         * <p>Yields the count of non-blank values which were sampled. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der nicht-leeren Werte in der Stichprobe. </p>
+         *
+         * @return  int
+         */
+        public int getSampleSize() {
+
+            return this.sampleSize;
+
+        }
+
+        /**
+         * <p>Yields the count of sampled values which could be parsed by the locked-in formatter. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Werte der Stichprobe, die der festgelegte Formatierer
+         * interpretieren konnte. </p>
+         *
+         * @return  int
+         */
+        public int getMatchCount() {
+
+            return this.matchCount;
+
+        }
+
+        /**
+         * <p>Yields the ratio of matched values to sampled values in the range {@code (0.0, 1.0]}. </p>
+         *
+         * @return  double
+         */
+        /*[deutsch]
+         * <p>Liefert das Verh&auml;ltnis der passenden Werte zu allen Werten der Stichprobe im Bereich
+         * {@code (0.0, 1.0]}. </p>
+         *
+         * @return  double
+         */
+        public double getConfidence() {
+
+            return ((double) this.matchCount) / this.sampleSize;
+
+        }
+
+        /**
+         * <p>Queries if other candidates match as many values but yield different results. </p>
+         *
+         * <p>Typical example is a column with dates like &quot;01/02/2016&quot; where no day is greater
+         * than twelve so the order of day and month cannot be determined by the data alone. </p>
+         *
+         * @return  {@code true} if the locked-in format is only chosen by priority else {@code false}
+         * @see     #getAlternatives()
+         */
+        /*[deutsch]
+         * <p>Ermittelt, ob andere Kandidaten auf genausoviele Werte passen, aber andere Ergebnisse
+         * liefern. </p>
+         *
+         * <p>Typisches Beispiel ist eine Spalte mit Datumsangaben wie &quot;01/02/2016&quot;, in der kein
+         * Tag gr&ouml;&szlig;er als zw&ouml;lf ist, so da&szlig; die Reihenfolge von Tag und Monat nicht
+         * allein aus den Daten bestimmt werden kann. </p>
+         *
+         * @return  {@code true} if the locked-in format is only chosen by priority else {@code false}
+         * @see     #getAlternatives()
+         */
+        public boolean isAmbiguous() {
+
+            return !this.alternatives.isEmpty();
+
+        }
+
+        /**
+         * <p>Yields the patterns of other candidates which match as many values but yield different results. </p>
+         *
+         * @return  unmodifiable list of patterns (empty if not ambiguous)
+         * @see     #isAmbiguous()
+         */
+        /*[deutsch]
+         * <p>Liefert die Formatmuster anderer Kandidaten, die auf genausoviele Werte passen, aber andere
+         * Ergebnisse liefern. </p>
+         *
+         * @return  unmodifiable list of patterns (empty if not ambiguous)
+         * @see     #isAmbiguous()
+         */
+        public List<String> getAlternatives() {
+
+            return this.alternatives;
+
+        }
+
+        /**
+         * <p>Parses given value of the analyzed column with the locked-in formatter. </p>
+         *
+         * @param   value       text to be parsed (will be trimmed)
+         * @return  parse result or {@code null} if the value is blank or cannot be parsed
+         */
+        /*[deutsch]
+         * <p>Interpretiert den angegebenen Wert der analysierten Spalte mit dem festgelegten Formatierer. </p>
+         *
+         * @param   value       text to be parsed (will be trimmed)
+         * @return  parse result or {@code null} if the value is blank or cannot be parsed
+         */
+        public T parse(CharSequence value) {
+
+            return this.best.formatter.parseOrNull(value.toString().trim());
+
+        }
+
+        /**
+         * <p>For debugging purposes. </p>
+         *
+         * @return  description of content
+         */
+        /*[deutsch]
+         * <p>F&uuml;r Debugging-Zwecke. </p>
+         *
+         * @return  description of content
+         */
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("FormatDetector.Result[pattern=");
+            sb.append(this.best.pattern);
+            sb.append(",type=");
+            sb.append(this.best.type);
+            sb.append(",matches=");
+            sb.append(this.matchCount);
+            sb.append('/');
+            sb.append(this.sampleSize);
+            sb.append(",alternatives=");
+            sb.append(this.alternatives);
+            sb.append(']');
+            return sb.toString();
+
+        }
+
+    }
+
+}
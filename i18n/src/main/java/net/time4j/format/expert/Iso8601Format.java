@@ -26,7 +26,9 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoCondition;
 import net.time4j.engine.ChronoDisplay;
@@ -36,6 +38,7 @@ import net.time4j.engine.ChronoFunction;
 import net.time4j.format.Attributes;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.Leniency;
+import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
@@ -347,6 +350,8 @@ public class Iso8601Format {
 
     private static final Map<Object, ChronoFormatter<PlainDate>> DATE_PARSERS;
 
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000};
+
     static {
         BASIC_CALENDAR_DATE = calendarFormat(false);
         EXTENDED_CALENDAR_DATE = calendarFormat(true);
@@ -693,7 +698,15 @@ LOOP:
             builder.addLiteral('-');
         }
 
-        return builder.addFixedInteger(DAY_OF_MONTH, 2).endSection().build().with(Leniency.STRICT);
+        return builder
+            .addFixedInteger(DAY_OF_MONTH, 2)
+            .endSection()
+            .build()
+            .with(Leniency.STRICT)
+            .withSpecialization(
+                new DateSpecialization(
+                    extended ? IsoDateStyle.EXTENDED_CALENDAR_DATE : IsoDateStyle.BASIC_CALENDAR_DATE,
+                    extended));
 
     }
 
@@ -709,7 +722,15 @@ LOOP:
             builder.addLiteral('-');
         }
 
-        return builder.addFixedInteger(DAY_OF_YEAR, 3).endSection().build().with(Leniency.STRICT);
+        return builder
+            .addFixedInteger(DAY_OF_YEAR, 3)
+            .endSection()
+            .build()
+            .with(Leniency.STRICT)
+            .withSpecialization(
+                new DateSpecialization(
+                    extended ? IsoDateStyle.EXTENDED_ORDINAL_DATE : IsoDateStyle.BASIC_ORDINAL_DATE,
+                    extended));
 
     }
 
@@ -732,7 +753,15 @@ LOOP:
             builder.addLiteral('-');
         }
 
-        return builder.addFixedNumerical(DAY_OF_WEEK, 1).endSection().build().with(Leniency.STRICT);
+        return builder
+            .addFixedNumerical(DAY_OF_WEEK, 1)
+            .endSection()
+            .build()
+            .with(Leniency.STRICT)
+            .withSpecialization(
+                new DateSpecialization(
+                    extended ? IsoDateStyle.EXTENDED_WEEK_DATE : IsoDateStyle.BASIC_WEEK_DATE,
+                    extended));
 
     }
 
@@ -744,7 +773,7 @@ LOOP:
             PlainDate.COMPONENT,
             generalDatePrinter(extended),
             generalDateParser(extended));
-        return builder.build().with(Leniency.STRICT);
+        return builder.build().with(Leniency.STRICT).withSpecialization(new DateSpecialization(null, extended));
 
     }
 
@@ -757,7 +786,7 @@ LOOP:
             ChronoFormatter.setUp(PlainTime.class, Locale.ROOT);
         builder.skipUnknown(c -> (c == 'T'), 1);
         addWallTime(builder, extended, decimalStyle);
-        return builder.build().with(Leniency.STRICT);
+        return builder.build().with(Leniency.STRICT).withSpecialization(new TimeSpecialization(extended, decimalStyle));
 
     }
 
@@ -774,7 +803,10 @@ LOOP:
             generalDateParser(extended));
         builder.addLiteral('T');
         addWallTime(builder, extended, decimalStyle);
-        return builder.build().with(Leniency.STRICT);
+        return builder
+            .build()
+            .with(Leniency.STRICT)
+            .withSpecialization(new TimestampSpecialization(extended, decimalStyle));
 
     }
 
@@ -793,7 +825,11 @@ LOOP:
         );
 
         // here timezone offset is needed for changing Moment to ZonalDateTime when printing
-        return builder.build().with(Leniency.STRICT).withTimezone(ZonalOffset.UTC);
+        return builder
+            .build()
+            .with(Leniency.STRICT)
+            .withTimezone(ZonalOffset.UTC)
+            .withSpecialization(new MomentSpecialization(extended, decimalStyle));
 
     }
 
@@ -1010,6 +1046,146 @@ LOOP:
 
     }
 
+    private static boolean isPrintable(
+        PlainDate date,
+        IsoDateStyle style
+    ) {
+
+        int year;
+
+        switch (style) {
+            case BASIC_WEEK_DATE:
+            case EXTENDED_WEEK_DATE:
+                year = date.getInt(YEAR_OF_WEEKDATE);
+                break;
+            default:
+                year = date.getYear();
+        }
+
+        return ((year >= 0) && (year <= 9999));
+
+    }
+
+    private static void printDate(
+        PlainDate date,
+        IsoDateStyle style,
+        Appendable buffer
+    ) throws IOException {
+
+        boolean extended = style.isExtended();
+
+        switch (style) {
+            case BASIC_CALENDAR_DATE:
+            case EXTENDED_CALENDAR_DATE:
+                printDigits(date.getYear(), 4, buffer);
+                if (extended) {
+                    buffer.append('-');
+                }
+                printDigits(date.getMonth(), 2, buffer);
+                if (extended) {
+                    buffer.append('-');
+                }
+                printDigits(date.getDayOfMonth(), 2, buffer);
+                break;
+            case BASIC_ORDINAL_DATE:
+            case EXTENDED_ORDINAL_DATE:
+                printDigits(date.getYear(), 4, buffer);
+                if (extended) {
+                    buffer.append('-');
+                }
+                printDigits(date.getDayOfYear(), 3, buffer);
+                break;
+            case BASIC_WEEK_DATE:
+            case EXTENDED_WEEK_DATE:
+                printDigits(date.getInt(YEAR_OF_WEEKDATE), 4, buffer);
+                if (extended) {
+                    buffer.append('-');
+                }
+                buffer.append('W');
+                printDigits(date.getInt(Weekmodel.ISO.weekOfYear()), 2, buffer);
+                if (extended) {
+                    buffer.append('-');
+                }
+                printDigits(date.getDayOfWeek().getValue(), 1, buffer);
+                break;
+            default:
+                throw new UnsupportedOperationException(style.name());
+        }
+
+    }
+
+    private static void printTime(
+        PlainTime time,
+        boolean extended,
+        char decimalSeparator,
+        Appendable buffer
+    ) throws IOException {
+
+        printDigits(time.getHour(), 2, buffer);
+
+        if (extended) {
+            buffer.append(':');
+        }
+
+        printDigits(time.getMinute(), 2, buffer);
+        int second = time.getSecond();
+        int nano = time.getNanosecond();
+
+        if ((second > 0) || (nano > 0)) {
+            if (extended) {
+                buffer.append(':');
+            }
+
+            printDigits(second, 2, buffer);
+
+            if (nano > 0) {
+                buffer.append(decimalSeparator);
+                int digits = 9;
+
+                while ((nano % 10) == 0) {
+                    nano /= 10;
+                    digits--;
+                }
+
+                printDigits(nano, digits, buffer);
+            }
+        }
+
+    }
+
+    private static boolean printTimestamp(
+        PlainTimestamp tsp,
+        boolean extended,
+        char decimalSeparator,
+        Appendable buffer
+    ) throws IOException {
+
+        PlainDate date = tsp.getCalendarDate();
+        IsoDateStyle style = (extended ? IsoDateStyle.EXTENDED_CALENDAR_DATE : IsoDateStyle.BASIC_CALENDAR_DATE);
+
+        if (isPrintable(date, style)) {
+            printDate(date, style, buffer);
+            buffer.append('T');
+            printTime(tsp.getWallTime(), extended, decimalSeparator, buffer);
+            return true;
+        }
+
+        return false;
+
+    }
+
+    private static void printDigits(
+        int value,
+        int count,
+        Appendable buffer
+    ) throws IOException {
+
+        for (int divisor = POWERS_OF_TEN[count - 1]; divisor > 0; divisor /= 10) {
+            buffer.append((char) ('0' + ((value / divisor) % 10)));
+        }
+
+    }
+
     private static void fill(
         Map<Object, ChronoFormatter<PlainDate>> map,
         ChronoFormatter<PlainDate> parser
@@ -1054,4 +1230,529 @@ LOOP:
 
     }
 
+    private static class DateSpecialization
+        implements SpecializedFormat<PlainDate> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IsoDateStyle style; // null means any date style when parsing
+        private final boolean extended;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateSpecialization(
+            IsoDateStyle style,
+            boolean extended
+        ) {
+            super();
+
+            this.style = style;
+            this.extended = extended;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate parse(
+            CharSequence text,
+            ParseLog status,
+            boolean trailing
+        ) {
+
+            IsoCursor cursor = new IsoCursor(text, status.getPosition());
+            PlainDate date = cursor.parseDate(this.style, this.extended);
+
+            if ((date == null) || !cursor.isFinished(trailing)) {
+                return null;
+            }
+
+            status.setPosition(cursor.getPosition());
+            return date;
+
+        }
+
+        @Override
+        public boolean print(
+            PlainDate formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            IsoDateStyle ds = this.style;
+
+            if (ds == null) {
+                ds = (this.extended ? IsoDateStyle.EXTENDED_CALENDAR_DATE : IsoDateStyle.BASIC_CALENDAR_DATE);
+            }
+
+            if ((formattable == null) || !isPrintable(formattable, ds)) {
+                return false;
+            }
+
+            printDate(formattable, ds, buffer);
+            return true;
+
+        }
+
+    }
+
+    private static class TimeSpecialization
+        implements SpecializedFormat<PlainTime> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean extended;
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimeSpecialization(
+            boolean extended,
+            IsoDecimalStyle decimalStyle
+        ) {
+            super();
+
+            this.extended = extended;
+            this.decimalSeparator = ((decimalStyle == IsoDecimalStyle.DOT) ? '.' : ',');
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTime parse(
+            CharSequence text,
+            ParseLog status,
+            boolean trailing
+        ) {
+
+            IsoCursor cursor = new IsoCursor(text, status.getPosition());
+            cursor.skip('T');
+            PlainTime time = cursor.parseTime(this.extended);
+
+            if ((time == null) || !cursor.isFinished(trailing)) {
+                return null;
+            }
+
+            status.setPosition(cursor.getPosition());
+            return time;
+
+        }
+
+        @Override
+        public boolean print(
+            PlainTime formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable == null) {
+                return false;
+            }
+
+            printTime(formattable, this.extended, this.decimalSeparator, buffer);
+            return true;
+
+        }
+
+    }
+
+    private static class TimestampSpecialization
+        implements SpecializedFormat<PlainTimestamp> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean extended;
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampSpecialization(
+            boolean extended,
+            IsoDecimalStyle decimalStyle
+        ) {
+            super();
+
+            this.extended = extended;
+            this.decimalSeparator = ((decimalStyle == IsoDecimalStyle.DOT) ? '.' : ',');
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp parse(
+            CharSequence text,
+            ParseLog status,
+            boolean trailing
+        ) {
+
+            IsoCursor cursor = new IsoCursor(text, status.getPosition());
+            PlainDate date = cursor.parseDate(null, this.extended);
+
+            if ((date == null) || !cursor.skip('T')) {
+                return null;
+            }
+
+            PlainTime time = cursor.parseTime(this.extended);
+
+            if ((time == null) || !cursor.isFinished(trailing)) {
+                return null;
+            }
+
+            status.setPosition(cursor.getPosition());
+            return PlainTimestamp.of(date, time);
+
+        }
+
+        @Override
+        public boolean print(
+            PlainTimestamp formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable == null) {
+                return false;
+            }
+
+            return printTimestamp(formattable, this.extended, this.decimalSeparator, buffer);
+
+        }
+
+    }
+
+    private static class MomentSpecialization
+        implements SpecializedFormat<Moment> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean extended;
+        private final char decimalSeparator;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentSpecialization(
+            boolean extended,
+            IsoDecimalStyle decimalStyle
+        ) {
+            super();
+
+            this.extended = extended;
+            this.decimalSeparator = ((decimalStyle == IsoDecimalStyle.DOT) ? '.' : ',');
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Moment parse(
+            CharSequence text,
+            ParseLog status,
+            boolean trailing
+        ) {
+
+            IsoCursor cursor = new IsoCursor(text, status.getPosition());
+            PlainDate date = cursor.parseDate(null, this.extended);
+
+            if ((date == null) || !cursor.skip('T')) {
+                return null;
+            }
+
+            PlainTime time = cursor.parseTime(this.extended);
+
+            if (time == null) {
+                return null;
+            }
+
+            ZonalOffset offset = cursor.parseOffset(this.extended);
+
+            if ((offset == null) || !cursor.isFinished(trailing)) {
+                return null;
+            }
+
+            status.setPosition(cursor.getPosition());
+            return PlainTimestamp.of(date, time).at(offset);
+
+        }
+
+        @Override
+        public boolean print(
+            Moment formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if ((formattable == null) || formattable.isLeapSecond()) {
+                return false;
+            }
+
+            PlainTimestamp tsp = formattable.toZonalTimestamp(ZonalOffset.UTC);
+
+            if (printTimestamp(tsp, this.extended, this.decimalSeparator, buffer)) {
+                buffer.append('Z');
+                return true;
+            }
+
+            return false;
+
+        }
+
+    }
+
+    /**
+     * <p>Liest nur die h&auml;ufigen Formen von ISO-8601 (vierstellige Jahre ohne Vorzeichen,
+     * Stunden bis 23, keine Schaltsekunden) und liefert sonst {@code null}. </p>
+     */
+    private static class IsoCursor {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharSequence text;
+        private final int end;
+        private int pos;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IsoCursor(
+            CharSequence text,
+            int pos
+        ) {
+            super();
+
+            this.text = text;
+            this.end = text.length();
+            this.pos = pos;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        int getPosition() {
+
+            return this.pos;
+
+        }
+
+        boolean isFinished(boolean trailing) {
+
+            return (trailing || (this.pos == this.end));
+
+        }
+
+        boolean skip(char c) {
+
+            if ((this.pos < this.end) && (this.text.charAt(this.pos) == c)) {
+                this.pos++;
+                return true;
+            }
+
+            return false;
+
+        }
+
+        PlainDate parseDate(
+            IsoDateStyle style,
+            boolean extended
+        ) {
+
+            int year = this.digits(4);
+
+            if ((year < 0) || (extended && !this.skip('-'))) {
+                return null;
+            }
+
+            IsoDateStyle ds = style;
+
+            if (ds == null) {
+                ds = this.detect(extended);
+            }
+
+            switch (ds) {
+                case BASIC_CALENDAR_DATE:
+                case EXTENDED_CALENDAR_DATE:
+                    int month = this.digits(2);
+                    if ((month < 0) || (extended && !this.skip('-'))) {
+                        return null;
+                    }
+                    int dom = this.digits(2);
+                    if (
+                        (month == 0) || (dom <= 0) || (month > 12)
+                        || (dom > GregorianMath.getLengthOfMonth(year, month))
+                    ) {
+                        return null;
+                    }
+                    return PlainDate.of(year, month, dom);
+                case BASIC_ORDINAL_DATE:
+                case EXTENDED_ORDINAL_DATE:
+                    int doy = this.digits(3);
+                    if ((doy <= 0) || (doy > (GregorianMath.isLeapYear(year) ? 366 : 365))) {
+                        return null;
+                    }
+                    return PlainDate.of(year, doy);
+                case BASIC_WEEK_DATE:
+                case EXTENDED_WEEK_DATE:
+                    if (!this.skip('W')) {
+                        return null;
+                    }
+                    int woy = this.digits(2);
+                    if ((woy < 0) || (extended && !this.skip('-'))) {
+                        return null;
+                    }
+                    int dow = this.digits(1);
+                    if ((woy == 0) || (woy > 53) || (dow <= 0) || (dow > 7)) {
+                        return null;
+                    }
+                    try {
+                        return PlainDate.of(year, woy, Weekday.valueOf(dow));
+                    } catch (IllegalArgumentException iae) {
+                        return null; // week 53 in a short year, the generic parser will report the error
+                    }
+                default:
+                    return null;
+            }
+
+        }
+
+        PlainTime parseTime(boolean extended) {
+
+            int hour = this.digits(2);
+            int minute = 0;
+            int second = 0;
+            int nano = 0;
+
+            if ((hour < 0) || (hour > 23)) {
+                return null; // also T24:00 which is not a regular time in timestamps
+            }
+
+            if (this.hasNextPart(extended)) {
+                minute = this.digits(2);
+                if ((minute < 0) || (minute > 59)) {
+                    return null;
+                }
+                if (this.hasNextPart(extended)) {
+                    second = this.digits(2);
+                    if ((second < 0) || (second > 59)) {
+                        return null;
+                    }
+                    if ((this.pos < this.end) && isDecimalSeparator(this.text.charAt(this.pos))) {
+                        this.pos++;
+                        int count = 0;
+                        while ((this.pos < this.end) && isDigit(this.text.charAt(this.pos))) {
+                            if (count == 9) {
+                                return null;
+                            }
+                            nano = nano * 10 + (this.text.charAt(this.pos) - '0');
+                            count++;
+                            this.pos++;
+                        }
+                        if (count == 0) {
+                            return null;
+                        }
+                        for (int i = count; i < 9; i++) {
+                            nano *= 10;
+                        }
+                    }
+                }
+            }
+
+            return PlainTime.of(hour, minute, second, nano);
+
+        }
+
+        ZonalOffset parseOffset(boolean extended) {
+
+            if (this.skip('Z')) {
+                return ZonalOffset.UTC;
+            }
+
+            char sign = ((this.pos < this.end) ? this.text.charAt(this.pos) : '\u0000');
+
+            if ((sign != '+') && (sign != '-')) {
+                return null;
+            }
+
+            this.pos++;
+            int hours = this.digits(2);
+
+            if ((hours < 0) || (extended && !this.skip(':'))) {
+                return null;
+            }
+
+            int minutes = this.digits(2);
+
+            if ((minutes < 0) || (hours > 17) || (minutes > 59) || ((sign == '-') && (hours + minutes == 0))) {
+                return null;
+            }
+
+            return ZonalOffset.ofHoursMinutes(
+                ((sign == '-') ? OffsetSign.BEHIND_UTC : OffsetSign.AHEAD_OF_UTC),
+                hours,
+                minutes);
+
+        }
+
+        private IsoDateStyle detect(boolean extended) {
+
+            if ((this.pos < this.end) && (this.text.charAt(this.pos) == 'W')) {
+                return (extended ? IsoDateStyle.EXTENDED_WEEK_DATE : IsoDateStyle.BASIC_WEEK_DATE);
+            }
+
+            int count = 0;
+
+            while ((this.pos + count < this.end) && isDigit(this.text.charAt(this.pos + count))) {
+                count++;
+            }
+
+            if (extended) {
+                return ((count == 3) ? IsoDateStyle.EXTENDED_ORDINAL_DATE : IsoDateStyle.EXTENDED_CALENDAR_DATE);
+            } else {
+                return ((count == 3) ? IsoDateStyle.BASIC_ORDINAL_DATE : IsoDateStyle.BASIC_CALENDAR_DATE);
+            }
+
+        }
+
+        private boolean hasNextPart(boolean extended) {
+
+            if (extended) {
+                return this.skip(':');
+            } else {
+                return ((this.pos < this.end) && isDigit(this.text.charAt(this.pos)));
+            }
+
+        }
+
+        // yields -1 if there are not enough digits
+        private int digits(int count) {
+
+            if (this.pos + count > this.end) {
+                return -1;
+            }
+
+            int value = 0;
+
+            for (int i = 0; i < count; i++) {
+                char c = this.text.charAt(this.pos + i);
+                if (isDigit(c)) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    return -1;
+                }
+            }
+
+            this.pos += count;
+            return value;
+
+        }
+
+        private static boolean isDigit(char c) {
+
+            return ((c >= '0') && (c <= '9'));
+
+        }
+
+        private static boolean isDecimalSeparator(char c) {
+
+            return ((c == ',') || (c == '.'));
+
+        }
+
+    }
+
 }
@@ -237,16 +237,23 @@ final class LiteralProcessor
         }
 
         if (error) {
-            StringBuilder msg = new StringBuilder("Cannot parse: \"");
-            msg.append(text);
-            msg.append("\" (expected: [");
-            msg.append(literal);
-            msg.append("], found: [");
-            if (c != '\u0000') {
-                msg.append(c);
-            }
-            msg.append("])");
-            status.setError(offset, msg.toString());
+            char expected = literal;
+            char found = c;
+            status.setError(
+                offset,
+                ParseErrorCode.LITERAL_MISMATCH,
+                () -> {
+                    StringBuilder msg = new StringBuilder("Cannot parse: \"");
+                    msg.append(text);
+                    msg.append("\" (expected: [");
+                    msg.append(expected);
+                    msg.append("], found: [");
+                    if (found != '\u0000') {
+                        msg.append(found);
+                    }
+                    msg.append("])");
+                    return msg.toString();
+                });
         } else {
             status.setPosition(offset + 1);
         }
@@ -271,14 +278,19 @@ final class LiteralProcessor
         int parsedLen = subSequenceEquals(text, offset, this.multi, caseInsensitive);
 
         if (parsedLen == -1) {
-            StringBuilder msg = new StringBuilder("Cannot parse: \"");
-            msg.append(text);
-            msg.append("\" (expected: [");
-            msg.append(this.multi);
-            msg.append("], found: [");
-            msg.append(text.subSequence(offset, Math.min(offset + len, text.length())));
-            msg.append("])");
-            status.setError(offset, msg.toString());
+            status.setError(
+                offset,
+                ParseErrorCode.LITERAL_MISMATCH,
+                () -> {
+                    StringBuilder msg = new StringBuilder("Cannot parse: \"");
+                    msg.append(text);
+                    msg.append("\" (expected: [");
+                    msg.append(this.multi);
+                    msg.append("], found: [");
+                    msg.append(text.subSequence(offset, Math.min(offset + len, text.length())));
+                    msg.append("])");
+                    return msg.toString();
+                });
         } else {
             status.setPosition(offset + parsedLen);
         }
@@ -133,6 +133,8 @@ final class LocalizedGMTProcessor
             offset = getOffset(formattable, attributes);
         } else if (tzid instanceof ZonalOffset) {
             offset = (ZonalOffset) tzid;
+        } else if (formattable instanceof ZonalMomentDisplay) {
+            offset = ((ZonalMomentDisplay) formattable).getOffset();
         } else if (formattable instanceof UnixTime) {
             offset = Timezone.of(tzid).getOffset((UnixTime) formattable);
         } else {
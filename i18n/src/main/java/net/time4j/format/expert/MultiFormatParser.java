@@ -21,6 +21,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.base.Instrumentation;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoEntity;
 
@@ -261,6 +262,78 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         ParseLog status
     ) {
 
+        if (Instrumentation.isEnabled()) {
+            return ChronoFormatter.parseInstrumented(this.getChronoType(), status, () -> this.parseAll(text, status));
+        }
+
+        return this.parseAll(text, status);
+
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity starting at the specified position in parse log
+     * and reuses the internal working memory of given parse context for all trials. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information (usually {@link ParseContext#getParseLog(int)})
+     * @param   context     thread-confined parse context
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ChronoFormatter#parse(CharSequence, ParseLog, ParseContext)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text ab der angegebenen Position im Log und verwendet dabei
+     * den internen Arbeitsspeicher des angegebenen Parse-Kontexts f&uuml;r alle Versuche wieder. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information (usually {@link ParseContext#getParseLog(int)})
+     * @param   context     thread-confined parse context
+     * @return  result or {@code null} if parsing does not work
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ChronoFormatter#parse(CharSequence, ParseLog, ParseContext)
+     * @since   4.19
+     */
+    public T parse(
+        CharSequence text,
+        ParseLog status,
+        ParseContext context
+    ) {
+
+        if (Instrumentation.isEnabled()) {
+            return ChronoFormatter.parseInstrumented(
+                this.getChronoType(),
+                status,
+                () -> this.parseAll(text, status, context));
+        }
+
+        return this.parseAll(text, status, context);
+
+    }
+
+    @Override
+    public T parse(
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes
+    ) {
+
+        if (Instrumentation.isEnabled()) {
+            return ChronoFormatter.parseInstrumented(
+                this.getChronoType(),
+                status,
+                () -> this.parseAll(text, status, attributes));
+        }
+
+        return this.parseAll(text, status, attributes);
+
+    }
+
+    private T parseAll(
+        CharSequence text,
+        ParseLog status
+    ) {
+
         int start = status.getPosition();
 
         for (int i = 0; i < this.parsers.length; i++) {
@@ -276,13 +349,38 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         }
 
-        status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+        status.setError(status.getErrorIndex(), ParseErrorCode.NOT_MATCHED, () -> "Not matched by any format: " + text);
         return null;
 
     }
 
-    @Override
-    public T parse(
+    private T parseAll(
+        CharSequence text,
+        ParseLog status,
+        ParseContext context
+    ) {
+
+        int start = status.getPosition();
+
+        for (int i = 0; i < this.parsers.length; i++) {
+            status.reset(); // initialization
+            status.setPosition(start);
+
+            // Rohdaten des vorherigen Versuchs werden nicht mehr gebraucht
+            T parsed = this.parsers[i].parse(text, status, context);
+
+            if ((parsed != null) && !status.isError()) {
+                return parsed;
+            }
+
+        }
+
+        status.setError(status.getErrorIndex(), ParseErrorCode.NOT_MATCHED, () -> "Not matched by any format: " + text);
+        return null;
+
+    }
+
+    private T parseAll(
         CharSequence text,
         ParseLog status,
         AttributeQuery attributes
@@ -304,9 +402,15 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         }
 
-        status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+        status.setError(status.getErrorIndex(), ParseErrorCode.NOT_MATCHED, () -> "Not matched by any format: " + text);
         return null;
 
     }
 
+    private Class<?> getChronoType() {
+
+        return ((this.parsers.length == 0) ? Object.class : this.parsers[0].getChronology().getChronoType());
+
+    }
+
 }
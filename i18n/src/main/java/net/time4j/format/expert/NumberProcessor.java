@@ -46,6 +46,22 @@ import java.util.Set;
 class NumberProcessor<V>
     implements FormatProcessor<V> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long[] POWERS_OF_TEN;
+
+    static {
+        long[] powers = new long[19];
+        long p = 1;
+
+        for (int i = 0; i < powers.length; i++) {
+            powers[i] = p;
+            p *= 10;
+        }
+
+        POWERS_OF_TEN = powers;
+    }
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoElement<V> element;
@@ -185,21 +201,29 @@ class NumberProcessor<V>
         } else {
             Class<V> type = this.element.getType();
             boolean negative = false;
-            String digits;
+            boolean decimal = (numsys == NumberSystem.ARABIC);
+            long absValue = 0;
+            String digits = null; // nur für nicht-dezimale Zahlsysteme oder Long.MIN_VALUE
 
             if (type == Integer.class) {
                 int v = formattable.getInt((ChronoElement<Integer>) this.element);
                 negative = (v < 0);
-                digits = toNumeral(numsys, v);
+                if (decimal) {
+                    absValue = Math.abs((long) v);
+                } else {
+                    digits = toNumeral(numsys, v);
+                }
             } else if (type == Long.class) {
                 V value = formattable.get(this.element);
                 long v = Long.class.cast(value).longValue();
                 negative = (v < 0);
-                digits = (
-                    (v == Long.MIN_VALUE)
-                        ? "9223372036854775808"
-                        : Long.toString(Math.abs(v))
-                );
+                if (v == Long.MIN_VALUE) {
+                    digits = "9223372036854775808";
+                } else if (decimal) {
+                    absValue = Math.abs(v);
+                } else {
+                    digits = Long.toString(Math.abs(v));
+                }
             } else if (Enum.class.isAssignableFrom(type)) {
                 V value = formattable.get(this.element);
                 int v = -1;
@@ -218,13 +242,21 @@ class NumberProcessor<V>
                             "Enum broken: " + value + " / " + type.getName());
                     }
                 }
-                digits = toNumeral(numsys, v);
+                if (decimal) {
+                    absValue = Math.abs((long) v);
+                } else {
+                    digits = toNumeral(numsys, v);
+                }
             } else {
                 throw new IllegalArgumentException("Not formattable: " + this.element);
             }
 
-            if (numsys == NumberSystem.ARABIC) {
-                if (zeroChar != '0') {
+            // dezimale Ziffern werden ohne String-Zwischenschritt direkt geschrieben
+            boolean direct = (digits == null);
+            int count = (direct ? countDigits(absValue) : digits.length());
+
+            if (decimal) {
+                if (!direct && (zeroChar != '0')) {
                     int diff = zeroChar - '0';
                     char[] characters = digits.toCharArray();
 
@@ -234,7 +266,12 @@ class NumberProcessor<V>
 
                     digits = new String(characters);
                 }
-                if (digits.length() > this.maxDigits) {
+                if (count > this.maxDigits) {
+                    if (direct) {
+                        StringBuilder sb = new StringBuilder(count);
+                        appendDigits(sb, absValue, count, zeroChar);
+                        digits = sb.toString();
+                    }
                     throw new IllegalArgumentException(
                         "Element " + this.element.name()
                             + " cannot be printed as the formatted value " + digits
@@ -257,7 +294,7 @@ class NumberProcessor<V>
                         printed++;
                         break;
                     case SHOW_WHEN_BIG_NUMBER:
-                        if (digits.length() > this.minDigits) {
+                        if (count > this.minDigits) {
                             buffer.append('+');
                             printed++;
                         }
@@ -267,15 +304,20 @@ class NumberProcessor<V>
                 }
             }
 
-            if (numsys == NumberSystem.ARABIC) {
-                for (int i = 0, n = this.minDigits - digits.length(); i < n; i++) {
+            if (decimal) {
+                for (int i = 0, n = this.minDigits - count; i < n; i++) {
                     buffer.append(zeroChar);
                     printed++;
                 }
             }
 
-            buffer.append(digits);
-            printed += digits.length();
+            if (direct) {
+                appendDigits(buffer, absValue, count, zeroChar);
+            } else {
+                buffer.append(digits);
+            }
+
+            printed += count;
         }
 
         if (
@@ -650,6 +692,31 @@ class NumberProcessor<V>
 
     }
 
+    private static int countDigits(long absValue) {
+
+        int count = 1;
+
+        while ((count < POWERS_OF_TEN.length) && (absValue >= POWERS_OF_TEN[count])) {
+            count++;
+        }
+
+        return count;
+
+    }
+
+    private static void appendDigits(
+        Appendable buffer,
+        long absValue,
+        int count,
+        char zeroChar
+    ) throws IOException {
+
+        for (int i = count - 1; i >= 0; i--) {
+            buffer.append((char) (zeroChar + ((absValue / POWERS_OF_TEN[i]) % 10)));
+        }
+
+    }
+
     private static String toNumeral(
         NumberSystem numsys,
         int v
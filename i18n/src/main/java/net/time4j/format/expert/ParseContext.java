@@ -0,0 +1,190 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseContext.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+
+/**
+ * <p>Reusable working memory for repeated parsing in one thread. </p>
+ *
+ * <p>A parse context owns a parse log and recycles the internal containers of parsed raw values
+ * across calls of {@link ChronoFormatter#parse(CharSequence, ParseLog, ParseContext)} or
+ * {@link MultiFormatParser#parse(CharSequence, ParseLog, ParseContext)}. This reduces the
+ * garbage produced by high-rate parsing. Example: </p>
+ *
+ * <pre>
+ *  static final ThreadLocal&lt;ParseContext&gt; CONTEXT = ThreadLocal.withInitial(ParseContext::new);
+ *
+ *  PlainDate parse(String text) {
+ *      ParseContext context = CONTEXT.get();
+ *      ParseLog plog = context.getParseLog(0);
+ *      PlainDate date = FORMATTER.parse(text, plog, context);
+ *      if (date == null) {
+ *          throw new IllegalArgumentException(plog.getErrorMessage());
+ *      }
+ *      return date;
+ *  }
+ * </pre>
+ *
+ * <p>Important: The raw values of a parse log ({@link ParseLog#getRawValues()}) which were
+ * obtained with a parse context are only valid until the next call with the same context. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.19
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Arbeitsspeicher f&uuml;r wiederholtes Parsen in einem Thread. </p>
+ *
+ * <p>Ein Parse-Kontext besitzt ein eigenes Parse-Log und recycelt die internen Beh&auml;lter
+ * der interpretierten Rohdaten &uuml;ber mehrere Aufrufe von
+ * {@link ChronoFormatter#parse(CharSequence, ParseLog, ParseContext)} oder
+ * {@link MultiFormatParser#parse(CharSequence, ParseLog, ParseContext)} hinweg. So wird
+ * weniger Speicherm&uuml;ll beim massenhaften Parsen erzeugt. Beispiel: </p>
+ *
+ * <pre>
+ *  static final ThreadLocal&lt;ParseContext&gt; CONTEXT = ThreadLocal.withInitial(ParseContext::new);
+ *
+ *  PlainDate parse(String text) {
+ *      ParseContext context = CONTEXT.get();
+ *      ParseLog plog = context.getParseLog(0);
+ *      PlainDate date = FORMATTER.parse(text, plog, context);
+ *      if (date == null) {
+ *          throw new IllegalArgumentException(plog.getErrorMessage());
+ *      }
+ *      return date;
+ *  }
+ * </pre>
+ *
+ * <p>Wichtig: Die Rohdaten eines Parse-Logs ({@link ParseLog#getRawValues()}), die mit Hilfe
+ * eines Parse-Kontexts gewonnen wurden, sind nur bis zum n&auml;chsten Aufruf mit demselben
+ * Kontext g&uuml;ltig. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.19
+ * @doctags.concurrency {mutable}
+ */
+public final class ParseContext {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_POOL_SIZE = 16;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ParseLog log;
+    private final Deque<ParsedValues> freeIndexed;
+    private final Deque<ParsedValues> freeStandard;
+    private final List<ParsedValues> used;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new parse context which should be confined to one thread. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Parse-Kontext, der nur in einem Thread benutzt werden sollte. </p>
+     */
+    public ParseContext() {
+        super();
+
+        this.log = new ParseLog();
+        this.freeIndexed = new ArrayDeque<>();
+        this.freeStandard = new ArrayDeque<>();
+        this.used = new ArrayList<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Resets and yields the parse log owned by this context. </p>
+     *
+     * @param   offset      start position
+     * @return  reset parse log (always the same instance)
+     * @throws  IllegalArgumentException if the start position is negative
+     */
+    /*[deutsch]
+     * <p>Setzt das Parse-Log dieses Kontexts zur&uuml;ck und liefert es. </p>
+     *
+     * @param   offset      start position
+     * @return  reset parse log (always the same instance)
+     * @throws  IllegalArgumentException if the start position is negative
+     */
+    public ParseLog getParseLog(int offset) {
+
+        this.log.reset();
+        this.log.setPosition(offset);
+        return this.log;
+
+    }
+
+    /**
+     * <p>Liefert einen leeren Beh&auml;lter f&uuml;r Rohdaten, wenn m&ouml;glich recycelt. </p>
+     *
+     * @param   expectedCountOfElements     How many elements to be expected?
+     * @param   indexable                   Are only indexable elements used?
+     * @return  empty parsed values
+     */
+    ParsedValues obtain(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        Deque<ParsedValues> free = (indexable ? this.freeIndexed : this.freeStandard);
+        ParsedValues values = free.poll();
+
+        if (values == null) {
+            values = new ParsedValues(expectedCountOfElements, indexable);
+        } else {
+            values.recycle(expectedCountOfElements);
+        }
+
+        if (this.used.size() < MAX_POOL_SIZE) {
+            this.used.add(values);
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Gibt alle seit dem letzten Aufruf vergebenen Beh&auml;lter zur Wiederverwendung frei. </p>
+     *
+     * <p>Darf nur am Anfang eines &auml;u&szlig;eren Parse-Vorgangs aufgerufen werden. </p>
+     */
+    void recycle() {
+
+        for (int i = 0, n = this.used.size(); i < n; i++) {
+            ParsedValues values = this.used.get(i);
+            (values.isIndexMode() ? this.freeIndexed : this.freeStandard).push(values);
+        }
+
+        this.used.clear();
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2015 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseErrorCode.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+
+/**
+ * <p>Categorizes the error of a failed parsing process. </p>
+ *
+ * <p>The category is always recorded by a {@link ParseLog} and can be evaluated without
+ * building the (possibly expensive) error message. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     ParseLog#getErrorCode()
+ * @since   4.19
+ */
+/*[deutsch]
+ * <p>Kategorisiert den Fehler eines fehlgeschlagenen Parse-Vorgangs. </p>
+ *
+ * <p>Die Kategorie wird von einem {@link ParseLog} immer aufgezeichnet und kann ausgewertet
+ * werden, ohne die (m&ouml;glicherweise teure) Fehlermeldung zu erzeugen. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     ParseLog#getErrorCode()
+ * @since   4.19
+ */
+public enum ParseErrorCode {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>A single format element could not be parsed (default category, also used by external parsers). </p>
+     */
+    /*[deutsch]
+     * <p>Ein einzelnes Formatelement konnte nicht interpretiert werden (Standardkategorie, auch f&uuml;r externe Parser). </p>
+     */
+    UNPARSEABLE_ELEMENT,
+
+    /**
+     * <p>The text does not contain an expected literal. </p>
+     */
+    /*[deutsch]
+     * <p>Der Text enth&auml;lt nicht ein erwartetes Literal. </p>
+     */
+    LITERAL_MISMATCH,
+
+    /**
+     * <p>The same element was parsed with different values. </p>
+     */
+    /*[deutsch]
+     * <p>Das gleiche Element wurde mit verschiedenen Werten interpretiert. </p>
+     */
+    AMBIVALENT_VALUE,
+
+    /**
+     * <p>There are unparsed trailing characters which are not permitted. </p>
+     */
+    /*[deutsch]
+     * <p>Es gibt nicht interpretierte und nicht erlaubte Zeichen am Ende. </p>
+     */
+    TRAILING_CHARACTERS,
+
+    /**
+     * <p>The parsed raw values could not be resolved or converted to the target type. </p>
+     */
+    /*[deutsch]
+     * <p>Die interpretierten Rohdaten konnten nicht aufgel&ouml;st oder in den Zieltyp umgewandelt werden. </p>
+     */
+    CONVERSION_FAILED,
+
+    /**
+     * <p>The parsed raw values were rejected by a validation. </p>
+     */
+    /*[deutsch]
+     * <p>Die interpretierten Rohdaten wurden von einer Validierung zur&uuml;ckgewiesen. </p>
+     */
+    VALIDATION_FAILED,
+
+    /**
+     * <p>The parsed raw values are not sufficient for creating the target type. </p>
+     */
+    /*[deutsch]
+     * <p>Die interpretierten Rohdaten reichen nicht aus, um den Zieltyp zu erzeugen. </p>
+     */
+    INSUFFICIENT_DATA,
+
+    /**
+     * <p>A global timestamp could not be determined due to missing timezone or offset. </p>
+     */
+    /*[deutsch]
+     * <p>Ein globaler Zeitstempel konnte mangels Zeitzone oder Offset nicht bestimmt werden. </p>
+     */
+    MISSING_TIMEZONE,
+
+    /**
+     * <p>The strict consistency check found a conflict between text and result. </p>
+     */
+    /*[deutsch]
+     * <p>Die strikte Konsistenzpr&uuml;fung fand einen Widerspruch zwischen Text und Ergebnis. </p>
+     */
+    INCONSISTENT_DATA,
+
+    /**
+     * <p>None of the formats of a {@code MultiFormatParser} matched the text. </p>
+     */
+    /*[deutsch]
+     * <p>Keines der Formate eines {@code MultiFormatParser} pa&szlig;te zum Text. </p>
+     */
+    NOT_MATCHED;
+
+}
@@ -24,6 +24,7 @@ package net.time4j.format.expert;
 import net.time4j.engine.ChronoEntity;
 
 import java.text.ParsePosition;
+import java.util.function.Supplier;
 
 
 /**
@@ -54,9 +55,14 @@ public class ParseLog {
 
     private ParsePosition pp;
     private String errorMessage;
+    private ParseErrorCode errorCode;
+    private Supplier<String> deferredMessage;
+    private boolean lazyMessages;
     private ParsedValues rawValues;
+    private Supplier<ParsedValues> deferredValues;
     private Boolean daylightSaving;
     private boolean warning;
+    private ParseContext context;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -98,9 +104,13 @@ public class ParseLog {
 
         this.pp = new ParsePosition(offset);
         this.errorMessage = "";
+        this.errorCode = null;
+        this.deferredMessage = null;
+        this.lazyMessages = false;
         this.rawValues = null;
         this.daylightSaving = null;
         this.warning = false;
+        this.context = null;
 
     }
 
@@ -120,9 +130,13 @@ public class ParseLog {
         pp.setErrorIndex(-1);
         this.pp = pp;
         this.errorMessage = "";
+        this.errorCode = null;
+        this.deferredMessage = null;
+        this.lazyMessages = false;
         this.rawValues = null;
         this.daylightSaving = null;
         this.warning = false;
+        this.context = null;
 
     }
 
@@ -196,10 +210,94 @@ public class ParseLog {
      */
     public String getErrorMessage() {
 
+        if (this.deferredMessage != null) {
+            this.errorMessage = this.deferredMessage.get();
+            this.deferredMessage = null;
+        }
+
         return this.errorMessage;
 
     }
 
+    /**
+     * <p>Returns the category of the current error. </p>
+     *
+     * <p>In contrast to the error message, the category is always available without any
+     * extra costs. </p>
+     *
+     * @return  error category or {@code null} if there is no error
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Liefert die Kategorie des aktuellen Fehlers. </p>
+     *
+     * <p>Im Unterschied zur Fehlermeldung ist die Kategorie immer ohne Zusatzkosten
+     * verf&uuml;gbar. </p>
+     *
+     * @return  error category or {@code null} if there is no error
+     * @since   4.19
+     */
+    public ParseErrorCode getErrorCode() {
+
+        return (this.isError() ? this.errorCode : null);
+
+    }
+
+    /**
+     * <p>Queries if error messages are only built on demand. </p>
+     *
+     * @return  boolean
+     * @see     #setLazyMessages(boolean)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Werden Fehlermeldungen erst bei Bedarf erzeugt? </p>
+     *
+     * @return  boolean
+     * @see     #setLazyMessages(boolean)
+     * @since   4.19
+     */
+    public boolean isLazyMessages() {
+
+        return this.lazyMessages;
+
+    }
+
+    /**
+     * <p>Determines if error messages of the standard format engine shall only be built on demand. </p>
+     *
+     * <p>If enabled then the parser will only record the error index and the error code
+     * ({@link #getErrorCode()}) but postpone building the error message until the method
+     * {@link #getErrorMessage()} is called. This is useful for bulk parsing of input with a
+     * high rate of invalid data where the message is rarely needed. Attention: The lazily built
+     * message may refer to the parsed text and the raw values, so the message should be requested
+     * before the text or the raw values are modified or the associated {@link ParseContext} is
+     * reused. This setting survives calls of {@link #reset()}. </p>
+     *
+     * @param   lazy    {@code true} if error messages shall be built on demand else {@code false}
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Legt fest, ob Fehlermeldungen der Standard-Format-Engine erst bei Bedarf erzeugt werden. </p>
+     *
+     * <p>Wenn aktiviert, zeichnet der Parser nur den Fehlerindex und den Fehlercode
+     * ({@link #getErrorCode()}) auf, erzeugt die Fehlermeldung aber erst, wenn die Methode
+     * {@link #getErrorMessage()} aufgerufen wird. Das ist beim massenhaften Parsen von Eingaben
+     * mit einem hohen Anteil ung&uuml;ltiger Daten n&uuml;tzlich, wenn die Meldung selten gebraucht
+     * wird. Achtung: Die sp&auml;t erzeugte Meldung kann sich auf den interpretierten Text und die
+     * Rohdaten beziehen, deshalb sollte die Meldung abgefragt werden, bevor der Text oder die Rohdaten
+     * ge&auml;ndert werden oder der zugeh&ouml;rige {@link ParseContext} wiederverwendet wird. Diese
+     * Einstellung &uuml;bersteht Aufrufe von {@link #reset()}. </p>
+     *
+     * @param   lazy    {@code true} if error messages shall be built on demand else {@code false}
+     * @since   4.19
+     */
+    public void setLazyMessages(boolean lazy) {
+
+        this.lazyMessages = lazy;
+
+    }
+
     /**
      * <p>Yields the parsed raw data as chronological entity. </p>
      *
@@ -215,7 +313,12 @@ public class ParseLog {
     public ChronoEntity<?> getRawValues() {
 
         if (this.rawValues == null) {
-            this.rawValues = new ParsedValues(0, false);
+            if (this.deferredValues == null) {
+                this.rawValues = new ParsedValues(0, false);
+            } else {
+                this.rawValues = this.deferredValues.get();
+                this.deferredValues = null;
+            }
         }
 
         return this.rawValues;
@@ -237,7 +340,7 @@ public class ParseLog {
         sb.append(", error-index=");
         sb.append(this.getErrorIndex());
         sb.append(", error-message=\"");
-        sb.append(this.errorMessage);
+        sb.append(this.getErrorMessage());
         sb.append('\"');
         if (this.warning) {
             sb.append(", warning-active");
@@ -300,16 +403,7 @@ public class ParseLog {
         String errorMessage
     ) {
 
-        if (errorIndex >= 0) {
-            this.errorMessage = (
-                ((errorMessage == null) || errorMessage.isEmpty())
-                ? ("Error occurred at position: " + errorIndex)
-                : errorMessage);
-        } else {
-            throw new IllegalArgumentException("Undefined error index: " + errorIndex);
-        }
-
-        this.pp.setErrorIndex(errorIndex);
+        this.setError(errorIndex, ParseErrorCode.UNPARSEABLE_ELEMENT, errorMessage);
 
     }
 
@@ -341,6 +435,8 @@ public class ParseLog {
 
         if (!this.isError()) {
             this.errorMessage = "Warning state active.";
+            this.errorCode = ParseErrorCode.UNPARSEABLE_ELEMENT;
+            this.deferredMessage = null;
             this.pp.setErrorIndex(this.getPosition());
         }
 
@@ -364,8 +460,11 @@ public class ParseLog {
         this.pp.setIndex(0);
         this.pp.setErrorIndex(-1);
         this.errorMessage = "";
+        this.errorCode = null;
+        this.deferredMessage = null;
         this.warning = false;
         this.rawValues = null;
+        this.deferredValues = null;
         this.daylightSaving = null;
 
     }
@@ -381,6 +480,75 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Setzt einen Fehler mit Kategorie. </p>
+     *
+     * @param   errorIndex      error index
+     * @param   errorCode       error category
+     * @param   errorMessage    error message
+     * @throws  IllegalArgumentException if the error index is negative
+     */
+    void setError(
+        int errorIndex,
+        ParseErrorCode errorCode,
+        String errorMessage
+    ) {
+
+        if (errorIndex >= 0) {
+            this.errorMessage = (
+                ((errorMessage == null) || errorMessage.isEmpty())
+                ? ("Error occurred at position: " + errorIndex)
+                : errorMessage);
+        } else {
+            throw new IllegalArgumentException("Undefined error index: " + errorIndex);
+        }
+
+        this.errorCode = errorCode;
+        this.deferredMessage = null;
+        this.pp.setErrorIndex(errorIndex);
+
+    }
+
+    /**
+     * <p>Setzt einen Fehler mit Kategorie, dessen Meldung im Modus {@link #isLazyMessages()}
+     * erst bei Bedarf erzeugt wird. </p>
+     *
+     * @param   errorIndex      error index
+     * @param   errorCode       error category
+     * @param   errorMessage    supplier of error message
+     * @throws  IllegalArgumentException if the error index is negative
+     */
+    void setError(
+        int errorIndex,
+        ParseErrorCode errorCode,
+        Supplier<String> errorMessage
+    ) {
+
+        if (this.lazyMessages) {
+            if (errorIndex < 0) {
+                throw new IllegalArgumentException("Undefined error index: " + errorIndex);
+            }
+            this.errorMessage = "";
+            this.errorCode = errorCode;
+            this.deferredMessage = errorMessage;
+            this.pp.setErrorIndex(errorIndex);
+        } else {
+            this.setError(errorIndex, errorCode, errorMessage.get());
+        }
+
+    }
+
+    /**
+     * <p>Verschiebt den Fehlerindex eines schon vorhandenen Fehlers. </p>
+     *
+     * @param   errorIndex      new error index
+     */
+    void moveErrorIndex(int errorIndex) {
+
+        this.pp.setErrorIndex(errorIndex);
+
+    }
+
     /**
      * <p>L&ouml;scht eine eventuell vorhandene Fehlerinformation. </p>
      */
@@ -388,6 +556,8 @@ public class ParseLog {
 
         this.pp.setErrorIndex(-1);
         this.errorMessage = "";
+        this.errorCode = null;
+        this.deferredMessage = null;
 
     }
 
@@ -399,6 +569,20 @@ public class ParseLog {
     void setRawValues(ParsedValues rawValues) {
 
         this.rawValues = rawValues;
+        this.deferredValues = null;
+
+    }
+
+    /**
+     * <p>Setzt die interpretierten Rohdaten verz&ouml;gert, n&auml;mlich erst
+     * bei Bedarf (nach einer erfolgreichen spezialisierten Interpretation). </p>
+     *
+     * @param   deferredValues  supplier of parsed values
+     */
+    void setRawValues(Supplier<ParsedValues> deferredValues) {
+
+        this.rawValues = null;
+        this.deferredValues = deferredValues;
 
     }
 
@@ -443,6 +627,28 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Liefert den optionalen Kontext zur Wiederverwendung von Rohdaten. </p>
+     *
+     * @return  ParseContext or {@code null}
+     */
+    ParseContext getContext() {
+
+        return this.context;
+
+    }
+
+    /**
+     * <p>Setzt den optionalen Kontext zur Wiederverwendung von Rohdaten. </p>
+     *
+     * @param   context     parse context or {@code null}
+     */
+    void setContext(ParseContext context) {
+
+        this.context = context;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
@@ -736,6 +736,49 @@ class ParsedValues
 
     }
 
+    // called by ParseContext before reuse (same state as after construction)
+    void recycle(int expectedCountOfElements) {
+
+        if (this.keys == null) {
+            this.len = Integer.MIN_VALUE;
+            this.mask = Integer.MIN_VALUE;
+            this.threshold = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE;
+            for (int i = 0; i < 3; i++) {
+                this.ints[i] = Integer.MIN_VALUE;
+            }
+        } else {
+            int n = arraySize(expectedCountOfElements);
+
+            if (this.keys.length == n) {
+                Arrays.fill(this.keys, null);
+                if (this.values != null) {
+                    Arrays.fill(this.values, null);
+                }
+            } else { // same capacity as new instance => same iteration order
+                this.len = n;
+                this.mask = n - 1;
+                this.threshold = maxFill(n);
+                this.keys = new Object[n];
+                this.values = null;
+                this.ints = new int[n];
+            }
+
+            this.count = 0;
+        }
+
+        this.map = null;
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    boolean isIndexMode() {
+
+        return (this.keys == null);
+
+    }
+
     private int getInt0(ChronoElement<?> element) {
 
         Object[] keys = this.keys;
@@ -0,0 +1,77 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SpecializedFormat.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Hand-written fast path for a fixed format which can be attached to a
+ * {@code ChronoFormatter} with default attributes. </p>
+ *
+ * <p>Implementations only handle the common shapes of input and output.
+ * In any other case they decline and the formatter falls back to its
+ * generic element-by-element processing so that results, error messages
+ * and raw values stay exactly the same. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   4.19
+ */
+interface SpecializedFormat<T> {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Tries to parse given text starting at the position of given
+     * parse log. </p>
+     *
+     * <p>If successful then the new position will be set, otherwise
+     * the parse log remains untouched. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parser information
+     * @param   trailing    are trailing characters permitted?
+     * @return  result or {@code null} if the generic parser is needed
+     */
+    T parse(
+        CharSequence text,
+        ParseLog status,
+        boolean trailing
+    );
+
+    /**
+     * <p>Tries to print given chronological entity. </p>
+     *
+     * <p>Nothing will be written if this method yields {@code false}. </p>
+     *
+     * @param   formattable     object to be formatted (maybe {@code null})
+     * @param   buffer          text output buffer
+     * @return  {@code true} if printed else {@code false} (generic printer is needed)
+     * @throws  IOException if writing to buffer fails
+     */
+    boolean print(
+        T formattable,
+        Appendable buffer
+    ) throws IOException;
+
+}
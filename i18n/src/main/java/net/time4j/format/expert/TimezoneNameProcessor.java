@@ -21,6 +21,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.base.Instrumentation;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
@@ -156,7 +157,10 @@ final class TimezoneNameProcessor
         String name;
 
         if (formattable instanceof UnixTime) {
-            Timezone zone = Timezone.of(tzid);
+            Timezone zone = (
+                (formattable instanceof ZonalMomentDisplay)
+                ? ((ZonalMomentDisplay) formattable).getZone()
+                : Timezone.of(tzid));
             UnixTime ut = UnixTime.class.cast(formattable);
 
             name =
@@ -250,6 +254,14 @@ final class TimezoneNameProcessor
 
         TZNames tzNames = cache.get(lang);
 
+        if (Instrumentation.isEnabled()) {
+            if (tzNames == null) {
+                Instrumentation.getInstance().recordCacheMiss(Instrumentation.CACHE_TIMEZONE_NAMES);
+            } else {
+                Instrumentation.getInstance().recordCacheHit(Instrumentation.CACHE_TIMEZONE_NAMES);
+            }
+        }
+
         if (tzNames == null) {
             Map<String, List<TZID>> stdNames =
                 this.getTimezoneNameMap(lang, false);
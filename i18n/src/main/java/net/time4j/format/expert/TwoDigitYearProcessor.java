@@ -140,45 +140,24 @@ final class TwoDigitYearProcessor
         }
 
         int yy = MathUtils.floorModulo(year, 100);
-        String digits = Integer.toString(yy);
 
         char zeroChar = (
             quickPath
                 ? this.zeroDigit
                 : attributes.get(Attributes.ZERO_DIGIT, Character.valueOf('0')).charValue());
 
-        if (zeroChar != '0') {
-            int diff = zeroChar - '0';
-            char[] characters = digits.toCharArray();
-
-            for (int i = 0; i < characters.length; i++) {
-                characters[i] = (char) (characters[i] + diff);
-            }
-
-            digits = new String(characters);
-        }
-
         int start = -1;
-        int printed = 0;
 
         if (buffer instanceof CharSequence) {
             start = ((CharSequence) buffer).length();
         }
 
-        if (yy < 10) {
-            buffer.append(zeroChar);
-            printed++;
-        }
-
-        buffer.append(digits);
-        printed += digits.length();
+        // immer zwei Ziffern, direkt im Ziffernbereich von zeroChar
+        buffer.append((char) (zeroChar + (yy / 10)));
+        buffer.append((char) (zeroChar + (yy % 10)));
 
-        if (
-            (start != -1)
-            && (printed > 0)
-            && (positions != null)
-        ) {
-            positions.add(new ElementPosition(this.element, start, start + printed));
+        if ((start != -1) && (positions != null)) {
+            positions.add(new ElementPosition(this.element, start, start + 2));
         }
 
     }
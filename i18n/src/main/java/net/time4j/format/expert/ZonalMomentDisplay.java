@@ -0,0 +1,284 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZonalMomentDisplay.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Meridiem;
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.Weekday;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.ChronoDisplay;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+
+/**
+ * <p>Lokale Sicht auf einen Moment in einer vorab aufgel&ouml;sten Zeitzone. </p>
+ *
+ * <p>Die g&auml;ngigen Datums- und Uhrzeitelemente werden direkt aus der POSIX-Zeit
+ * und dem Offset berechnet, ohne einen {@code ZonalDateTime} oder {@code PlainTimestamp}
+ * zu erzeugen. Alle anderen Elemente werden an die Standardsicht
+ * {@link Moment#inZonalView(TZID)} delegiert, die erst bei Bedarf erzeugt wird. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.19
+ */
+final class ZonalMomentDisplay
+    implements ChronoDisplay, UnixTime {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Moment moment;
+    private final Timezone zone;
+    private final ZonalOffset offset;
+    private final int year;
+    private final int month;
+    private final int dayOfMonth;
+    private final int secondOfDay;
+
+    private ChronoDisplay delegate = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZonalMomentDisplay(
+        Moment moment,
+        Timezone zone,
+        ZonalOffset offset,
+        long packedDate,
+        int secondOfDay
+    ) {
+        super();
+
+        this.moment = moment;
+        this.zone = zone;
+        this.offset = offset;
+        this.year = GregorianMath.readYear(packedDate);
+        this.month = GregorianMath.readMonth(packedDate);
+        this.dayOfMonth = GregorianMath.readDayOfMonth(packedDate);
+        this.secondOfDay = secondOfDay;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine lokale Sicht auf den angegebenen Moment. </p>
+     *
+     * @param   moment  global timestamp to be displayed
+     * @param   zone    resolved timezone
+     * @return  new display or {@code null} if the standard view is required (leap seconds, fractional offsets)
+     */
+    static ZonalMomentDisplay of(
+        Moment moment,
+        Timezone zone
+    ) {
+
+        ZonalOffset offset = zone.getOffset(moment);
+
+        if (moment.isLeapSecond() || (offset.getFractionalAmount() != 0)) {
+            return null;
+        }
+
+        long localSeconds = moment.getPosixTime() + offset.getIntegralAmount();
+        long utcDays = MathUtils.floorDivide(localSeconds, 86400);
+        int secondOfDay = MathUtils.floorModulo(localSeconds, 86400);
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UNIX);
+
+        return new ZonalMomentDisplay(moment, zone, offset, GregorianMath.toPackedDate(mjd), secondOfDay);
+
+    }
+
+    @Override
+    public boolean contains(ChronoElement<?> element) {
+
+        return (isDirect(element) || this.delegate().contains(element));
+
+    }
+
+    @Override
+    public <V> V get(ChronoElement<V> element) {
+
+        if (element == PlainDate.MONTH_OF_YEAR) {
+            return element.getType().cast(Month.valueOf(this.month));
+        } else if (element == PlainDate.DAY_OF_WEEK) {
+            return element.getType().cast(
+                Weekday.valueOf(GregorianMath.getDayOfWeek(this.year, this.month, this.dayOfMonth)));
+        } else if (element == PlainTime.AM_PM_OF_DAY) {
+            return element.getType().cast((this.secondOfDay < 43200) ? Meridiem.AM : Meridiem.PM);
+        } else if (element.getType() == Integer.class) {
+            int value = this.getDirectInt(element);
+            if (value != Integer.MIN_VALUE) {
+                return element.getType().cast(Integer.valueOf(value));
+            }
+        }
+
+        return this.delegate().get(element);
+
+    }
+
+    @Override
+    public int getInt(ChronoElement<Integer> element) {
+
+        int value = this.getDirectInt(element);
+
+        if (value == Integer.MIN_VALUE) {
+            value = this.delegate().getInt(element);
+        }
+
+        return value;
+
+    }
+
+    @Override
+    public <V> V getMinimum(ChronoElement<V> element) {
+
+        if (element == PlainTime.NANO_OF_SECOND) {
+            return element.getType().cast(Integer.valueOf(0));
+        }
+
+        return this.delegate().getMinimum(element);
+
+    }
+
+    @Override
+    public <V> V getMaximum(ChronoElement<V> element) {
+
+        if (element == PlainTime.NANO_OF_SECOND) {
+            return element.getType().cast(Integer.valueOf(999_999_999));
+        }
+
+        return this.delegate().getMaximum(element);
+
+    }
+
+    @Override
+    public boolean hasTimezone() {
+
+        return true;
+
+    }
+
+    @Override
+    public TZID getTimezone() {
+
+        return this.zone.getID();
+
+    }
+
+    @Override
+    public long getPosixTime() {
+
+        return this.moment.getPosixTime();
+
+    }
+
+    @Override
+    public int getNanosecond() {
+
+        return this.moment.getNanosecond();
+
+    }
+
+    /**
+     * <p>Liefert die vorab aufgel&ouml;ste Zeitzone. </p>
+     *
+     * @return  Timezone
+     */
+    Timezone getZone() {
+
+        return this.zone;
+
+    }
+
+    /**
+     * <p>Liefert den schon berechneten Zeitzonen-Offset. </p>
+     *
+     * @return  ZonalOffset
+     */
+    ZonalOffset getOffset() {
+
+        return this.offset;
+
+    }
+
+    private static boolean isDirect(ChronoElement<?> element) {
+
+        return (
+            (element == PlainDate.YEAR)
+            || (element == PlainDate.MONTH_AS_NUMBER)
+            || (element == PlainDate.MONTH_OF_YEAR)
+            || (element == PlainDate.DAY_OF_MONTH)
+            || (element == PlainDate.DAY_OF_WEEK)
+            || (element == PlainTime.AM_PM_OF_DAY)
+            || (element == PlainTime.DIGITAL_HOUR_OF_DAY)
+            || (element == PlainTime.ISO_HOUR)
+            || (element == PlainTime.MINUTE_OF_HOUR)
+            || (element == PlainTime.SECOND_OF_MINUTE)
+            || (element == PlainTime.MILLI_OF_SECOND)
+            || (element == PlainTime.NANO_OF_SECOND)
+        );
+
+    }
+
+    private int getDirectInt(ChronoElement<?> element) {
+
+        if (element == PlainDate.YEAR) {
+            return this.year;
+        } else if (element == PlainDate.MONTH_AS_NUMBER) {
+            return this.month;
+        } else if (element == PlainDate.DAY_OF_MONTH) {
+            return this.dayOfMonth;
+        } else if ((element == PlainTime.DIGITAL_HOUR_OF_DAY) || (element == PlainTime.ISO_HOUR)) {
+            return this.secondOfDay / 3600;
+        } else if (element == PlainTime.MINUTE_OF_HOUR) {
+            return (this.secondOfDay / 60) % 60;
+        } else if (element == PlainTime.SECOND_OF_MINUTE) {
+            return this.secondOfDay % 60;
+        } else if (element == PlainTime.MILLI_OF_SECOND) {
+            return this.moment.getNanosecond() / 1_000_000;
+        } else if (element == PlainTime.NANO_OF_SECOND) {
+            return this.moment.getNanosecond();
+        }
+
+        return Integer.MIN_VALUE;
+
+    }
+
+    // die schon bestimmte Verschiebung genügt, die Zeitzone muß nicht erneut geladen werden
+    private ChronoDisplay delegate() {
+
+        if (this.delegate == null) {
+            this.delegate = this.moment.inZonalView(this.offset);
+        }
+
+        return this.delegate;
+
+    }
+
+}
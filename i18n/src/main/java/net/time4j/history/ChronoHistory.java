@@ -272,6 +272,10 @@ public final class ChronoHistory
         LOOKUP = Collections.unmodifiableMap(tmp);
     }
 
+    private static final int MAX_CACHED_YEAR = 2100;
+    private static final long MIN_MJD = PlainDate.axis().getMinimum().get(EpochDays.MODIFIED_JULIAN_DATE);
+    private static final long MAX_MJD = PlainDate.axis().getMaximum().get(EpochDays.MODIFIED_JULIAN_DATE);
+
     // Dient der Serialisierungsunterstützung.
     private static final long serialVersionUID = 4100690610730913643L;
 
@@ -294,6 +298,18 @@ public final class ChronoHistory
     private transient final ChronoElement<Integer> centuryElement;
     private transient final Set<ChronoElement<?>> elements;
 
+    // Segmenttabelle: cutovers[i] ist der Beginn (MJD) des Segments mit algorithms[i + 1]
+    private transient final long[] cutovers;
+    private transient final Calculus[] algorithms;
+
+    // gepackte historische Datumsangaben am Umstellungstag und kleinster Tag vor einer späteren Umstellung
+    private transient final long[] datesAtCutOver;
+    private transient final long[] gapStarts;
+
+    // bei Bedarf gefüllte Tabellen für die Jahre AD 1 bis MAX_CACHED_YEAR
+    private transient volatile int[] yearLengths;
+    private transient volatile HistoricDate[] newYears;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private ChronoHistory(
@@ -393,6 +409,31 @@ public final class ChronoHistory
         set.add(this.centuryElement);
         this.elements = Collections.unmodifiableSet(set);
 
+        int n = events.size();
+        this.cutovers = new long[n];
+        this.algorithms = new Calculus[n + 1];
+        this.algorithms[0] = this.getJulianAlgorithm();
+
+        this.datesAtCutOver = new long[n];
+        this.gapStarts = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            CutOverEvent event = events.get(i);
+            this.cutovers[i] = event.start;
+            this.algorithms[i + 1] = event.algorithm;
+            this.datesAtCutOver[i] = pack(event.dateAtCutOver);
+        }
+
+        long min = Long.MAX_VALUE;
+
+        for (int i = n - 1; i >= 0; i--) {
+            min = Math.min(min, pack(events.get(i).dateBeforeCutOver));
+            this.gapStarts[i] = min;
+        }
+
+        this.yearLengths = null;
+        this.newYears = null;
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -802,29 +843,124 @@ public final class ChronoHistory
     public HistoricDate convert(PlainDate date) {
 
         long mjd = date.get(EpochDays.MODIFIED_JULIAN_DATE);
-        HistoricDate hd = null;
+        HistoricDate hd = this.getAlgorithm(mjd).fromMJD(mjd);
+        HistoricEra era = this.eraPreference.getPreferredEra(hd, date);
+
+        if (era != hd.getEra()) {
+            int yoe = era.yearOfEra(hd.getEra(), hd.getYearOfEra());
+            hd = HistoricDate.of(era, yoe, hd.getMonth(), hd.getDayOfMonth());
+        }
 
-        for (int i = this.events.size() - 1; i >= 0; i--) {
-            CutOverEvent event = this.events.get(i);
+        return hd;
 
-            if (mjd >= event.start) {
-                hd = event.algorithm.fromMJD(mjd);
-                break;
+    }
+
+    /**
+     * <p>Converts given day numbers to historic dates in bulk. </p>
+     *
+     * <p>The result at index {@code i} is equal to
+     * {@code convert(PlainDate.of(days[i], epoch))}. </p>
+     *
+     * @param   days    count of days since given epoch
+     * @param   epoch   epoch reference of given day numbers
+     * @return  historic calendar dates
+     * @throws  IllegalArgumentException if any day number is out of supported range
+     * @see     #convert(PlainDate)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen Tagesnummern in einem Schritt zu historischen Datumsangaben. </p>
+     *
+     * <p>Das Ergebnis am Index {@code i} ist gleich
+     * {@code convert(PlainDate.of(days[i], epoch))}. </p>
+     *
+     * @param   days    count of days since given epoch
+     * @param   epoch   epoch reference of given day numbers
+     * @return  historic calendar dates
+     * @throws  IllegalArgumentException if any day number is out of supported range
+     * @see     #convert(PlainDate)
+     * @since   4.19
+     */
+    public HistoricDate[] convert(
+        long[] days,
+        EpochDays epoch
+    ) {
+
+        HistoricDate[] result = new HistoricDate[days.length];
+
+        for (int i = 0; i < days.length; i++) {
+            long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(days[i], epoch);
+
+            if ((mjd < MIN_MJD) || (mjd > MAX_MJD)) {
+                throw new IllegalArgumentException("Out of range: " + days[i]);
             }
-        }
 
-        if (hd == null) {
-            hd = this.getJulianAlgorithm().fromMJD(mjd);
+            HistoricDate hd = this.getAlgorithm(mjd).fromMJD(mjd);
+            HistoricEra era = this.eraPreference.getPreferredEra(hd, mjd);
+
+            if (era != hd.getEra()) {
+                int yoe = era.yearOfEra(hd.getEra(), hd.getYearOfEra());
+                hd = HistoricDate.of(era, yoe, hd.getMonth(), hd.getDayOfMonth());
+            }
+
+            result[i] = hd;
         }
 
-        HistoricEra era = this.eraPreference.getPreferredEra(hd, date);
+        return result;
 
-        if (era != hd.getEra()) {
-            int yoe = era.yearOfEra(hd.getEra(), hd.getYearOfEra());
-            hd = HistoricDate.of(era, yoe, hd.getMonth(), hd.getDayOfMonth());
+    }
+
+    /**
+     * <p>Converts given historic dates to day numbers in bulk. </p>
+     *
+     * <p>The result at index {@code i} is equal to
+     * {@code convert(dates[i]).get(epoch)}. </p>
+     *
+     * @param   dates   historic calendar dates
+     * @param   epoch   epoch reference of day numbers to be calculated
+     * @return  count of days since given epoch
+     * @throws  IllegalArgumentException if any date is invalid or out of supported range
+     * @see     #convert(HistoricDate)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen historischen Datumsangaben in einem Schritt zu Tagesnummern. </p>
+     *
+     * <p>Das Ergebnis am Index {@code i} ist gleich
+     * {@code convert(dates[i]).get(epoch)}. </p>
+     *
+     * @param   dates   historic calendar dates
+     * @param   epoch   epoch reference of day numbers to be calculated
+     * @return  count of days since given epoch
+     * @throws  IllegalArgumentException if any date is invalid or out of supported range
+     * @see     #convert(HistoricDate)
+     * @since   4.19
+     */
+    public long[] convert(
+        HistoricDate[] dates,
+        EpochDays epoch
+    ) {
+
+        long[] result = new long[dates.length];
+
+        for (int i = 0; i < dates.length; i++) {
+            HistoricDate date = dates[i];
+            Calculus algorithm = this.getAlgorithm(date);
+
+            if (algorithm == null) {
+                throw new IllegalArgumentException("Invalid historic date: " + date);
+            }
+
+            long mjd = algorithm.toMJD(date);
+
+            if ((mjd < MIN_MJD) || (mjd > MAX_MJD)) {
+                throw new IllegalArgumentException("Out of range: " + date);
+            }
+
+            result[i] = epoch.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
         }
 
-        return hd;
+        return result;
 
     }
 
@@ -969,6 +1105,20 @@ public final class ChronoHistory
         int yearOfEra
     ) {
 
+        boolean cached = ((era == HistoricEra.AD) && (yearOfEra >= 1) && (yearOfEra <= MAX_CACHED_YEAR));
+        HistoricDate[] table = null;
+
+        if (cached) {
+            table = this.newYears;
+
+            if (table == null) {
+                table = new HistoricDate[MAX_CACHED_YEAR];
+                this.newYears = table;
+            } else if (table[yearOfEra - 1] != null) {
+                return table[yearOfEra - 1];
+            }
+        }
+
         HistoricDate newYear = this.getNewYearStrategy().newYear(era, yearOfEra);
 
         if (this.isValid(newYear)) {
@@ -978,6 +1128,9 @@ public final class ChronoHistory
                 int yoe = preferredEra.yearOfEra(newYear.getEra(), newYear.getYearOfEra());
                 newYear = HistoricDate.of(preferredEra, yoe, newYear.getMonth(), newYear.getDayOfMonth());
             }
+            if (cached) {
+                table[yearOfEra - 1] = newYear;
+            }
             return newYear;
         } else {
             throw new IllegalArgumentException("Cannot determine valid New Year: " + era + "-" + yearOfEra);
@@ -1021,40 +1174,28 @@ public final class ChronoHistory
         int yearOfEra
     ) {
 
-        try {
-            HistoricDate min;
-            HistoricDate max;
-            int extra;
+        boolean cached = ((era == HistoricEra.AD) && (yearOfEra >= 1) && (yearOfEra <= MAX_CACHED_YEAR));
+        int[] table = null;
 
-            if (this.nys == null) {
-                min = HistoricDate.of(era, yearOfEra, 1, 1);
-                max = HistoricDate.of(era, yearOfEra, 12, 31);
-                extra = 1;
-            } else {
-                min = this.nys.newYear(era, yearOfEra);
-                if (era == HistoricEra.BC) {
-                    if (yearOfEra == 1) {
-                        max = this.nys.newYear(HistoricEra.AD, 1);
-                    } else {
-                        max = this.nys.newYear(era, yearOfEra - 1);
-                    }
-                } else {
-                    max = this.nys.newYear(era, yearOfEra + 1);
-                    if (era == HistoricEra.BYZANTINE) {
-                        HistoricDate hd = this.nys.newYear(HistoricEra.AD, era.annoDomini(yearOfEra));
-                        if (hd.compareTo(min) > 0) {
-                            max = hd;
-                        }
-                    }
-                }
-                extra = 0;
+        if (cached) {
+            table = this.yearLengths;
+
+            if (table == null) {
+                table = new int[MAX_CACHED_YEAR]; // 0 = noch nicht berechnet
+                this.yearLengths = table;
+            } else if (table[yearOfEra - 1] != 0) {
+                return table[yearOfEra - 1];
             }
+        }
 
-            return (int) (CalendarUnit.DAYS.between(this.convert(min), this.convert(max)) + extra);
-        } catch (RuntimeException re) {
-            return -1; // only in very exotic circumstances (for example if given year is out of range)
+        int length = this.calculateLengthOfYear(era, yearOfEra);
+
+        if (cached) {
+            table[yearOfEra - 1] = length;
         }
 
+        return length;
+
     }
 
     /**
@@ -1606,17 +1747,25 @@ public final class ChronoHistory
      */
     Calculus getAlgorithm(HistoricDate date) {
 
-        for (int i = this.events.size() - 1; i >= 0; i--) {
-            CutOverEvent event = this.events.get(i);
+        long key = pack(date);
+        int low = 0;
+        int high = this.datesAtCutOver.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
 
-            if (date.compareTo(event.dateAtCutOver) >= 0) {
-                return event.algorithm;
-            } else if (date.compareTo(event.dateBeforeCutOver) > 0) {
-                return null; // gap at cutover
+            if (this.datesAtCutOver[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
 
-        return this.getJulianAlgorithm();
+        if ((low < this.gapStarts.length) && (key > this.gapStarts[low])) {
+            return null; // gap at cutover
+        }
+
+        return this.algorithms[low];
 
     }
 
@@ -1680,6 +1829,75 @@ public final class ChronoHistory
 
     }
 
+    private int calculateLengthOfYear(
+        HistoricEra era,
+        int yearOfEra
+    ) {
+
+        try {
+            HistoricDate min;
+            HistoricDate max;
+            int extra;
+
+            if (this.nys == null) {
+                min = HistoricDate.of(era, yearOfEra, 1, 1);
+                max = HistoricDate.of(era, yearOfEra, 12, 31);
+                extra = 1;
+            } else {
+                min = this.nys.newYear(era, yearOfEra);
+                if (era == HistoricEra.BC) {
+                    if (yearOfEra == 1) {
+                        max = this.nys.newYear(HistoricEra.AD, 1);
+                    } else {
+                        max = this.nys.newYear(era, yearOfEra - 1);
+                    }
+                } else {
+                    max = this.nys.newYear(era, yearOfEra + 1);
+                    if (era == HistoricEra.BYZANTINE) {
+                        HistoricDate hd = this.nys.newYear(HistoricEra.AD, era.annoDomini(yearOfEra));
+                        if (hd.compareTo(min) > 0) {
+                            max = hd;
+                        }
+                    }
+                }
+                extra = 0;
+            }
+
+            return (int) (CalendarUnit.DAYS.between(this.convert(min), this.convert(max)) + extra);
+        } catch (RuntimeException re) {
+            return -1; // only in very exotic circumstances (for example if given year is out of range)
+        }
+
+    }
+
+    // gleiche Ordnung wie HistoricDate.compareTo()
+    private static long pack(HistoricDate date) {
+
+        long year = date.getEra().annoDomini(date.getYearOfEra());
+        return (year << 9) | (date.getMonth() << 5) | date.getDayOfMonth();
+
+    }
+
+    // Anzahl der Umstellungen bis einschließlich mjd per binärer Suche
+    private Calculus getAlgorithm(long mjd) {
+
+        int low = 0;
+        int high = this.cutovers.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.cutovers[middle] <= mjd) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return this.algorithms[low];
+
+    }
+
     private Calculus getJulianAlgorithm() {
 
         if (this.ajly != null) {
@@ -57,6 +57,8 @@ public final class EraPreference {
     private final HistoricEra era;
     private final PlainDate start;
     private final PlainDate end;
+    private final long startMJD;
+    private final long endMJD;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -66,6 +68,8 @@ public final class EraPreference {
         this.era = null;
         this.start = PlainDate.axis().getMinimum();
         this.end = PlainDate.axis().getMaximum();
+        this.startMJD = this.start.get(EpochDays.MODIFIED_JULIAN_DATE);
+        this.endMJD = this.end.get(EpochDays.MODIFIED_JULIAN_DATE);
 
     }
 
@@ -85,6 +89,8 @@ public final class EraPreference {
         this.era = era;
         this.start = start;
         this.end = end;
+        this.startMJD = start.get(EpochDays.MODIFIED_JULIAN_DATE);
+        this.endMJD = end.get(EpochDays.MODIFIED_JULIAN_DATE);
 
     }
 
@@ -333,6 +339,20 @@ public final class EraPreference {
 
     }
 
+    // variant for bulk conversion without PlainDate
+    HistoricEra getPreferredEra(
+        HistoricDate hd,
+        long mjd
+    ) {
+
+        if ((this.era == null) || (mjd < this.startMJD) || (mjd > this.endMJD)) {
+            return ((hd.compareTo(AD1) < 0) ? HistoricEra.BC : HistoricEra.AD);
+        } else {
+            return this.era;
+        }
+
+    }
+
     // used in serialization
     void writeToStream(DataOutput out) throws IOException {
 
@@ -50,6 +50,10 @@ public final class PluralProviderSPI
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    // Kategorien für 0 <= n < TABLE_SIZE werden vorab berechnet
+    private static final int TABLE_SIZE = 1000;
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+
     private static final Map<String, PluralRules> CARDINAL_MAP = new HashMap<>(140);
     private static final PluralRules STD_CARDINALS = new StdCardinalRules(0);
 
@@ -175,8 +179,10 @@ public final class PluralProviderSPI
         int id
     ) {
 
+        PluralRules rules = new StdCardinalRules(id); // gemeinsame Instanz mit nur einer Tabelle
+
         for (String language : languages.split(" ")) {
-            map.put(language, new StdCardinalRules(id));
+            map.put(language, rules);
         }
 
     }
@@ -187,8 +193,10 @@ public final class PluralProviderSPI
         int id
     ) {
 
+        PluralRules rules = new StdOrdinalRules(id); // gemeinsame Instanz mit nur einer Tabelle
+
         for (String language : languages.split(" ")) {
-            map.put(language, new StdOrdinalRules(id));
+            map.put(language, rules);
         }
 
     }
@@ -201,6 +209,7 @@ public final class PluralProviderSPI
         //~ Instanzvariablen ----------------------------------------------
 
         private final int id;
+        private final byte[] table;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -208,6 +217,11 @@ public final class PluralProviderSPI
             super();
 
             this.id = id;
+            this.table = new byte[TABLE_SIZE];
+
+            for (int i = 0; i < TABLE_SIZE; i++) {
+                this.table[i] = (byte) this.evaluate(i).ordinal();
+            }
 
         }
 
@@ -216,6 +230,16 @@ public final class PluralProviderSPI
         @Override
         public PluralCategory getCategory(long n) {
 
+            if ((n >= 0) && (n < TABLE_SIZE)) {
+                return CATEGORIES[this.table[(int) n]];
+            }
+
+            return this.evaluate(n);
+
+        }
+
+        private PluralCategory evaluate(long n) {
+
             long mod10;
             long mod100;
 
@@ -506,6 +530,7 @@ public final class PluralProviderSPI
         //~ Instanzvariablen ----------------------------------------------
 
         private final int id;
+        private final byte[] table;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -513,6 +538,11 @@ public final class PluralProviderSPI
             super();
 
             this.id = id;
+            this.table = new byte[TABLE_SIZE];
+
+            for (int i = 0; i < TABLE_SIZE; i++) {
+                this.table[i] = (byte) this.evaluate(i).ordinal();
+            }
 
         }
 
@@ -521,6 +551,16 @@ public final class PluralProviderSPI
         @Override
         public PluralCategory getCategory(long n) {
 
+            if ((n >= 0) && (n < TABLE_SIZE)) {
+                return CATEGORIES[this.table[(int) n]];
+            }
+
+            return this.evaluate(n);
+
+        }
+
+        private PluralCategory evaluate(long n) {
+
             long mod10;
             long mod100;
 
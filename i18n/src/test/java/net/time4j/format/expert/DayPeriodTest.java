@@ -534,4 +534,31 @@ public class DayPeriodTest {
         return !(lang.equals("fa") || lang.equals("gl") || lang.equals("hu") || lang.equals("zu"));
     }
 
+    @Test
+    public void startAndEndOfCustomPeriodsWithSeconds() {
+        Map<PlainTime, String> timeToLabels = new HashMap<>();
+        timeToLabels.put(PlainTime.of(3, 15, 20), "x");
+        timeToLabels.put(PlainTime.of(14, 0), "y");
+        DayPeriod dp = DayPeriod.of(timeToLabels);
+        assertThat(dp.getStart(PlainTime.of(3, 15, 19)), is(PlainTime.of(14)));
+        assertThat(dp.getEnd(PlainTime.of(3, 15, 19)), is(PlainTime.of(3, 15, 20)));
+        assertThat(dp.getStart(PlainTime.of(3, 15, 20)), is(PlainTime.of(3, 15, 20)));
+        assertThat(dp.getEnd(PlainTime.of(3, 15, 20)), is(PlainTime.of(14)));
+        assertThat(PlainTime.of(3, 15, 19).get(dp.approximate()), is("y"));
+        assertThat(PlainTime.of(3, 15, 21).get(dp.approximate()), is("x"));
+        assertThat(PlainTime.midnightAtEndOfDay().get(dp.approximate()), is("y"));
+    }
+
+    @Test
+    public void startAndEndOfPredefinedPeriods() {
+        DayPeriod dp = DayPeriod.of(Locale.ENGLISH);
+        assertThat(dp.getStart(PlainTime.of(5, 59, 59)), is(PlainTime.of(21)));
+        assertThat(dp.getEnd(PlainTime.of(5, 59, 59)), is(PlainTime.of(6)));
+        assertThat(dp.getStart(PlainTime.of(6)), is(PlainTime.of(6)));
+        assertThat(dp.getEnd(PlainTime.of(6)), is(PlainTime.of(12)));
+        assertThat(dp.getStart(PlainTime.midnightAtEndOfDay()), is(PlainTime.of(21)));
+        assertThat(dp.getEnd(PlainTime.of(23, 59)), is(PlainTime.of(6)));
+        assertThat(DayPeriod.of(Locale.ENGLISH), is(dp));
+    }
+
 }
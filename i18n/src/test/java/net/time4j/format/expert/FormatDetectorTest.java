@@ -0,0 +1,114 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FormatDetectorTest {
+
+    @Test
+    public void isoDates() {
+        FormatDetector.Result<PlainDate> result =
+            FormatDetector.ofDates(Locale.ROOT).analyze(Arrays.asList("2016-02-29", "2017-01-31", "2017-12-01"));
+        assertThat(result.getPattern(), is("uuuu-MM-dd"));
+        assertThat(result.getPatternType(), is(PatternType.CLDR));
+        assertThat(result.getConfidence(), is(1.0));
+        assertThat(result.isAmbiguous(), is(false));
+        assertThat(result.parse(" 2016-03-01 "), is(PlainDate.of(2016, 3, 1)));
+        assertThat(result.parse("01.03.2016"), nullValue());
+    }
+
+    @Test
+    public void ambiguousDayAndMonth() {
+        FormatDetector.Result<PlainDate> uk =
+            FormatDetector.ofDates(Locale.UK).analyze(Arrays.asList("01/02/2016", "03/04/2016", "05/06/2016"));
+        assertThat(uk.isAmbiguous(), is(true));
+        assertThat(uk.getAlternatives(), hasItem("MM/dd/uuuu"));
+        assertThat(uk.parse("01/02/2016"), is(PlainDate.of(2016, 2, 1)));
+
+        FormatDetector.Result<PlainDate> us =
+            FormatDetector.ofDates(Locale.US).analyze(Arrays.asList("01/02/2016", "03/04/2016", "05/06/2016"));
+        assertThat(us.isAmbiguous(), is(true));
+        assertThat(us.getPattern(), is("MM/dd/uuuu"));
+        assertThat(us.getAlternatives(), is(Collections.singletonList("dd/MM/uuuu")));
+        assertThat(us.parse("01/02/2016"), is(PlainDate.of(2016, 1, 2)));
+    }
+
+    @Test
+    public void resolvedDayAndMonth() {
+        FormatDetector.Result<PlainDate> result =
+            FormatDetector.ofDates(Locale.US).analyze(Arrays.asList("01/02/2016", "25/12/2016", "03/04/2016"));
+        assertThat(result.getPattern(), is("dd/MM/uuuu"));
+        assertThat(result.isAmbiguous(), is(false));
+        assertThat(result.getMatchCount(), is(3));
+        assertThat(result.parse("01/02/2016"), is(PlainDate.of(2016, 2, 1)));
+    }
+
+    @Test
+    public void confidenceWithInvalidValues() {
+        FormatDetector.Result<PlainDate> result =
+            FormatDetector.ofDates(Locale.ROOT).analyze(
+                Arrays.asList("2016-01-05", " ", null, "2016-02-30", "xyz", "2016-03-01"));
+        assertThat(result.getPattern(), is("uuuu-MM-dd"));
+        assertThat(result.getSampleSize(), is(4));
+        assertThat(result.getMatchCount(), is(2));
+        assertThat(result.getConfidence(), is(0.5));
+    }
+
+    @Test
+    public void sampleSize() {
+        FormatDetector.Result<PlainDate> result =
+            FormatDetector.ofDates(Locale.ROOT).analyze(Arrays.asList("2016-01-05", "2016-01-06", "xyz"), 2);
+        assertThat(result.getSampleSize(), is(2));
+        assertThat(result.getConfidence(), is(1.0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void noMatch() {
+        FormatDetector.ofDates(Locale.ROOT).analyze(Arrays.asList("xyz", "abc"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void emptyColumn() {
+        FormatDetector.ofDates(Locale.ROOT).analyze(Arrays.asList("", "  "));
+    }
+
+    @Test
+    public void customCandidate() {
+        FormatDetector<PlainDate> detector = FormatDetector.ofDates(Locale.ROOT);
+        FormatDetector<PlainDate> custom = detector.withCandidate("uuuu_MM_dd", PatternType.CLDR);
+        assertThat(custom.getCandidates().size(), is(detector.getCandidates().size() + 1));
+        assertThat(custom.withCandidate("uuuu_MM_dd", PatternType.CLDR) == custom, is(true));
+        FormatDetector.Result<PlainDate> result = custom.analyze(Collections.singletonList("2016_02_29"));
+        assertThat(result.getPattern(), is("uuuu_MM_dd"));
+        assertThat(result.parse("2016_03_01"), is(PlainDate.of(2016, 3, 1)));
+    }
+
+    @Test
+    public void timestamps() {
+        FormatDetector.Result<PlainTimestamp> iso =
+            FormatDetector.ofTimestamps(Locale.ROOT).analyze(
+                Arrays.asList("2016-02-29T17:45:30", "2016-03-01T08:00:00"));
+        assertThat(iso.getPattern(), is("uuuu-MM-dd'T'HH:mm:ss"));
+        assertThat(iso.parse("2016-03-02T10:15:00"), is(PlainTimestamp.of(2016, 3, 2, 10, 15)));
+
+        FormatDetector.Result<PlainTimestamp> german =
+            FormatDetector.ofTimestamps(Locale.GERMANY).analyze(Arrays.asList("29.02.2016 17:45", "01.03.2016 08:00"));
+        assertThat(german.isAmbiguous(), is(false));
+        assertThat(german.parse("02.03.2016 10:15"), is(PlainTimestamp.of(2016, 3, 2, 10, 15)));
+    }
+
+}
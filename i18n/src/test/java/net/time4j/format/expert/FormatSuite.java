@@ -12,6 +12,8 @@ import org.junit.runners.Suite.SuiteClasses;
         DayPeriodTest.class,
         DefaultValueTest.class,
         DuplicateElementTest.class,
+        FormatDetectorTest.class,
+        FormatterCacheTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
         LiteralWithDigitsTest.class,
@@ -20,6 +22,8 @@ import org.junit.runners.Suite.SuiteClasses;
         MultiFormatTest.class,
         OffsetPatternTest.class,
         OrFormatTest.class,
+        ParseContextTest.class,
+        ParseErrorTest.class,
         OrdinalTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
@@ -0,0 +1,201 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.format.DisplayMode;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FormatterCacheTest {
+
+    @Before
+    public void setUp() {
+        ChronoFormatter.Cache.setActive(true);
+        ChronoFormatter.Cache.setMaximumSize(500);
+        ChronoFormatter.Cache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        this.setUp();
+    }
+
+    @Test
+    public void samePatternYieldsSameInstance() {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(f2, sameInstance(f1));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(1L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(1L));
+        assertThat(ChronoFormatter.Cache.size(), is(1));
+        assertThat(f2.format(PlainDate.of(2016, 2, 29)), is("29.02.2016"));
+    }
+
+    @Test
+    public void differentKeysYieldDifferentInstances() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.FRENCH),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.SIMPLE_DATE_FORMAT, Locale.GERMAN),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofPattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis()),
+            sameInstance(f));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(3L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void momentPatternDependsOnTimezone() {
+        ChronoFormatter<Moment> f1 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> f2 =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+        assertThat(f2, not(sameInstance(f1)));
+        Moment m = Moment.UNIX_EPOCH;
+        assertThat(f1.format(m), is("1970-01-01 00:00"));
+        assertThat(f2.format(m), is("1970-01-01 02:00"));
+    }
+
+    @Test
+    public void zoneBoundFormattersNotCached() {
+        TZID custom = () -> "Europe/Berlin";
+        ChronoFormatter<Moment> f1 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, custom);
+        Timezone.Cache.refresh();
+        ChronoFormatter<Moment> f2 =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, custom);
+        assertThat(f2, not(sameInstance(f1)));
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(ChronoFormatter.Cache.size(), is(1));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(1L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(2L));
+        assertThat(f2.format(Moment.UNIX_EPOCH), is("1970-01-01 01:00"));
+    }
+
+    @Test
+    public void clearWhileStoring() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 1000;
+            threads[t] =
+                new Thread(
+                    () -> {
+                        for (int i = 0; i < 1000; i++) {
+                            ChronoFormatter.ofDatePattern(
+                                "dd.MM.uuuu '" + (offset + i) + "'", PatternType.CLDR, Locale.ROOT);
+                            if ((i % 50) == 0) {
+                                ChronoFormatter.Cache.clear();
+                            }
+                        }
+                    });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        ChronoFormatter.Cache.setMaximumSize(1);
+        assertThat(ChronoFormatter.Cache.size() <= 1, is(true));
+    }
+
+    @Test
+    public void deactivateWhileStoring() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 1000;
+            threads[t] =
+                new Thread(
+                    () -> {
+                        for (int i = 0; i < 1000; i++) {
+                            ChronoFormatter.ofDatePattern(
+                                "dd.MM.uuuu '" + (offset + i) + "'", PatternType.CLDR, Locale.ROOT);
+                        }
+                    });
+            threads[t].start();
+        }
+        ChronoFormatter.Cache.setActive(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+    }
+
+    @Test
+    public void styleFactoriesUseCache() {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDateStyle(DisplayMode.MEDIUM, Locale.US);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofStyle(DisplayMode.MEDIUM, Locale.US, PlainDate.axis());
+        assertThat(f2, sameInstance(f1));
+    }
+
+    @Test
+    public void optOut() {
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter.Cache.setActive(false);
+        assertThat(ChronoFormatter.Cache.isActive(), is(false));
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(f2, not(sameInstance(f1)));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(0L));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(0L));
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+    }
+
+    @Test
+    public void evictionKeepsCacheBounded() {
+        ChronoFormatter.Cache.setMaximumSize(3);
+        for (int i = 1; i <= 10; i++) {
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu '" + i + "'", PatternType.CLDR, Locale.ROOT);
+        }
+        assertThat(ChronoFormatter.Cache.size(), is(3));
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu '10'", PatternType.CLDR, Locale.ROOT);
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(1L));
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu '1'", PatternType.CLDR, Locale.ROOT);
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(11L));
+        assertThat(ChronoFormatter.Cache.size(), is(3));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidPatternNotCached() {
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu HH", PatternType.CLDR, Locale.ROOT);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        ChronoFormatter.Cache.setMaximumSize(0);
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void momentPatternWithoutTimezone() {
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, null);
+    }
+
+    @Test
+    public void formatDetectorBypassesCache() {
+        FormatDetector.ofDates(Locale.US).withCandidate("uuuu_MM_dd", PatternType.CLDR);
+        FormatDetector.ofTimestamps(Locale.GERMANY);
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(0L));
+    }
+
+}
@@ -0,0 +1,174 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.base.Instrumentation;
+import net.time4j.format.CalendarText;
+import net.time4j.tz.Timezone;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class InstrumentationTest {
+
+    @Test
+    public void registeredByServiceLoader() {
+        assertThat(Instrumentation.isEnabled(), is(true));
+        assertThat(Instrumentation.getInstance() instanceof RecordingInstrumentation, is(true));
+    }
+
+    @Test
+    public void formatterCache() {
+        ChronoFormatter.Cache.clear();
+        ChronoFormatter.Cache.setMaximumSize(1);
+        try {
+            long hits = RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_FORMATTERS);
+            long misses = RecordingInstrumentation.count("miss:" + Instrumentation.CACHE_FORMATTERS);
+            long evictions = RecordingInstrumentation.count("eviction:" + Instrumentation.CACHE_FORMATTERS);
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter.ofDatePattern("uuuu/M/d", PatternType.CLDR, Locale.ROOT);
+            assertThat(RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_FORMATTERS), is(hits + 1));
+            assertThat(RecordingInstrumentation.count("miss:" + Instrumentation.CACHE_FORMATTERS), is(misses + 2));
+            assertThat(
+                RecordingInstrumentation.count("eviction:" + Instrumentation.CACHE_FORMATTERS),
+                is(evictions + 1));
+        } finally {
+            ChronoFormatter.Cache.setMaximumSize(500);
+            ChronoFormatter.Cache.clear();
+        }
+    }
+
+    @Test
+    public void printAndParse() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        long prints = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT);
+        long parses = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE);
+        long failures = RecordingInstrumentation.count("failure:PlainDate");
+        assertThat(f.format(PlainDate.of(2016, 2, 29)), is("2016-02-29"));
+        assertThat(f.parse("2016-02-30", new ParseLog()), nullValue());
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT), is(prints + 1));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE), is(parses + 1));
+        assertThat(RecordingInstrumentation.count("failure:PlainDate"), is(failures + 1));
+        assertThat(RecordingInstrumentation.lastFailure, is(ParseErrorCode.VALIDATION_FAILED.name()));
+        assertThat(RecordingInstrumentation.count("negative:" + Instrumentation.FORMAT_PARSE), is(0L));
+    }
+
+    @Test
+    public void lazyMessageNotForced() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        long failures = RecordingInstrumentation.count("failure:PlainDate");
+        AtomicInteger messageRequests = new AtomicInteger();
+        ParseLog plog =
+            new ParseLog() {
+                @Override
+                public String getErrorMessage() {
+                    messageRequests.incrementAndGet();
+                    return super.getErrorMessage();
+                }
+            };
+        plog.setLazyMessages(true);
+        assertThat(f.parse("2016-02-29xyz", plog), nullValue());
+        assertThat(messageRequests.get(), is(0));
+        assertThat(RecordingInstrumentation.count("failure:PlainDate"), is(failures + 1));
+        assertThat(RecordingInstrumentation.lastFailure, is(ParseErrorCode.TRAILING_CHARACTERS.name()));
+    }
+
+    @Test
+    public void multiFormatTrialsNotCounted() {
+        MultiFormatParser<PlainDate> mfp =
+            MultiFormatParser.of(
+                ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT),
+                ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT));
+        long parses = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE);
+        long failures = RecordingInstrumentation.count("failure:PlainDate");
+        assertThat(mfp.parse("2016-02-29", new ParseLog()), is(PlainDate.of(2016, 2, 29)));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE), is(parses + 1));
+        assertThat(RecordingInstrumentation.count("failure:PlainDate"), is(failures));
+        assertThat(mfp.parse("2016/02/29", new ParseLog()), nullValue());
+        assertThat(RecordingInstrumentation.count("failure:PlainDate"), is(failures + 1));
+        assertThat(RecordingInstrumentation.lastFailure, is(ParseErrorCode.NOT_MATCHED.name()));
+    }
+
+    @Test
+    public void nestedParserNotCounted() {
+        ChronoFormatter<PlainDate> inner = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> outer =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT)
+                .startOptionalSection()
+                .addCustomized(PlainDate.COMPONENT, inner, inner)
+                .endSection()
+                .addPattern("dd.MM.uuuu", PatternType.CLDR)
+                .build();
+        long parses = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE);
+        long failures = RecordingInstrumentation.count("failure:PlainDate");
+        assertThat(outer.parse("29.02.2016", new ParseLog()), is(PlainDate.of(2016, 2, 29)));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PARSE), is(parses + 1));
+        assertThat(RecordingInstrumentation.count("failure:PlainDate"), is(failures));
+    }
+
+    @Test
+    public void printEntryPoints() throws IOException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        PlainDate date = PlainDate.of(2016, 2, 29);
+        long prints = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT);
+        StringBuilder buffer = new StringBuilder();
+        f.print(date, buffer, f.getAttributes());
+        f.print(date, (Appendable) buffer, f.getAttributes());
+        f.print(date, buffer, f.getAttributes(), display -> null);
+        f.formatToBuffer(date, buffer);
+        assertThat(buffer.toString(), is("2016-02-292016-02-292016-02-292016-02-29"));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT), is(prints + 4));
+    }
+
+    @Test
+    public void nestedPrinterNotCounted() {
+        ChronoFormatter<PlainDate> inner = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> outer =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT)
+                .addLiteral('[')
+                .addCustomized(PlainDate.COMPONENT, inner, inner)
+                .addLiteral(']')
+                .build();
+        long prints = RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT);
+        assertThat(outer.format(PlainDate.of(2016, 2, 29)), is("[2016-02-29]"));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.FORMAT_PRINT), is(prints + 1));
+    }
+
+    @Test
+    public void timezoneAndTextCaches() {
+        Timezone.of("Europe/Berlin");
+        long hits = RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_TIMEZONES);
+        Timezone.of("Europe/Berlin");
+        assertThat(RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_TIMEZONES), is(hits + 1));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.LOAD_TIMEZONE) > 0, is(true));
+
+        CalendarText.getInstance("iso8601", Locale.GERMAN);
+        long textHits = RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_CALENDAR_TEXTS);
+        CalendarText.getInstance("iso8601", Locale.GERMAN);
+        assertThat(RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_CALENDAR_TEXTS), is(textHits + 1));
+        assertThat(RecordingInstrumentation.count("time:" + Instrumentation.LOAD_CALENDAR_TEXT) > 0, is(true));
+    }
+
+    @Test
+    public void timezoneNames() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm z", PatternType.CLDR, Locale.ENGLISH, Timezone.of("UTC").getID());
+        f.parse("2016-07-01 12:00 PST", new ParseLog());
+        long hits = RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_TIMEZONE_NAMES);
+        f.parse("2016-07-01 12:00 PST", new ParseLog());
+        assertThat(RecordingInstrumentation.count("hit:" + Instrumentation.CACHE_TIMEZONE_NAMES), is(hits + 1));
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.format.expert;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -7,12 +8,18 @@ import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.SI;
 import net.time4j.Weekday;
+import net.time4j.engine.ChronoEntity;
 import net.time4j.format.Attributes;
 import net.time4j.format.Leniency;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.io.IOException;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -923,4 +930,193 @@ public class Iso8601FormatTest {
             is("2012-06-30T23:59:60.000Z"));
     }
 
+    @Test
+    public void specializedPrintingConformsToGenericFormat() throws IOException {
+        Random random = new Random(4711L);
+        for (int i = 0; i < 3000; i++) {
+            PlainDate date = randomDate(random);
+            PlainTime time = randomTime(random);
+            PlainTimestamp tsp = PlainTimestamp.of(date, time);
+            for (ChronoFormatter<PlainDate> f : DATE_FORMATS) {
+                assertPrint(f, date);
+            }
+            assertPrint(Iso8601Format.BASIC_WALL_TIME, time);
+            assertPrint(Iso8601Format.EXTENDED_WALL_TIME, time);
+            assertPrint(Iso8601Format.BASIC_DATE_TIME, tsp);
+            assertPrint(Iso8601Format.EXTENDED_DATE_TIME, tsp);
+            assertPrint(Iso8601Format.BASIC_DATE_TIME_OFFSET, tsp.atUTC());
+            assertPrint(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, tsp.atUTC());
+        }
+        assertPrint(Iso8601Format.EXTENDED_WALL_TIME, PlainTime.midnightAtEndOfDay());
+        assertPrint(Iso8601Format.BASIC_DATE_TIME_OFFSET, PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS));
+        assertPrint(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS));
+    }
+
+    @Test
+    public void specializedParsingConformsToGenericFormat() {
+        Random random = new Random(4712L);
+        for (int i = 0; i < 3000; i++) {
+            PlainDate date = randomDate(random);
+            PlainTime time = randomTime(random);
+            PlainTimestamp tsp = PlainTimestamp.of(date, time);
+            for (ChronoFormatter<PlainDate> f : DATE_FORMATS) {
+                assertParseFuzzy(f, f.format(date), random);
+            }
+            for (ChronoFormatter<PlainTime> f : Arrays.asList(Iso8601Format.BASIC_WALL_TIME, Iso8601Format.EXTENDED_WALL_TIME)) {
+                assertParseFuzzy(f, f.format(time), random);
+                assertParseFuzzy(f, "T" + f.format(time), random);
+            }
+            for (ChronoFormatter<PlainTimestamp> f : Arrays.asList(Iso8601Format.BASIC_DATE_TIME, Iso8601Format.EXTENDED_DATE_TIME)) {
+                assertParseFuzzy(f, f.format(tsp), random);
+            }
+            for (ChronoFormatter<Moment> f : Arrays.asList(Iso8601Format.BASIC_DATE_TIME_OFFSET, Iso8601Format.EXTENDED_DATE_TIME_OFFSET)) {
+                String text = f.format(tsp.atUTC());
+                int h = random.nextInt(19);
+                int m = random.nextInt(61);
+                boolean extended = (f == Iso8601Format.EXTENDED_DATE_TIME_OFFSET);
+                String offset = (random.nextBoolean() ? "+" : "-") + pad(h) + (extended ? ":" : "") + pad(m);
+                assertParseFuzzy(f, text, random);
+                assertParseFuzzy(f, text.substring(0, text.length() - 1) + offset, random);
+            }
+        }
+        String[] specials = {
+            "2016-12-31T24:00Z", "2012-06-30T23:59:60Z", "2016-W53-1", "2015-W53-7", "2016W011", "2016-366", "2015-366",
+            "+12345-01-01", "-0001-01-01", "0000-01-01", "00000101", "2016-02-30", "2016-1-01", "T24:00", "24:00:01",
+            "12:30:45,1234567891", "12:30:45.", "1230455", "2016-01-01T12:00-00:00", "2016-01-01T12:00+18:00", "2016-W00-1"
+        };
+        for (String text : specials) {
+            for (ChronoFormatter<?> f : ALL_FORMATS) {
+                assertParse(f, text);
+            }
+        }
+    }
+
+    @Test
+    public void specializedParsingKeepsRawValues() {
+        ParseLog plog = new ParseLog();
+        PlainDate date = Iso8601Format.EXTENDED_CALENDAR_DATE.parse("2016-02-29", plog);
+        assertThat(date, is(PlainDate.of(2016, 2, 29)));
+        assertThat(plog.getPosition(), is(10));
+        assertThat(plog.getRawValues().getInt(PlainDate.YEAR), is(2016));
+        assertThat(plog.getRawValues().getInt(PlainDate.MONTH_AS_NUMBER), is(2));
+        assertThat(plog.getRawValues().getInt(PlainDate.DAY_OF_MONTH), is(29));
+    }
+
+    @Test
+    public void specializedParsingWithOffset() {
+        String text = "xyz2016-02-29";
+        ParseLog plog = new ParseLog(3);
+        assertThat(Iso8601Format.EXTENDED_DATE.parse(text, plog), is(PlainDate.of(2016, 2, 29)));
+        assertThat(plog.getPosition(), is(text.length()));
+        assertThat(plog.isError(), is(false));
+    }
+
+    private static final List<ChronoFormatter<PlainDate>> DATE_FORMATS =
+        Arrays.asList(
+            Iso8601Format.BASIC_CALENDAR_DATE,
+            Iso8601Format.EXTENDED_CALENDAR_DATE,
+            Iso8601Format.BASIC_ORDINAL_DATE,
+            Iso8601Format.EXTENDED_ORDINAL_DATE,
+            Iso8601Format.BASIC_WEEK_DATE,
+            Iso8601Format.EXTENDED_WEEK_DATE,
+            Iso8601Format.BASIC_DATE,
+            Iso8601Format.EXTENDED_DATE);
+
+    private static final List<ChronoFormatter<?>> ALL_FORMATS =
+        Arrays.asList(
+            Iso8601Format.BASIC_CALENDAR_DATE,
+            Iso8601Format.EXTENDED_CALENDAR_DATE,
+            Iso8601Format.BASIC_ORDINAL_DATE,
+            Iso8601Format.EXTENDED_ORDINAL_DATE,
+            Iso8601Format.BASIC_WEEK_DATE,
+            Iso8601Format.EXTENDED_WEEK_DATE,
+            Iso8601Format.BASIC_DATE,
+            Iso8601Format.EXTENDED_DATE,
+            Iso8601Format.BASIC_WALL_TIME,
+            Iso8601Format.EXTENDED_WALL_TIME,
+            Iso8601Format.BASIC_DATE_TIME,
+            Iso8601Format.EXTENDED_DATE_TIME,
+            Iso8601Format.BASIC_DATE_TIME_OFFSET,
+            Iso8601Format.EXTENDED_DATE_TIME_OFFSET);
+
+    private static final String FUZZY_CHARS = "0123456789-:+,.TWZ x";
+
+    private static PlainDate randomDate(Random random) {
+        int year = (random.nextInt(10) == 0) ? random.nextInt(30000) - 10000 : 1800 + random.nextInt(400);
+        return PlainDate.of(year, 1, 1).plus(random.nextInt(366), CalendarUnit.DAYS);
+    }
+
+    private static PlainTime randomTime(Random random) {
+        int nano;
+        switch (random.nextInt(4)) {
+            case 0:
+                nano = 0;
+                break;
+            case 1:
+                nano = random.nextInt(1000) * 1000000;
+                break;
+            default:
+                nano = random.nextInt(1000000000);
+        }
+        int second = (random.nextInt(4) == 0) ? 0 : random.nextInt(60);
+        return PlainTime.of(random.nextInt(24), random.nextInt(60), second, nano);
+    }
+
+    private static String pad(int value) {
+        return ((value < 10) ? "0" : "") + value;
+    }
+
+    private static <T extends ChronoEntity<T>> void assertPrint(
+        ChronoFormatter<T> f,
+        T value
+    ) throws IOException {
+        String expected = f.with(Leniency.STRICT).format(value);
+        assertThat(f.format(value), is(expected));
+        StringBuilder buffer = new StringBuilder("x");
+        f.formatToBuffer(value, buffer);
+        assertThat(buffer.toString(), is("x" + expected));
+    }
+
+    private static void assertParseFuzzy(
+        ChronoFormatter<?> f,
+        String text,
+        Random random
+    ) {
+        assertParse(f, text);
+        StringBuilder sb = new StringBuilder(text);
+        int index = random.nextInt(sb.length());
+        char c = FUZZY_CHARS.charAt(random.nextInt(FUZZY_CHARS.length()));
+        switch (random.nextInt(3)) {
+            case 0:
+                sb.setCharAt(index, c);
+                break;
+            case 1:
+                sb.insert(index, c);
+                break;
+            default:
+                if (sb.length() > 1) {
+                    sb.deleteCharAt(index);
+                }
+        }
+        assertParse(f, sb.toString());
+    }
+
+    private static void assertParse(
+        ChronoFormatter<?> f,
+        String text
+    ) {
+        ChronoFormatter<?> generic = f.with(Leniency.STRICT);
+        ParseLog expectedLog = new ParseLog();
+        ParseLog actualLog = new ParseLog();
+        Object expected = generic.parse(text, expectedLog);
+        Object actual = f.parse(text, actualLog);
+        String msg = f + " => " + text;
+        assertThat(msg, actual, is(expected));
+        assertThat(msg, actualLog.isError(), is(expectedLog.isError()));
+        assertThat(msg, actualLog.getErrorIndex(), is(expectedLog.getErrorIndex()));
+        assertThat(msg, actualLog.getErrorMessage(), is(expectedLog.getErrorMessage()));
+        assertThat(msg, actualLog.getPosition(), is(expectedLog.getPosition()));
+        assertThat(msg, actualLog.getRawValues().toString(), is(expectedLog.getRawValues().toString()));
+    }
+
 }
@@ -1,5 +1,7 @@
 package net.time4j.format.expert;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -8,6 +10,7 @@ import net.time4j.SI;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
 import net.time4j.ZonalDateTime;
+import net.time4j.base.Instrumentation;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
@@ -39,6 +42,7 @@ import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static net.time4j.tz.OffsetSign.AHEAD_OF_UTC;
 import static org.hamcrest.CoreMatchers.is;
@@ -820,6 +824,180 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void momentFormatterWithBoundTimezone() {
+        String[] patterns = {
+            "uuuu-MM-dd'T'HH:mm:ss.SSSXXX",
+            "EEE, dd MMM yyyy hh:mm:ss a zzzz",
+            "d. MMMM y, HH:mm:ss.SSSSSSSSS O",
+            "yy-MM-dd'T'kk:mm:ss ZZZZZ VV",
+            "yyyy-'W'ww-e HH:mm"
+        };
+        String[] zones = {"Europe/Berlin", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "Z"};
+        Moment[] moments = {
+            Moment.UNIX_EPOCH,
+            Moment.of(-1, 999_999_999, TimeScale.POSIX),
+            Moment.of(-100_000_000_000L, 5, TimeScale.POSIX),
+            PlainTimestamp.of(2016, 3, 27, 0, 59, 59).atUTC(),
+            PlainTimestamp.of(2016, 3, 27, 1, 0).atUTC(),
+            PlainTimestamp.of(2016, 10, 30, 0, 30).atUTC(),
+            PlainTimestamp.of(2016, 10, 30, 1, 30).atUTC().plus(123_456_789, TimeUnit.NANOSECONDS),
+            PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS),
+            PlainTimestamp.of(2017, 1, 1, 11, 15).atUTC()
+        };
+
+        for (String pattern : patterns) {
+            for (String zone : zones) {
+                ChronoFormatter<Moment> bound =
+                    ChronoFormatter.ofMomentPattern(pattern, PatternType.CLDR, Locale.ENGLISH, Timezone.of(zone).getID());
+                ChronoFormatter<Moment> unbound =
+                    ChronoFormatter.setUp(Moment.axis(), Locale.ENGLISH)
+                        .addPattern(pattern, PatternType.CLDR)
+                        .build()
+                        .with(new Attributes.Builder().setTimezone(Timezone.of(zone).getID()).build());
+                for (Moment moment : moments) {
+                    String expected;
+                    try {
+                        expected = unbound.format(moment);
+                    } catch (IllegalArgumentException iae) {
+                        expected = iae.getClass().getName(); // leap second with fractional offset
+                    }
+                    String result;
+                    try {
+                        result = bound.format(moment);
+                    } catch (IllegalArgumentException iae) {
+                        result = iae.getClass().getName();
+                    }
+                    assertThat(pattern + "/" + zone + "/" + moment, result, is(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void momentFormatterKeepsBoundTimezoneOnlyIfUnchanged() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm z", PatternType.CLDR, Locale.ENGLISH, ZonalOffset.UTC)
+                .with(Locale.GERMAN)
+                .withTimezone("Europe/Berlin")
+                .with(Locale.ENGLISH);
+        Moment moment = PlainTimestamp.of(2016, 7, 1, 12, 0).atUTC();
+        assertThat(f.format(moment), is("2016-07-01 14:00 CEST"));
+        ChronoFormatter<Moment> g =
+            f.with(new Attributes.Builder().setTimezone(Timezone.of("America/New_York").getID()).build());
+        assertThat(g.format(moment), is("2016-07-01 08:00 EDT"));
+    }
+
+    @Test
+    public void strictConsistencyOfTexts() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("EEE, dd MMM uuuu", PatternType.CLDR, Locale.ENGLISH).with(Leniency.STRICT);
+        assertThat(f.parse("Mon, 29 Feb 2016"), is(PlainDate.of(2016, 2, 29)));
+        ParseLog plog = new ParseLog();
+        assertThat(f.parse("Tue, 29 Feb 2016", plog), nullValue());
+        assertThat(
+            plog.getErrorMessage(),
+            is("Conflict found: Text {Tue, 29 Feb 2016} with element DAY_OF_WEEK {TUESDAY}, "
+                + "but parsed entity has element value {MONDAY}."));
+    }
+
+    @Test
+    public void strictConsistencyOfMonthTexts() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-DDD (MMMM)", PatternType.CLDR, Locale.ENGLISH).with(Leniency.STRICT);
+        assertThat(f.parse("2016-060 (February)"), is(PlainDate.of(2016, 2, 29)));
+        ParseLog plog = new ParseLog();
+        assertThat(f.parse("2016-060 (March)", plog), nullValue());
+        assertThat(
+            plog.getErrorMessage(),
+            is("Conflict found: Text {2016-060 (March)} with element MONTH_AS_NUMBER {3}, "
+                + "but parsed entity has element value {2}."));
+    }
+
+    @Test
+    public void strictConsistencyOfWeekdaysInYear() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("EEEE, d. MMMM uuuu HH:mm", PatternType.CLDR, Locale.GERMAN)
+                .with(Leniency.STRICT);
+        ChronoFormatter<PlainDate> weekday =
+            ChronoFormatter.ofDatePattern("EEEE", PatternType.CLDR, Locale.GERMAN);
+        for (PlainDate date = PlainDate.of(2016, 1, 1); date.getYear() == 2016; date = date.plus(1, CalendarUnit.DAYS)) {
+            PlainTimestamp tsp = date.atTime(9, 15);
+            String text = f.format(tsp);
+            assertThat(f.parse(text), is(tsp));
+            String wrong = weekday.format(date.plus(1, CalendarUnit.DAYS)) + text.substring(text.indexOf(','));
+            assertThat(f.parse(wrong, new ParseLog()), nullValue());
+        }
+    }
+
+    @Test
+    public void strictConsistencyOfNumbers() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT)
+                .with(Leniency.STRICT);
+        assertThat(f.parse("2016-02-29 17:45:30.123"), is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30).plus(123, ClockUnit.MILLIS)));
+
+        ChronoFormatter<PlainTimestamp> q =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm 'Q'Q", PatternType.CLDR, Locale.ROOT)
+                .with(Leniency.STRICT);
+        assertThat(q.parse("2016-05-31 17:45 Q2"), is(PlainTimestamp.of(2016, 5, 31, 17, 45)));
+        ParseLog qlog = new ParseLog();
+        assertThat(q.parse("2016-05-31 17:45 Q1", qlog), nullValue());
+        assertThat(
+            qlog.getErrorMessage(),
+            is("Conflict found: Text {2016-05-31 17:45 Q1} with element QUARTER_OF_YEAR {Q1}, "
+                + "but parsed entity has element value {Q2}."));
+
+        ChronoFormatter<PlainTimestamp> g =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm D", PatternType.CLDR, Locale.ROOT)
+                .with(Leniency.STRICT);
+        assertThat(g.parse("2016-02-29 17:45 60"), is(PlainTimestamp.of(2016, 2, 29, 17, 45)));
+        ParseLog plog = new ParseLog();
+        assertThat(g.parse("2016-02-29 17:45 61", plog), nullValue());
+        assertThat(plog.isError(), is(true));
+    }
+
+    @Test
+    public void nativeDecimalDigits() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '\u0660');
+        String text = "\u0662\u0660\u0661\u0666-\u0660\u0662-\u0660\u0669";
+        assertThat(f.format(PlainDate.of(2016, 2, 9)), is(text));
+        assertThat(f.parse(text), is(PlainDate.of(2016, 2, 9)));
+        assertThat(f.format(PlainDate.of(-44, 3, 15)), is("-\u0660\u0660\u0664\u0664-\u0660\u0663-\u0661\u0665"));
+
+        ChronoFormatter<PlainDate> g =
+            ChronoFormatter.ofDatePattern("yy/M/d", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '\u0966');
+        assertThat(g.format(PlainDate.of(2007, 11, 25)), is("\u0966\u096D/\u0967\u0967/\u0968\u096B"));
+        assertThat(g.parse("\u0966\u096D/\u0967\u0967/\u0968\u096B"), is(PlainDate.of(2007, 11, 25)));
+
+        ChronoFormatter<PlainDate> h =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT)
+                .addInteger(PlainDate.YEAR, 1, 3)
+                .build()
+                .with(Attributes.ZERO_DIGIT, '\u0E50');
+        try {
+            h.format(PlainDate.of(2016, 1, 1));
+            fail("Expected exceeding width.");
+        } catch (IllegalArgumentException iae) {
+            assertThat(
+                iae.getMessage(),
+                is("Element YEAR cannot be printed as the formatted value \u0E52\u0E50\u0E51\u0E56 "
+                    + "exceeds the maximum width of 3."));
+        }
+    }
+
+    @Test
+    public void instrumentationDisabledByDefault() throws ParseException {
+        assertThat(Instrumentation.isEnabled(), is(false));
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("2016-02-29"), is(PlainDate.of(2016, 2, 29)));
+        assertThat(f.parseOrNull("2016-02-30"), nullValue());
+        assertThat(f.format(PlainDate.of(2016, 2, 29)), is("2016-02-29"));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
@@ -0,0 +1,81 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+
+import java.util.Locale;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ParseContextTest {
+
+    @Test
+    public void parseRepeatedly() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd[ HH:mm[:ss]]", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.COMPONENT, PlainTime.midnightAtStartOfDay());
+        ParseContext context = new ParseContext();
+        String[] texts = {"2016-02-29 17:45:30", "2016-03-01", "2016-13-01", "2016-03-01 23:59", "2016-x"};
+
+        for (int i = 0; i < 3; i++) {
+            for (String text : texts) {
+                ParseLog plog = context.getParseLog(0);
+                PlainTimestamp result = f.parse(text, plog, context);
+                ParseLog expectedLog = new ParseLog();
+                PlainTimestamp expected = f.parse(text, expectedLog);
+                assertThat(text, result, is(expected));
+                assertThat(text, plog.getPosition(), is(expectedLog.getPosition()));
+                assertThat(text, plog.getErrorIndex(), is(expectedLog.getErrorIndex()));
+                assertThat(text, plog.getErrorMessage(), is(expectedLog.getErrorMessage()));
+                if (expected != null) {
+                    assertThat(text, plog.getRawValues(), is(expectedLog.getRawValues()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parseOrBlocks() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu|uuuu-MM-dd|MMM d, uuuu", PatternType.CLDR, Locale.ENGLISH);
+        ParseContext context = new ParseContext();
+        PlainDate expected = PlainDate.of(2016, 7, 4);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(f.parse("04.07.2016", context.getParseLog(0), context), is(expected));
+            assertThat(f.parse("2016-07-04", context.getParseLog(0), context), is(expected));
+            assertThat(f.parse("Jul 4, 2016", context.getParseLog(0), context), is(expected));
+            assertThat(f.parse("4 Jul 2016", context.getParseLog(0), context), nullValue());
+        }
+    }
+
+    @Test
+    public void parseWithMultiFormat() {
+        MultiFormatParser<PlainDate> mfp =
+            MultiFormatParser.of(
+                ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN),
+                ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN),
+                ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US));
+        ParseContext context = new ParseContext();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(mfp.parse("31.12.2015", context.getParseLog(0), context), is(expected));
+            assertThat(mfp.parse("12/31/2015", context.getParseLog(0), context), is(expected));
+            assertThat(mfp.parse("31. Dezember 2015", context.getParseLog(0), context), is(expected));
+            ParseLog plog = context.getParseLog(0);
+            assertThat(mfp.parse("31-12-2015", plog, context), nullValue());
+            assertThat(plog.isError(), is(true));
+        }
+    }
+
+}
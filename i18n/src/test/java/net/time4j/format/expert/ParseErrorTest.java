@@ -0,0 +1,120 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.format.Leniency;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ParseErrorTest {
+
+    private static final ChronoFormatter<PlainDate> ISO =
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+
+    @Test
+    public void errorCodes() {
+        assertThat(errorCode(ISO, "2016-02-29x"), is(ParseErrorCode.TRAILING_CHARACTERS));
+        assertThat(errorCode(ISO, "2016/02/29"), is(ParseErrorCode.LITERAL_MISMATCH));
+        assertThat(errorCode(ISO, "2016-xx-29"), is(ParseErrorCode.UNPARSEABLE_ELEMENT));
+        assertThat(errorCode(ISO, "2015-02-29"), is(ParseErrorCode.VALIDATION_FAILED));
+        assertThat(
+            errorCode(ChronoFormatter.ofDatePattern("uuuu-MM", PatternType.CLDR, Locale.ROOT), "2016-02"),
+            is(ParseErrorCode.INSUFFICIENT_DATA));
+        assertThat(
+            errorCode(
+                ChronoFormatter.ofDatePattern("EEE, uuuu-MM-dd", PatternType.CLDR, Locale.ENGLISH)
+                    .with(Leniency.STRICT),
+                "Tue, 2016-02-29"),
+            is(ParseErrorCode.INCONSISTENT_DATA));
+        assertThat(
+            errorCode(MultiFormatParser.of(ISO), "2016/02/29"),
+            is(ParseErrorCode.NOT_MATCHED));
+    }
+
+    @Test
+    public void noErrorCode() {
+        ParseLog plog = new ParseLog();
+        assertThat(ISO.parse("2016-02-29", plog), is(PlainDate.of(2016, 2, 29)));
+        assertThat(plog.getErrorCode(), nullValue());
+        plog.reset();
+        ISO.parse("2016-02-29x", plog);
+        assertThat(plog.getErrorCode(), is(ParseErrorCode.TRAILING_CHARACTERS));
+        plog.reset();
+        assertThat(plog.getErrorCode(), nullValue());
+    }
+
+    @Test
+    public void lazyMessagesEqualEagerMessages() {
+        String[] invalid = {"2016-02-29x", "2016/02/29", "2016-xx-29", "2015-02-29", "2016-02-29-"};
+
+        for (String text : invalid) {
+            ParseLog eager = new ParseLog();
+            ParseLog lazy = new ParseLog();
+            lazy.setLazyMessages(true);
+            assertThat(ISO.parse(text, eager), nullValue());
+            assertThat(ISO.parse(text, lazy), nullValue());
+            assertThat(lazy.getErrorIndex(), is(eager.getErrorIndex()));
+            assertThat(lazy.getErrorCode(), is(eager.getErrorCode()));
+            assertThat(lazy.getErrorMessage(), is(eager.getErrorMessage()));
+        }
+    }
+
+    @Test
+    public void lazyMessagesSurviveReset() {
+        ParseLog plog = new ParseLog();
+        plog.setLazyMessages(true);
+        plog.reset();
+        assertThat(plog.isLazyMessages(), is(true));
+        assertThat(MultiFormatParser.of(ISO).parse("2016/02/29", plog), nullValue());
+        assertThat(plog.getErrorMessage(), is("Not matched by any format: 2016/02/29"));
+    }
+
+    @Test
+    public void publicSetErrorIsElementError() {
+        ParseLog plog = new ParseLog();
+        plog.setError(3, "Custom failure.");
+        assertThat(plog.getErrorCode(), is(ParseErrorCode.UNPARSEABLE_ELEMENT));
+        assertThat(plog.getErrorMessage(), is("Custom failure."));
+    }
+
+    @Test
+    public void parseOrNull() {
+        assertThat(ISO.parseOrNull("2016-02-29"), is(PlainDate.of(2016, 2, 29)));
+        assertThat(ISO.parseOrNull("2016-02-30"), nullValue());
+        assertThat(ISO.parseOrNull("2016-02-29 "), nullValue());
+        assertThat(ISO.parseOrNull(""), nullValue());
+
+        MultiFormatParser<PlainDate> mfp =
+            MultiFormatParser.of(ISO, ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT));
+        assertThat(mfp.parseOrNull("29.02.2016"), is(PlainDate.of(2016, 2, 29)));
+        assertThat(mfp.parseOrNull("29/02/2016"), nullValue());
+
+        ChronoFormatter<Moment> cf = momentFormatter("uuuu-MM-dd HH:mmXXX");
+        assertThat(cf.parseOrNull("2016-02-29 17:45"), nullValue());
+        assertThat(cf.parseOrNull("2016-02-29 17:45Z"), is(Moment.of(1456767900, TimeScale.POSIX)));
+    }
+
+    private static ChronoFormatter<Moment> momentFormatter(String pattern) {
+        return ChronoFormatter.setUp(Moment.class, Locale.ROOT).addPattern(pattern, PatternType.CLDR).build();
+    }
+
+    private static ParseErrorCode errorCode(
+        ChronoParser<?> parser,
+        String text
+    ) {
+        ParseLog plog = new ParseLog();
+        assertThat(parser.parse(text, plog), nullValue());
+        return plog.getErrorCode();
+    }
+
+}
@@ -0,0 +1,66 @@
+package net.time4j.format.expert;
+
+import net.time4j.base.Instrumentation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+// registered in src/test/instrumentation/META-INF/services for InstrumentationTest only (see pom.xml)
+public class RecordingInstrumentation
+    extends Instrumentation {
+
+    static final ConcurrentMap<String, AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+    static volatile String lastFailure = null;
+
+    static long count(String key) {
+        AtomicLong counter = COUNTERS.get(key);
+        return ((counter == null) ? 0 : counter.get());
+    }
+
+    @Override
+    public void recordCacheHit(String cache) {
+        increment("hit:" + cache);
+    }
+
+    @Override
+    public void recordCacheMiss(String cache) {
+        increment("miss:" + cache);
+    }
+
+    @Override
+    public void recordCacheEviction(String cache) {
+        increment("eviction:" + cache);
+    }
+
+    @Override
+    public void recordTime(
+        String operation,
+        long nanos
+    ) {
+        increment((nanos < 0) ? ("negative:" + operation) : ("time:" + operation));
+    }
+
+    @Override
+    public void recordParseFailure(
+        Class<?> type,
+        String code
+    ) {
+        lastFailure = code;
+        increment("failure:" + type.getSimpleName());
+    }
+
+    private static void increment(String key) {
+        AtomicLong counter = COUNTERS.get(key);
+        if (counter == null) {
+            counter = new AtomicLong();
+            AtomicLong old = COUNTERS.putIfAbsent(key, counter);
+            if (old != null) {
+                counter = old;
+            }
+        }
+        counter.incrementAndGet();
+    }
+
+}
@@ -2,12 +2,18 @@ package net.time4j.history;
 
 import net.time4j.PlainDate;
 import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.ChronoFormatter;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -415,4 +421,131 @@ public class HistoryTest {
         assertThat(formatter.format(PlainDate.of(2001, 1, 1)), is("21st century"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void convertConformsToCutOverEvents() throws Exception {
+        Random random = new Random(1752);
+
+        for (ChronoHistory history : allHistories()) {
+            int n = 5000;
+            long[] days = new long[n];
+            HistoricDate[] expected = new HistoricDate[n];
+
+            for (int i = 0; i < n; i++) {
+                long mjd = ((i < 200) ? -100000L + i * 1000L : random.nextInt(250000) - 200000);
+                days[i] = mjd;
+                PlainDate date = PlainDate.of(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+                expected[i] = convertByEvents(history, date);
+                assertThat(history.convert(date), is(expected[i]));
+                assertThat(history.convert(expected[i]), is(date));
+            }
+
+            assertThat(history.convert(days, EpochDays.MODIFIED_JULIAN_DATE), is(expected));
+            assertThat(history.convert(expected, EpochDays.MODIFIED_JULIAN_DATE), is(days));
+
+            for (int year = 1; year <= 2200; year++) {
+                int length = history.getLengthOfYear(HistoricEra.AD, year);
+                assertThat(history.getLengthOfYear(HistoricEra.AD, year), is(length)); // cached
+            }
+        }
+    }
+
+    @Test
+    public void algorithmConformsToCutOverEvents() throws Exception {
+        for (ChronoHistory history : allHistories()) {
+            for (CutOverEvent event : history.getEvents()) {
+                int year = event.dateAtCutOver.getYearOfEra(); // AD
+                for (int y = year - 1; y <= year + 1; y++) {
+                    for (int m = 1; m <= 12; m++) {
+                        for (int d = 1; d <= 31; d++) {
+                            HistoricDate date = HistoricDate.of(HistoricEra.AD, y, m, d);
+                            assertThat(history.getAlgorithm(date), is(algorithmByEvents(history, date)));
+                        }
+                    }
+                }
+            }
+            for (int y = -10; y <= 3000; y += 7) {
+                HistoricEra era = ((y < 1) ? HistoricEra.BC : HistoricEra.AD);
+                HistoricDate date = HistoricDate.of(era, (y < 1) ? 1 - y : y, 2, 29);
+                assertThat(history.getAlgorithm(date), is(algorithmByEvents(history, date)));
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertInvalidDateInBulk() {
+        ChronoHistory.ofFirstGregorianReform().convert(
+            new HistoricDate[] {HistoricDate.of(HistoricEra.AD, 1582, 10, 10)},
+            EpochDays.UTC);
+    }
+
+    // reference: linear search in list of cutover events
+    private static HistoricDate convertByEvents(
+        ChronoHistory history,
+        PlainDate date
+    ) {
+        long mjd = date.get(EpochDays.MODIFIED_JULIAN_DATE);
+        HistoricDate hd = null;
+        List<CutOverEvent> events = history.getEvents();
+
+        for (int i = events.size() - 1; i >= 0; i--) {
+            CutOverEvent event = events.get(i);
+            if (mjd >= event.start) {
+                hd = event.algorithm.fromMJD(mjd);
+                break;
+            }
+        }
+
+        if (hd == null) {
+            Calculus julian =
+                history.hasAncientJulianLeapYears()
+                ? history.getAncientJulianLeapYears().getCalculus()
+                : CalendarAlgorithm.JULIAN;
+            hd = julian.fromMJD(mjd);
+        }
+
+        HistoricEra era = history.getEraPreference().getPreferredEra(hd, date);
+
+        if (era != hd.getEra()) {
+            int yoe = era.yearOfEra(hd.getEra(), hd.getYearOfEra());
+            hd = HistoricDate.of(era, yoe, hd.getMonth(), hd.getDayOfMonth());
+        }
+
+        return hd;
+    }
+
+    // reference: linear search in list of cutover events
+    private static Calculus algorithmByEvents(
+        ChronoHistory history,
+        HistoricDate date
+    ) {
+        List<CutOverEvent> events = history.getEvents();
+
+        for (int i = events.size() - 1; i >= 0; i--) {
+            CutOverEvent event = events.get(i);
+            if (date.compareTo(event.dateAtCutOver) >= 0) {
+                return event.algorithm;
+            } else if (date.compareTo(event.dateBeforeCutOver) > 0) {
+                return null;
+            }
+        }
+
+        return (
+            history.hasAncientJulianLeapYears()
+            ? history.getAncientJulianLeapYears().getCalculus()
+            : CalendarAlgorithm.JULIAN);
+    }
+
+    private static List<ChronoHistory> allHistories() throws Exception {
+        Field field = ChronoHistory.class.getDeclaredField("LOOKUP");
+        field.setAccessible(true);
+        List<ChronoHistory> list = new ArrayList<>();
+        for (Object history : ((Map<?, ?>) field.get(null)).values()) {
+            list.add((ChronoHistory) history);
+        }
+        list.add(ChronoHistory.ofFirstGregorianReform());
+        list.add(ChronoHistory.ofFirstGregorianReform().with(AncientJulianLeapYears.SCALIGER));
+        list.add(ChronoHistory.ofSweden().with(EraPreference.hispanicUntil(PlainDate.of(1600, 1, 1))));
+        return list;
+    }
+
+}
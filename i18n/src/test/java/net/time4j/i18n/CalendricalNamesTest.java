@@ -25,7 +25,10 @@ import org.junit.runners.JUnit4;
 import java.text.DateFormatSymbols;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
@@ -572,6 +575,33 @@ public class CalendricalNamesTest {
         assertThat(result, is("Thứ Hai"));
     }
 
+    @Test
+    public void preload() {
+        List<Locale> locales = Arrays.asList(Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, new Locale("ar"));
+        long size = CalendarText.preload(Collections.singleton(CalendarText.ISO_CALENDAR_TYPE), locales);
+        assertThat(size > 0, is(true));
+        assertThat(
+            CalendarText.preload(Collections.singleton(CalendarText.ISO_CALENDAR_TYPE), locales),
+            is(size));
+        assertThat(
+            CalendarText.preload(Collections.singleton(CalendarText.ISO_CALENDAR_TYPE), locales.subList(0, 1)) < size,
+            is(true));
+        CalendarText instance = CalendarText.getIsoInstance(Locale.GERMAN);
+        assertThat(
+            instance.getStdMonths(TextWidth.WIDE, OutputContext.FORMAT).print(Month.MARCH),
+            is("März"));
+        assertThat(instance.getWeekdays(TextWidth.NARROW, OutputContext.STANDALONE).print(Weekday.FRIDAY), is("F"));
+        assertThat(
+            instance.getQuarters(TextWidth.WIDE, OutputContext.FORMAT)
+                == instance.getQuarters(TextWidth.WIDE, OutputContext.STANDALONE),
+            is(true));
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void preloadWithoutCalendarType() {
+        CalendarText.preload(Collections.<String>singleton(null), Collections.singleton(Locale.ENGLISH));
+    }
+
    private static boolean isCalendarTypeSupported(
         TextProvider p,
         String calendarType
@@ -24,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
         PluralRulesTest.class,
         PrettyTimeTest.class,
         RootLocaleTest.class,
+        ServiceRegistryTest.class,
         WeekendTest.class
     }
 )
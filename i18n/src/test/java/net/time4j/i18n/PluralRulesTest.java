@@ -133,4 +133,44 @@ public class PluralRulesTest {
         assertThat(rules.getCategory(77), is(PluralCategory.OTHER));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void categoriesBeyondPrecomputedRange() {
+        PluralRules ru = PluralRules.of(new Locale("ru"), NumberType.CARDINALS);
+        assertThat(ru.getCategory(999), is(PluralCategory.MANY));
+        assertThat(ru.getCategory(1000), is(PluralCategory.MANY));
+        assertThat(ru.getCategory(1001), is(PluralCategory.ONE));
+        assertThat(ru.getCategory(1011), is(PluralCategory.MANY));
+        assertThat(ru.getCategory(1022), is(PluralCategory.FEW));
+        PluralRules en = PluralRules.of(Locale.ENGLISH, NumberType.ORDINALS);
+        assertThat(en.getCategory(1003), is(PluralCategory.FEW));
+        assertThat(en.getCategory(1013), is(PluralCategory.OTHER));
+        PluralRules fr = PluralRules.of(Locale.FRENCH, NumberType.CARDINALS);
+        assertThat(fr.getCategory(1), is(PluralCategory.ONE));
+        assertThat(fr.getCategory(1001), is(PluralCategory.OTHER));
+        assertThat(fr.getCategory(-1), is(PluralCategory.OTHER));
+    }
+
+    @Test
+    public void sameRulesForSameLanguage() {
+        assertThat(
+            PluralRules.of(new Locale("ru"), NumberType.CARDINALS)
+                == PluralRules.of(new Locale("uk"), NumberType.CARDINALS),
+            is(true));
+        assertThat(
+            PluralRules.of(Locale.FRANCE, NumberType.CARDINALS)
+                == PluralRules.of(Locale.FRENCH, NumberType.CARDINALS),
+            is(true));
+    }
+
+    @Test
+    public void registerOverridesResolvedRules() {
+        Locale locale = new Locale("xx", "YY");
+        PluralRules std = PluralRules.of(locale, NumberType.CARDINALS);
+        assertThat(std.getCategory(0), is(PluralCategory.OTHER));
+        PluralRules custom = PluralRules.of(Locale.FRENCH, NumberType.CARDINALS);
+        PluralRules.register(locale, custom);
+        assertThat(PluralRules.of(locale, NumberType.CARDINALS) == custom, is(true));
+        assertThat(PluralRules.of(locale, NumberType.CARDINALS).getCategory(0), is(PluralCategory.ONE));
+    }
+
+}
@@ -22,6 +22,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.io.IOException;
+import java.text.MessageFormat;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Locale;
@@ -49,6 +50,59 @@ public class PrettyTimeTest {
             is("in 23 days"));
     }
 
+    @Test
+    public void printListConformsToMessageFormat() {
+        UnitPatternProviderSPI spi = new UnitPatternProviderSPI();
+        String[] languages = {"en", "fr", "de", "ar", "ru", "ja", "zh", "es", "it", "pt", "nl", "pl", "hi", "he", "fi"};
+        IsoUnit[] units = {YEARS, MONTHS, WEEKS, DAYS, HOURS, MINUTES, SECONDS};
+        Duration<IsoUnit> duration = Duration.ofZero();
+        for (int i = 0; i < units.length; i++) {
+            duration = duration.plus(i + 1, units[i]);
+        }
+        for (String language : languages) {
+            Locale locale = new Locale(language);
+            PrettyTime pt = PrettyTime.of(locale);
+            for (TextWidth width : TextWidth.values()) {
+                for (int size = 2; size <= units.length; size++) {
+                    Object[] parts = new Object[size];
+                    for (int i = 0; i < size; i++) {
+                        IsoUnit unit = units[i];
+                        if (unit instanceof CalendarUnit) {
+                            parts[i] = pt.print(i + 1, (CalendarUnit) unit, width);
+                        } else {
+                            parts[i] = pt.print(i + 1, (ClockUnit) unit, width);
+                        }
+                    }
+                    String expected = MessageFormat.format(spi.getListPattern(locale, width, size), parts);
+                    assertThat(pt.print(duration, width, false, size), is(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void printToBuffer() throws IOException {
+        TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
+        PrettyTime pt = PrettyTime.of(Locale.FRANCE).withReferenceClock(clock);
+        Duration<?> dur = Duration.ofZero().plus(1, DAYS).plus(4, MINUTES);
+
+        StringBuilder buffer = new StringBuilder("x");
+        pt.print(dur, TextWidth.WIDE, true, 3, buffer);
+        assertThat(buffer.toString(), is("x1 jour, 0 heure et 4 minutes"));
+
+        buffer = new StringBuilder();
+        pt.print(-3, CalendarUnit.WEEKS, TextWidth.WIDE, buffer);
+        buffer.append(" | ");
+        pt.print(5, ClockUnit.SECONDS, TextWidth.ABBREVIATED, buffer);
+        assertThat(
+            buffer.toString(),
+            is(pt.print(-3, CalendarUnit.WEEKS, TextWidth.WIDE) + " | " + pt.print(5, SECONDS, TextWidth.ABBREVIATED)));
+
+        buffer = new StringBuilder();
+        pt.printRelative(PlainTimestamp.of(2014, 9, 4, 14, 40, 5).atUTC(), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+        assertThat(buffer.toString(), is("il y a 5 secondes"));
+    }
+
     @Test
     public void printRelativePT() {
         TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
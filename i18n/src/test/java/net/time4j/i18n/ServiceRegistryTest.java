@@ -0,0 +1,173 @@
+package net.time4j.i18n;
+
+import net.time4j.base.ResourceLoader;
+import net.time4j.format.PluralProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ServiceRegistryTest {
+
+    @Test
+    public void servicesAreCached() {
+        ResourceLoader loader = ResourceLoader.getInstance();
+        PluralProvider p1 = loader.services(PluralProvider.class).iterator().next();
+        PluralProvider p2 = loader.services(PluralProvider.class).iterator().next();
+        assertThat(p1, instanceOf(PluralProviderSPI.class));
+        assertThat(p1, sameInstance(p2));
+    }
+
+    @Test
+    public void servicesAfterReload() throws Exception {
+        // private loader instance, the global loader and its cached providers stay untouched
+        ResourceLoader loader = newStandardLoader();
+        PluralProvider p1 = loader.services(PluralProvider.class).iterator().next();
+        loader.reloadServices();
+        PluralProvider p2 = loader.services(PluralProvider.class).iterator().next();
+        assertThat(p2, instanceOf(PluralProviderSPI.class));
+        assertThat(p1, not(sameInstance(p2)));
+        assertThat(loader.services(PluralProvider.class).iterator().next(), sameInstance(p2));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void servicesAreUnmodifiable() {
+        Iterator<PluralProvider> iter = ResourceLoader.getInstance().services(PluralProvider.class).iterator();
+        iter.next();
+        iter.remove();
+    }
+
+    @Test
+    public void unknownService() {
+        assertThat(ResourceLoader.getInstance().services(Runnable.class).iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void brokenProviderSkipped() throws Exception {
+        ResourceLoader loader = newStandardLoader();
+        List<Probe> probes = collect(loader.services(Probe.class));
+        assertThat(probes.size(), is(2));
+        assertThat(probes.get(0), instanceOf(FirstProbe.class));
+        assertThat(probes.get(1), instanceOf(SecondProbe.class));
+        List<Probe> again = collect(loader.services(Probe.class));
+        assertThat(again.size(), is(2));
+        assertThat(again.get(0), sameInstance(probes.get(0)));
+        assertThat(again.get(1), sameInstance(probes.get(1)));
+    }
+
+    @Test
+    public void providersInstantiatedLazily() throws Exception {
+        ResourceLoader loader = newStandardLoader();
+        int count = SecondProbe.INSTANCES.get();
+        assertThat(loader.services(Probe.class).iterator().next(), instanceOf(FirstProbe.class));
+        assertThat(SecondProbe.INSTANCES.get(), is(count));
+        collect(loader.services(Probe.class));
+        assertThat(SecondProbe.INSTANCES.get(), is(count + 1));
+    }
+
+    @Test(timeout=10000)
+    public void unreadableConfigurationStopsLookup() throws Exception {
+        Class<?> probe = new UnreadableLoader().loadClass(Probe.class.getName());
+        assertThat(probe == Probe.class, is(false));
+        Iterable<?> services = newStandardLoader().services(probe);
+        assertThat(services.iterator().hasNext(), is(false));
+        assertThat(services.iterator().hasNext(), is(false));
+    }
+
+    private static ResourceLoader newStandardLoader() throws Exception {
+        Class<?> clazz = Class.forName("net.time4j.base.ResourceLoader$StdResourceLoader");
+        Constructor<?> constructor = clazz.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return (ResourceLoader) constructor.newInstance();
+    }
+
+    private static <S> List<S> collect(Iterable<S> services) {
+        List<S> list = new ArrayList<>();
+        for (S service : services) {
+            list.add(service);
+        }
+        return list;
+    }
+
+    // registered in META-INF/services together with a missing class
+    public interface Probe {
+    }
+
+    public static class FirstProbe
+        implements Probe {
+    }
+
+    public static class SecondProbe
+        implements Probe {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public SecondProbe() {
+            INSTANCES.incrementAndGet();
+        }
+
+    }
+
+    // defines its own copy of Probe, but cannot locate any service configuration
+    private static class UnreadableLoader
+        extends ClassLoader {
+
+        UnreadableLoader() {
+            super(ServiceRegistryTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(
+            String name,
+            boolean resolve
+        ) throws ClassNotFoundException {
+            if (!name.equals(Probe.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> c = this.findLoadedClass(name);
+                if (c == null) {
+                    String path = name.replace('.', '/') + ".class";
+                    try (InputStream in = this.getParent().getResourceAsStream(path)) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        byte[] buffer = new byte[4096];
+                        int n;
+                        while ((n = in.read(buffer)) != -1) {
+                            out.write(buffer, 0, n);
+                        }
+                        byte[] bytes = out.toByteArray();
+                        c = this.defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException ioe) {
+                        throw new ClassNotFoundException(name, ioe);
+                    }
+                }
+                return c;
+            }
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            throw new IOException("Cannot read: " + name);
+        }
+
+    }
+
+}
@@ -75,6 +75,7 @@ public abstract class XMLAdapter<S, T>
     private static final int MRD = 1000000000;
     private static final BigDecimal MRD_D = BigDecimal.valueOf(MRD);
     private static final BigInteger MRD_I = BigInteger.valueOf(MRD);
+    private static final int MAX_TZ_MINUTES = 14 * 60;
     private static final XmlDateTimeRule XML_TIMESTAMP = new XmlDateTimeRule();
 
     /**
@@ -248,6 +249,118 @@ public abstract class XMLAdapter<S, T>
     public static final XMLAdapter<javax.xml.datatype.Duration, Duration<IsoUnit>> XML_DURATION =
         new XmlDurationRule();
 
+    /**
+     * <p>Bridge between the lexical representation of {@code xsd:date}
+     * and the type {@code PlainDate}. </p>
+     *
+     * <p>This adapter parses and prints the text form directly and yields the same results as
+     * {@link #XML_DATE} applied on {@code DatatypeFactory.newXMLGregorianCalendar(String)}, but
+     * without any intermediate {@code XMLGregorianCalendar}. An optional timezone offset will be
+     * validated but otherwise ignored. Example: </p>
+     *
+     * <pre>
+     *  PlainDate date = XMLAdapter.XML_DATE_LEXICAL.translate(&quot;2014-02-28+01:00&quot;);
+     *  System.out.println(date);
+     *  // output: 2014-02-28
+     * </pre>
+     *
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Darstellung von {@code xsd:date}
+     * und dem Typ {@code PlainDate}. </p>
+     *
+     * <p>Dieser Adapter interpretiert und erzeugt die Textform direkt und liefert die gleichen
+     * Ergebnisse wie {@link #XML_DATE} angewandt auf {@code DatatypeFactory.newXMLGregorianCalendar(String)},
+     * aber ohne ein {@code XMLGregorianCalendar}-Zwischenobjekt. Ein optionaler Zeitzonen-Offset wird
+     * gepr&uuml;ft, aber sonst ignoriert. Beispiel: </p>
+     *
+     * <pre>
+     *  PlainDate date = XMLAdapter.XML_DATE_LEXICAL.translate(&quot;2014-02-28+01:00&quot;);
+     *  System.out.println(date);
+     *  // Ausgabe: 2014-02-28
+     * </pre>
+     *
+     * @since   4.19
+     */
+    public static final XMLAdapter<String, PlainDate> XML_DATE_LEXICAL =
+        new LexicalDateRule();
+
+    /**
+     * <p>Bridge between the lexical representation of {@code xsd:dateTime}
+     * (without timezone-offset) and the type {@code PlainTimestamp}. </p>
+     *
+     * <p>Works like {@link #XML_DATE_TIME} but directly on the text form. An optional
+     * timezone offset will be validated but otherwise ignored. </p>
+     *
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Darstellung von {@code xsd:dateTime}
+     * ohne Zeitzonen-Offset und dem Typ {@code PlainTimestamp}. </p>
+     *
+     * <p>Arbeitet wie {@link #XML_DATE_TIME}, aber direkt mit der Textform. Ein optionaler
+     * Zeitzonen-Offset wird gepr&uuml;ft, aber sonst ignoriert. </p>
+     *
+     * @since   4.19
+     */
+    public static final XMLAdapter<String, PlainTimestamp> XML_DATE_TIME_LEXICAL =
+        new LexicalDateTimeRule();
+
+    /**
+     * <p>Bridge between the lexical representation of {@code xsd:dateTime}
+     * inclusive timezone-offset and the type {@code ZonalDateTime}. </p>
+     *
+     * <p>Works like {@link #XML_DATE_TIME_OFFSET} but directly on the text form. Example: </p>
+     *
+     * <pre>
+     *  ZonalDateTime zdt =
+     *      XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate(&quot;2014-02-28T14:45:30+01:00&quot;);
+     *  System.out.println(XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.from(zdt));
+     *  // output: 2014-02-28T14:45:30.000+01:00
+     * </pre>
+     *
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Darstellung von {@code xsd:dateTime}
+     * inklusive Zeitzonen-Offset und dem Typ {@code ZonalDateTime}. </p>
+     *
+     * <p>Arbeitet wie {@link #XML_DATE_TIME_OFFSET}, aber direkt mit der Textform. Beispiel: </p>
+     *
+     * <pre>
+     *  ZonalDateTime zdt =
+     *      XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate(&quot;2014-02-28T14:45:30+01:00&quot;);
+     *  System.out.println(XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.from(zdt));
+     *  // Ausgabe: 2014-02-28T14:45:30.000+01:00
+     * </pre>
+     *
+     * @since   4.19
+     */
+    public static final XMLAdapter<String, ZonalDateTime> XML_DATE_TIME_OFFSET_LEXICAL =
+        new LexicalDateTimeOffsetRule();
+
+    /**
+     * <p>Bridge between the lexical representation of {@code xsd:duration}
+     * and the Time4J-type {@code Duration}. </p>
+     *
+     * <p>Works like {@link #XML_DURATION} but directly on the text form. Week items
+     * or a comma as decimal separator are not permitted in XML-schema. </p>
+     *
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Darstellung von {@code xsd:duration}
+     * und dem Time4J-Typ {@code Duration}. </p>
+     *
+     * <p>Arbeitet wie {@link #XML_DURATION}, aber direkt mit der Textform. Wochen
+     * oder ein Komma als Dezimaltrennzeichen sind in XML-Schema nicht erlaubt. </p>
+     *
+     * @since   4.19
+     */
+    public static final XMLAdapter<String, Duration<IsoUnit>> XML_DURATION_LEXICAL =
+        new LexicalDurationRule();
+
     //~ Konstruktoren -----------------------------------------------------
 
     private XMLAdapter() {
@@ -299,6 +412,144 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    private static String toLexical(
+        ChronoDisplay tsp,
+        boolean withTime,
+        int tz
+    ) {
+
+        PlainDate date = tsp.get(PlainDate.COMPONENT);
+        int year = date.getYear();
+
+        if (year == 0) {
+            throw new IllegalArgumentException("Year 0 is not valid in XML-schema: " + date);
+        }
+
+        StringBuilder sb = new StringBuilder(withTime ? 35 : 16);
+
+        if (year < 0) {
+            sb.append('-');
+            year = -year;
+        }
+
+        appendDigits(sb, year, 4);
+        sb.append('-');
+        appendDigits(sb, date.getMonth(), 2);
+        sb.append('-');
+        appendDigits(sb, date.getDayOfMonth(), 2);
+
+        if (withTime) {
+            PlainTime time = tsp.get(PlainTime.COMPONENT);
+            int hour = time.getHour();
+            int minute = time.getMinute();
+            int second = tsp.get(PlainTime.SECOND_OF_MINUTE); // LS
+            int nano = time.getNanosecond();
+
+            if ((second == 60) && ((hour != 23) || (minute != 59))) {
+                second = 59; // same as XMLGregorianCalendar which rejects local leap seconds outside of 23:59
+            }
+
+            sb.append('T');
+            appendDigits(sb, hour, 2);
+            sb.append(':');
+            appendDigits(sb, minute, 2);
+            sb.append(':');
+            appendDigits(sb, second, 2);
+            sb.append('.');
+            if ((nano % MIO) == 0) {
+                appendDigits(sb, nano / MIO, 3);
+            } else {
+                appendDigits(sb, nano, 9);
+            }
+        }
+
+        if (tz != DatatypeConstants.FIELD_UNDEFINED) {
+            if (Math.abs(tz) > MAX_TZ_MINUTES) {
+                throw new IllegalArgumentException("Invalid value for timezone field: " + tz);
+            } else if (tz == 0) {
+                sb.append('Z');
+            } else {
+                sb.append((tz < 0) ? '-' : '+');
+                tz = Math.abs(tz);
+                appendDigits(sb, tz / 60, 2);
+                sb.append(':');
+                appendDigits(sb, tz % 60, 2);
+            }
+        }
+
+        return sb.toString();
+
+    }
+
+    private static void appendDigits(
+        StringBuilder sb,
+        int value,
+        int minDigits
+    ) {
+
+        for (int n = 10, i = 1; i < minDigits; n *= 10, i++) {
+            if (value < n) {
+                for (int j = i; j < minDigits; j++) {
+                    sb.append('0');
+                }
+                break;
+            }
+        }
+
+        sb.append(value);
+
+    }
+
+    private static PlainTimestamp toTimestamp(
+        int year,
+        int month,
+        int dom,
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        boolean globalContext
+    ) {
+
+        if (globalContext && (second == 60)) {
+            second = 59;
+        }
+
+        PlainTimestamp tsp =
+            PlainTimestamp.of(year, month, dom, hour, minute, second);
+
+        if (nano != 0) {
+            tsp = tsp.with(PlainTime.NANO_OF_SECOND, nano);
+        }
+
+        return tsp;
+
+    }
+
+    private static ZonalDateTime toZonal(
+        PlainTimestamp tsp,
+        int offsetMins,
+        boolean leapsecond,
+        Object source
+    ) {
+
+        ZonalOffset offset = ZonalOffset.ofTotalSeconds(offsetMins * 60);
+        Moment moment = tsp.at(offset);
+
+        if (leapsecond && LeapSeconds.getInstance().isEnabled()) {
+            Moment ls = moment.plus(1, SI.SECONDS);
+            if (ls.isLeapSecond()) {
+                return ls.inZonalView(offset);
+            } else {
+                throw new ChronoException(
+                    "Leap second not registered: " + source);
+            }
+        } else {
+            return moment.inZonalView(offset);
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class XmlDateRule
@@ -471,8 +722,6 @@ public abstract class XMLAdapter<S, T>
 
             if (second == DatatypeConstants.FIELD_UNDEFINED) {
                 second = 0;
-            } else if (globalContext && (second == 60)) {
-                second = 59;
             }
 
             int nano = 0;
@@ -482,14 +731,7 @@ public abstract class XMLAdapter<S, T>
                 nano = fraction.movePointRight(9).intValue();
             }
 
-            PlainTimestamp tsp =
-                PlainTimestamp.of(year, month, dom, hour, minute, second);
-
-            if (nano != 0) {
-                tsp = tsp.with(PlainTime.NANO_OF_SECOND, nano);
-            }
-
-            return tsp;
+            return toTimestamp(year, month, dom, hour, minute, second, nano, globalContext);
 
         }
 
@@ -517,23 +759,7 @@ public abstract class XMLAdapter<S, T>
                 throw new ChronoException("Missing timezone offset: " + source);
             }
 
-            ZonalOffset offset = ZonalOffset.ofTotalSeconds(offsetMins * 60);
-            Moment moment = tsp.at(offset);
-
-            if (
-                (source.getSecond() == 60)
-                && LeapSeconds.getInstance().isEnabled()
-            ) {
-                Moment ls = moment.plus(1, SI.SECONDS);
-                if (ls.isLeapSecond()) {
-                    return ls.inZonalView(offset);
-                } else {
-                    throw new ChronoException(
-                        "Leap second not registered: " + source);
-                }
-            } else {
-                return moment.inZonalView(offset);
-            }
+            return toZonal(tsp, offsetMins, (source.getSecond() == 60), source);
 
         }
 
@@ -595,4 +821,297 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    private static class LexicalDateRule
+        extends XMLAdapter<String, PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate translate(String source) {
+
+            Lexer lexer = new Lexer(source, "date");
+            lexer.parseDate();
+            lexer.parseTimezone();
+            return PlainDate.of(lexer.year, lexer.month, lexer.dom);
+
+        }
+
+        @Override
+        public String from(PlainDate date) {
+
+            return toLexical(date, false, DatatypeConstants.FIELD_UNDEFINED);
+
+        }
+
+    }
+
+    private static class LexicalDateTimeRule
+        extends XMLAdapter<String, PlainTimestamp> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp translate(String source) {
+
+            Lexer lexer = new Lexer(source, "dateTime");
+            lexer.parseDate();
+            lexer.parseTime();
+            lexer.parseTimezone();
+            return lexer.toTimestamp(false);
+
+        }
+
+        @Override
+        public String from(PlainTimestamp tsp) {
+
+            return toLexical(tsp, true, DatatypeConstants.FIELD_UNDEFINED);
+
+        }
+
+    }
+
+    private static class LexicalDateTimeOffsetRule
+        extends XMLAdapter<String, ZonalDateTime> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ZonalDateTime translate(String source) {
+
+            Lexer lexer = new Lexer(source, "dateTime");
+            lexer.parseDate();
+            lexer.parseTime();
+            lexer.parseTimezone();
+
+            if (lexer.tz == DatatypeConstants.FIELD_UNDEFINED) {
+                throw new ChronoException("Missing timezone offset: " + source);
+            }
+
+            return toZonal(lexer.toTimestamp(true), lexer.tz, (lexer.second == 60), source);
+
+        }
+
+        @Override
+        public String from(ZonalDateTime zm) {
+
+            return toLexical(zm, true, zm.getOffset().getIntegralAmount() / 60);
+
+        }
+
+    }
+
+    private static class LexicalDurationRule
+        extends XMLAdapter<String, Duration<IsoUnit>> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Duration<IsoUnit> translate(String source) {
+
+            int n = source.length();
+            int start = (((n > 0) && (source.charAt(0) == '-')) ? 1 : 0);
+            boolean valid = ((n > start + 1) && (source.charAt(start) == 'P'));
+
+            for (int i = start + 1; valid && (i < n); i++) {
+                char c = source.charAt(i);
+                valid = (((c >= '0') && (c <= '9')) || (c == '.') || ("YMDTHS".indexOf(c) >= 0));
+            }
+
+            if (!valid || (source.charAt(n - 1) <= '9')) { // no alternative ISO-format
+                throw new ChronoException("Not a valid XML-duration: " + source);
+            }
+
+            try {
+                Duration<IsoUnit> duration = Duration.parsePeriod(source);
+                return (duration.isEmpty() ? Duration.ofZero() : duration);
+            } catch (ParseException ex) {
+                if (ex.getCause() instanceof NumberFormatException) {
+                    ArithmeticException ae = new ArithmeticException();
+                    ae.initCause(ex);
+                    throw ae;
+                }
+                throw new ChronoException("Cannot translate: " + source, ex);
+            }
+
+        }
+
+        @Override
+        public String from(Duration<IsoUnit> duration) {
+
+            return duration.toStringXML();
+
+        }
+
+    }
+
+    private static class Lexer {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String text;
+        private final String type;
+        private int pos = 0;
+
+        private int year;
+        private int month;
+        private int dom;
+        private int hour;
+        private int minute;
+        private int second;
+        private int nano = 0;
+        private int tz = DatatypeConstants.FIELD_UNDEFINED;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Lexer(
+            String text,
+            String type
+        ) {
+            super();
+
+            this.text = text;
+            this.type = type;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        void parseDate() {
+
+            boolean negative = this.consume('-');
+            int start = this.pos;
+            long y = 0;
+
+            while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                if (y < MRD) {
+                    y = y * 10 + (this.text.charAt(this.pos) - '0');
+                }
+                this.pos++;
+            }
+
+            if ((this.pos - start < 4) || (y == 0)) {
+                throw this.invalid();
+            } else if (y >= MRD) {
+                throw new ArithmeticException("Year out of supported range: " + this.text);
+            }
+
+            this.year = (int) (negative ? -y : y);
+            this.expect('-');
+            this.month = this.parseTwoDigits();
+            this.expect('-');
+            this.dom = this.parseTwoDigits();
+
+        }
+
+        void parseTime() {
+
+            this.expect('T');
+            this.hour = this.parseTwoDigits();
+            this.expect(':');
+            this.minute = this.parseTwoDigits();
+            this.expect(':');
+            this.second = this.parseTwoDigits();
+
+            if (this.consume('.')) {
+                int start = this.pos;
+                int factor = MRD;
+
+                while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                    factor /= 10;
+                    this.nano += (this.text.charAt(this.pos) - '0') * factor;
+                    this.pos++;
+                }
+
+                if (this.pos == start) {
+                    throw this.invalid();
+                }
+            }
+
+            if ((this.hour == 24) && (this.nano != 0)) {
+                throw new IllegalArgumentException("Invalid value 24 for hour field: " + this.text);
+            }
+
+        }
+
+        void parseTimezone() {
+
+            if (this.consume('Z')) {
+                this.tz = 0;
+            } else if (this.pos < this.text.length()) {
+                char sign = this.text.charAt(this.pos++);
+                if ((sign != '+') && (sign != '-')) {
+                    throw this.invalid();
+                }
+                int h = this.parseTwoDigits();
+                this.expect(':');
+                int m = this.parseTwoDigits();
+                int total = h * 60 + m;
+                if ((m >= 60) || (total > MAX_TZ_MINUTES)) {
+                    throw new IllegalArgumentException("Invalid value for timezone field: " + this.text);
+                }
+                this.tz = ((sign == '-') ? -total : total);
+            }
+
+            if (this.pos != this.text.length()) {
+                throw this.invalid();
+            }
+
+        }
+
+        PlainTimestamp toTimestamp(boolean globalContext) {
+
+            return XMLAdapter.toTimestamp(
+                this.year, this.month, this.dom, this.hour, this.minute, this.second, this.nano, globalContext);
+
+        }
+
+        private int parseTwoDigits() {
+
+            if (this.pos + 2 <= this.text.length()) {
+                char c1 = this.text.charAt(this.pos);
+                char c2 = this.text.charAt(this.pos + 1);
+
+                if (isDigit(c1) && isDigit(c2)) {
+                    this.pos += 2;
+                    return (c1 - '0') * 10 + (c2 - '0');
+                }
+            }
+
+            throw this.invalid();
+
+        }
+
+        private boolean consume(char c) {
+
+            if ((this.pos < this.text.length()) && (this.text.charAt(this.pos) == c)) {
+                this.pos++;
+                return true;
+            }
+
+            return false;
+
+        }
+
+        private void expect(char c) {
+
+            if (!this.consume(c)) {
+                throw this.invalid();
+            }
+
+        }
+
+        private ChronoException invalid() {
+
+            return new ChronoException("Not a valid XML-" + this.type + ": " + this.text);
+
+        }
+
+        private static boolean isDigit(char c) {
+
+            return ((c >= '0') && (c <= '9'));
+
+        }
+
+    }
+
 }
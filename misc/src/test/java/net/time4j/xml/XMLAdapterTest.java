@@ -7,8 +7,11 @@ import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoException;
 import net.time4j.format.expert.Iso8601Format;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -133,4 +136,103 @@ public class XMLAdapterTest {
                     new BigDecimal("5.123456789"))));
     }
 
+    @Test
+    public void xmlDateLexicalEqualsCalendarRoute() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        String[] inputs = {
+            "2014-02-28", "2014-02-28Z", "2014-02-28+14:00", "2014-02-28-05:30",
+            "-0001-01-01", "-0044-03-15", "0001-12-31", "123456789-01-01", "02014-01-01"
+        };
+        for (String xml : inputs) {
+            PlainDate expected = XMLAdapter.XML_DATE.translate(factory.newXMLGregorianCalendar(xml));
+            PlainDate date = XMLAdapter.XML_DATE_LEXICAL.translate(xml);
+            assertThat(date, is(expected));
+            assertThat(
+                XMLAdapter.XML_DATE_LEXICAL.from(date),
+                is(XMLAdapter.XML_DATE.from(date).toXMLFormat()));
+        }
+    }
+
+    @Test
+    public void xmlDateTimeLexicalEqualsCalendarRoute() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        String[] inputs = {
+            "2014-02-28T14:45:30", "2014-02-28T14:45:30Z", "2014-02-28T14:45:30.5+01:00",
+            "2014-02-28T24:00:00", "-0044-03-15T12:00:00.000", "2014-02-28T14:45:30.1234567891",
+            "2014-02-28T14:45:30.000001-00:00", "9999-12-31T23:59:59.999999999-14:00"
+        };
+        for (String xml : inputs) {
+            PlainTimestamp expected = XMLAdapter.XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(xml));
+            PlainTimestamp tsp = XMLAdapter.XML_DATE_TIME_LEXICAL.translate(xml);
+            assertThat(tsp, is(expected));
+            assertThat(
+                XMLAdapter.XML_DATE_TIME_LEXICAL.from(tsp),
+                is(XMLAdapter.XML_DATE_TIME.from(tsp).toXMLFormat()));
+        }
+    }
+
+    @Test
+    public void xmlDateTimeOffsetLexicalEqualsCalendarRoute() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        String[] inputs = {
+            "2014-02-28T14:45:30Z", "2014-02-28T14:45:30.5+01:00", "2014-02-28T24:00:00-02:00",
+            "2012-06-30T23:59:60.123456789Z", "2012-07-01T01:59:60+02:00", "-0044-03-15T12:00:00.000+14:00"
+        };
+        for (String xml : inputs) {
+            ZonalDateTime expected =
+                XMLAdapter.XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(xml));
+            ZonalDateTime zdt = XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate(xml);
+            assertThat(zdt, is(expected));
+            assertThat(
+                XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.from(zdt),
+                is(XMLAdapter.XML_DATE_TIME_OFFSET.from(zdt).toXMLFormat()));
+        }
+    }
+
+    @Test
+    public void xmlDurationLexicalEqualsDurationRoute() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        String[] inputs = {
+            "P1Y2M3DT4H5M6.7S", "-P1Y1M10DT3H5.123456789S", "PT0S", "P0Y", "-PT1.5S", "P30D", "PT36H"
+        };
+        for (String xml : inputs) {
+            Duration<IsoUnit> expected = XMLAdapter.XML_DURATION.translate(factory.newDuration(xml));
+            Duration<IsoUnit> duration = XMLAdapter.XML_DURATION_LEXICAL.translate(xml);
+            assertThat(duration, is(expected));
+            assertThat(
+                XMLAdapter.XML_DURATION_LEXICAL.from(duration),
+                is(XMLAdapter.XML_DURATION.from(duration).toString()));
+        }
+    }
+
+    @Test(expected=ChronoException.class)
+    public void xmlDateTimeLexicalWithoutSeconds() {
+        XMLAdapter.XML_DATE_TIME_LEXICAL.translate("2014-02-28T14:45");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void xmlDateLexicalWithYearZero() {
+        XMLAdapter.XML_DATE_LEXICAL.translate("0000-01-01");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void xmlDateLexicalWithOffsetOutOfRange() {
+        XMLAdapter.XML_DATE_LEXICAL.translate("2014-02-28+14:01");
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void xmlDateLexicalWithYearOutOfRange() {
+        XMLAdapter.XML_DATE_LEXICAL.translate("1000000000-01-01");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void xmlDateTimeOffsetLexicalWithoutOffset() {
+        XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate("2014-02-28T14:45:30");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void xmlDurationLexicalWithWeeks() {
+        XMLAdapter.XML_DURATION_LEXICAL.translate("P2W");
+    }
+
 }
@@ -23,6 +23,7 @@ package net.time4j.range;
 
 import net.time4j.CalendarUnit;
 import net.time4j.Duration;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
@@ -30,6 +31,7 @@ import net.time4j.Weekcycle;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
 import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
@@ -45,11 +47,15 @@ import net.time4j.format.expert.IsoDateStyle;
 import net.time4j.format.expert.ParseLog;
 import net.time4j.format.expert.PatternType;
 import net.time4j.format.expert.SignPolicy;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.GapResolver;
 import net.time4j.tz.OverlapResolver;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.TransitionStrategy;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
 
 import java.io.IOException;
 import java.io.InvalidObjectException;
@@ -57,7 +63,9 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.text.ParseException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Spliterator;
 import java.util.function.Consumer;
@@ -1093,11 +1101,9 @@ public final class DateInterval
         TZID tzid
     ) {
 
-        final Timezone tz = Timezone.of(tzid).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
-
-        return this.streamPartitioned(rule)
-            .map(interval -> interval.in(tz))
-            .filter(interval -> !interval.isEmpty());
+        Timezone tz = Timezone.of(tzid).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
+        Spliterator<PlainDate> days = this.streamDaily().spliterator();
+        return StreamSupport.stream(new PartitionSpliterator(days, rule, tz), false);
 
     }
 
@@ -2084,4 +2090,169 @@ public final class DateInterval
 
     }
 
+    private static class PartitionSpliterator
+        implements Spliterator<MomentInterval> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        // Sicherheitsabstand zu den Grenzen eines Offset-Fensters (deckt jede Offset-Differenz ab)
+        private static final long MARGIN = 2 * 86400L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Spliterator<PlainDate> days;
+        private final DayPartitionRule rule;
+        private final Timezone tz;
+        private final TransitionHistory history;
+        private final List<MomentInterval> buffer;
+
+        private int index;
+        private long windowStart; // inclusive (posix)
+        private long windowEnd; // exclusive (posix)
+        private int offset;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PartitionSpliterator(
+            Spliterator<PlainDate> days,
+            DayPartitionRule rule,
+            Timezone tz
+        ) {
+            super();
+
+            this.days = days;
+            this.rule = rule;
+            this.tz = tz;
+            this.history = tz.getHistory();
+            this.buffer = new ArrayList<>();
+            this.index = 0;
+            this.windowStart = 0;
+            this.windowEnd = 0; // leeres Fenster erzwingt eine Neuberechnung
+            this.offset = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean tryAdvance(Consumer<? super MomentInterval> action) {
+
+            while (this.index >= this.buffer.size()) {
+                this.buffer.clear();
+                this.index = 0;
+                if (!this.days.tryAdvance(this::expand)) {
+                    return false;
+                }
+            }
+
+            action.accept(this.buffer.get(this.index++));
+            return true;
+
+        }
+
+        @Override
+        public Spliterator<MomentInterval> trySplit() {
+
+            if (this.index < this.buffer.size()) {
+                return null; // erst den Puffer leeren
+            }
+
+            Spliterator<PlainDate> prefix = this.days.trySplit();
+            return ((prefix == null) ? null : new PartitionSpliterator(prefix, this.rule, this.tz));
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return this.days.estimateSize();
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            return IMMUTABLE | NONNULL | ORDERED;
+
+        }
+
+        private void expand(PlainDate date) {
+
+            List<ChronoInterval<PlainTime>> partitions = this.rule.getPartition(date);
+
+            if (partitions.isEmpty()) {
+                return;
+            }
+
+            long localDay = EpochDays.UNIX.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC) * 86400;
+
+            for (ChronoInterval<PlainTime> partition : partitions) {
+                Moment m1 = this.toMoment(date, localDay, partition.getStart().getTemporal());
+                Moment m2 = this.toMoment(date, localDay, partition.getEnd().getTemporal());
+                if (!m1.isSimultaneous(m2)) {
+                    this.buffer.add(new MomentInterval(Boundary.ofClosed(m1), Boundary.ofOpen(m2)));
+                }
+            }
+
+        }
+
+        private Moment toMoment(
+            PlainDate date,
+            long localDay,
+            PlainTime time
+        ) {
+
+            long local = localDay + time.getHour() * 3600 + time.getMinute() * 60 + time.getSecond();
+            long posix = local - this.offset;
+
+            if (!this.isSafe(posix) && this.updateWindow(posix)) {
+                posix = local - this.offset;
+            }
+
+            if (this.isSafe(posix)) {
+                return Moment.of(posix, time.getNanosecond(), TimeScale.POSIX);
+            }
+
+            // nahe einem Offset-Wechsel (Lücke oder Überlappung): Standardweg mit Auflösungsstrategie
+            return date.at(time).in(this.tz);
+
+        }
+
+        private boolean isSafe(long posix) {
+
+            return ((posix >= this.windowStart + MARGIN) && (posix < this.windowEnd - MARGIN));
+
+        }
+
+        // ermittelt das Intervall gleichen Offsets um den angegebenen Zeitpunkt
+        private boolean updateWindow(long posix) {
+
+            if ((this.history == null) || (posix <= Long.MIN_VALUE / 4) || (posix >= Long.MAX_VALUE / 4)) {
+                return false;
+            }
+
+            UnixTime ut = Moment.of(posix, TimeScale.POSIX);
+            ZonalTransition start = this.history.getStartTransition(ut);
+            @SuppressWarnings("deprecation") // findNextTransition() is optional and throws UOE by default
+            ZonalTransition next = this.history.getNextTransition(ut);
+
+            if (start == null) {
+                ZonalOffset initial = this.history.getInitialOffset();
+                if (initial.getFractionalAmount() != 0) {
+                    return false;
+                }
+                this.offset = initial.getIntegralAmount();
+                this.windowStart = Long.MIN_VALUE / 4;
+            } else {
+                this.offset = start.getTotalOffset();
+                this.windowStart = start.getPosixTime();
+            }
+
+            this.windowEnd = ((next == null) ? Long.MAX_VALUE / 4 : next.getPosixTime());
+            return true;
+
+        }
+
+    }
+
 }
@@ -248,8 +248,17 @@ public class DayPartitionBuilder {
      */
     public DayPartitionRule build() {
 
-        final Map<Weekday, List<ChronoInterval<PlainTime>>> wRules = new EnumMap<>(this.weekdayRules);
-        final Map<PlainDate, List<ChronoInterval<PlainTime>>> eRules = new HashMap<>(this.exceptionRules);
+        final Map<Weekday, List<ChronoInterval<PlainTime>>> wRules = new EnumMap<>(Weekday.class);
+        final Map<PlainDate, List<ChronoInterval<PlainTime>>> eRules = new HashMap<>();
+
+        // einmalig unveränderlich machen, damit jeder Aufruf von getPartition() dieselbe Liste liefert
+        for (Map.Entry<Weekday, List<ChronoInterval<PlainTime>>> entry : this.weekdayRules.entrySet()) {
+            wRules.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        for (Map.Entry<PlainDate, List<ChronoInterval<PlainTime>>> entry : this.exceptionRules.entrySet()) {
+            eRules.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+
         final Set<PlainDate> invalid = new HashSet<>(this.exclusions);
 
         return new DayPartitionRule() {
@@ -261,7 +270,7 @@ public class DayPartitionBuilder {
                         partitions = wRules.get(date.getDayOfWeek());
                     }
                     if (partitions != null) {
-                        return Collections.unmodifiableList(partitions);
+                        return partitions;
                     }
                 }
                 return Collections.emptyList();
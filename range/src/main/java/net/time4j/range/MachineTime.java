@@ -21,6 +21,7 @@
 
 package net.time4j.range;
 
+import net.time4j.Moment;
 import net.time4j.SI;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.RealTime;
@@ -39,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
 
 import static net.time4j.scale.TimeScale.POSIX;
 import static net.time4j.scale.TimeScale.UTC;
@@ -419,6 +421,86 @@ public final class MachineTime<U>
 
     }
 
+    /**
+     * <p>Obtains a collector which sums up machine times on the POSIX scale. </p>
+     *
+     * <p>In contrast to {@code reduce(MachineTime::plus)}, the collector uses a mutable
+     * {@link Accumulator} and does not create any intermediate objects. Parallel streams
+     * are supported. Example: </p>
+     *
+     * <pre>
+     *  MachineTime&lt;TimeUnit&gt; total =
+     *      intervals.stream().map(MomentInterval::getSimpleDuration).collect(MachineTime.summingPosix());
+     * </pre>
+     *
+     * @return  collector for the sum of machine times on the POSIX scale
+     * @throws  ArithmeticException in case of numerical overflow (during collecting)
+     * @see     MomentInterval#summingSimpleDurations()
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Collector}, der maschinelle Dauern auf der POSIX-Skala aufsummiert. </p>
+     *
+     * <p>Im Gegensatz zu {@code reduce(MachineTime::plus)} verwendet der {@code Collector} einen
+     * ver&auml;nderlichen {@link Accumulator} und erzeugt keine Zwischenobjekte. Parallele
+     * {@code Stream}s werden unterst&uuml;tzt. Beispiel: </p>
+     *
+     * <pre>
+     *  MachineTime&lt;TimeUnit&gt; total =
+     *      intervals.stream().map(MomentInterval::getSimpleDuration).collect(MachineTime.summingPosix());
+     * </pre>
+     *
+     * @return  collector for the sum of machine times on the POSIX scale
+     * @throws  ArithmeticException in case of numerical overflow (during collecting)
+     * @see     MomentInterval#summingSimpleDurations()
+     * @since   4.19
+     */
+    public static Collector<MachineTime<TimeUnit>, ?, MachineTime<TimeUnit>> summingPosix() {
+
+        return Collector.of(
+            Accumulator::onPosixScale,
+            Accumulator::add,
+            Accumulator::combine,
+            Accumulator::getTotal,
+            Collector.Characteristics.UNORDERED);
+
+    }
+
+    /**
+     * <p>Obtains a collector which sums up machine times on the UTC scale. </p>
+     *
+     * <p>In contrast to {@code reduce(MachineTime::plus)}, the collector uses a mutable
+     * {@link Accumulator} and does not create any intermediate objects. Parallel streams
+     * are supported. </p>
+     *
+     * @return  collector for the sum of machine times on the UTC scale
+     * @throws  ArithmeticException in case of numerical overflow (during collecting)
+     * @see     MomentInterval#summingRealDurations()
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Collector}, der maschinelle Dauern auf der UTC-Skala aufsummiert. </p>
+     *
+     * <p>Im Gegensatz zu {@code reduce(MachineTime::plus)} verwendet der {@code Collector} einen
+     * ver&auml;nderlichen {@link Accumulator} und erzeugt keine Zwischenobjekte. Parallele
+     * {@code Stream}s werden unterst&uuml;tzt. </p>
+     *
+     * @return  collector for the sum of machine times on the UTC scale
+     * @throws  ArithmeticException in case of numerical overflow (during collecting)
+     * @see     MomentInterval#summingRealDurations()
+     * @since   4.19
+     */
+    public static Collector<MachineTime<SI>, ?, MachineTime<SI>> summingUTC() {
+
+        return Collector.of(
+            Accumulator::onUTCScale,
+            Accumulator::add,
+            Accumulator::combine,
+            Accumulator::getTotal,
+            Collector.Characteristics.UNORDERED);
+
+    }
+
     @Override
     public long getSeconds() {
 
@@ -1107,6 +1189,238 @@ public final class MachineTime<U>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Mutable accumulator for summing up many machine times without intermediate objects. </p>
+     *
+     * <p>Seconds and nanoseconds are added as primitive values, and normalization only happens
+     * when the total is queried. On the UTC scale, leap seconds are taken into account when
+     * adding the elapsed time between two time points. </p>
+     *
+     * @param   <U> either {@code TimeUnit} or {@code SI}
+     * @author  Meno Hochschild
+     * @since   4.19
+     * @see     MachineTime#summingPosix()
+     * @see     MachineTime#summingUTC()
+     * @doctags.concurrency {mutable}
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Akkumulator, der viele maschinelle Dauern ohne Zwischenobjekte
+     * aufsummiert. </p>
+     *
+     * <p>Sekunden und Nanosekunden werden als primitive Werte addiert, und erst die Abfrage
+     * der Summe normalisiert. Auf der UTC-Skala werden Schaltsekunden ber&uuml;cksichtigt,
+     * wenn die Dauer zwischen zwei Zeitpunkten addiert wird. </p>
+     *
+     * @param   <U> either {@code TimeUnit} or {@code SI}
+     * @author  Meno Hochschild
+     * @since   4.19
+     * @see     MachineTime#summingPosix()
+     * @see     MachineTime#summingUTC()
+     * @doctags.concurrency {mutable}
+     */
+    public static final class Accumulator<U> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final TimeScale scale;
+        private long seconds;
+        private long nanos; // immer im Bereich -MRD < nanos < MRD
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Accumulator(TimeScale scale) {
+            super();
+
+            this.scale = scale;
+            this.seconds = 0;
+            this.nanos = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Creates a new empty accumulator on the POSIX scale. </p>
+         *
+         * @return  new accumulator with zero sum
+         */
+        /*[deutsch]
+         * <p>Erzeugt einen neuen leeren Akkumulator auf der POSIX-Skala. </p>
+         *
+         * @return  new accumulator with zero sum
+         */
+        public static Accumulator<TimeUnit> onPosixScale() {
+
+            return new Accumulator<>(POSIX);
+
+        }
+
+        /**
+         * <p>Creates a new empty accumulator on the UTC scale. </p>
+         *
+         * @return  new accumulator with zero sum
+         */
+        /*[deutsch]
+         * <p>Erzeugt einen neuen leeren Akkumulator auf der UTC-Skala. </p>
+         *
+         * @return  new accumulator with zero sum
+         */
+        public static Accumulator<SI> onUTCScale() {
+
+            return new Accumulator<>(UTC);
+
+        }
+
+        /**
+         * <p>Adds given machine time. </p>
+         *
+         * @param   duration    machine time to be added
+         * @throws  IllegalArgumentException if the scales are different
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die angegebene maschinelle Dauer. </p>
+         *
+         * @param   duration    machine time to be added
+         * @throws  IllegalArgumentException if the scales are different
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public void add(MachineTime<U> duration) {
+
+            if (duration.scale != this.scale) {
+                throw new IllegalArgumentException("Different time scales: " + duration);
+            }
+
+            this.add(duration.seconds, duration.nanos);
+
+        }
+
+        /**
+         * <p>Adds the elapsed time between given time points on the scale of this accumulator. </p>
+         *
+         * <p>The result is the same as adding the machine time obtained by the metrics
+         * {@link MachineTime#ON_POSIX_SCALE} or {@link MachineTime#ON_UTC_SCALE}. </p>
+         *
+         * @param   start   first time point
+         * @param   end     second time point
+         * @throws  UnsupportedOperationException on the UTC scale if any time point is before 1972
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die Dauer zwischen den angegebenen Zeitpunkten auf der Skala dieses
+         * Akkumulators. </p>
+         *
+         * <p>Das Ergebnis ist dasselbe wie die Addition der maschinellen Dauer, die mit den
+         * Metriken {@link MachineTime#ON_POSIX_SCALE} oder {@link MachineTime#ON_UTC_SCALE}
+         * ermittelt wird. </p>
+         *
+         * @param   start   first time point
+         * @param   end     second time point
+         * @throws  UnsupportedOperationException on the UTC scale if any time point is before 1972
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public void addBetween(
+            UnixTime start,
+            UnixTime end
+        ) {
+
+            if (this.scale == UTC) {
+                // Schaltsekunden über die UTC-Epoche (LeapSeconds) berücksichtigen
+                UniversalTime t1 = ((start instanceof UniversalTime) ? (UniversalTime) start : Moment.from(start));
+                UniversalTime t2 = ((end instanceof UniversalTime) ? (UniversalTime) end : Moment.from(end));
+                long utc2 = t2.getElapsedTime(UTC);
+                long utc1 = t1.getElapsedTime(UTC);
+                if (utc2 < 0 || utc1 < 0) {
+                    throw new UnsupportedOperationException(
+                        "Cannot calculate SI-duration before 1972-01-01.");
+                }
+                this.add(utc2 - utc1, t2.getNanosecond(UTC) - t1.getNanosecond(UTC));
+            } else {
+                this.add(end.getPosixTime() - start.getPosixTime(), end.getNanosecond() - start.getNanosecond());
+            }
+
+        }
+
+        /**
+         * <p>Adds the sum of another accumulator to this accumulator. </p>
+         *
+         * @param   other   another accumulator on the same scale
+         * @return  this instance for chaining
+         * @throws  IllegalArgumentException if the scales are different
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        /*[deutsch]
+         * <p>Addiert die Summe eines anderen Akkumulators zu diesem Akkumulator. </p>
+         *
+         * @param   other   another accumulator on the same scale
+         * @return  this instance for chaining
+         * @throws  IllegalArgumentException if the scales are different
+         * @throws  ArithmeticException in case of numerical overflow
+         */
+        public Accumulator<U> combine(Accumulator<U> other) {
+
+            if (other.scale != this.scale) {
+                throw new IllegalArgumentException("Different time scales: " + other.scale);
+            }
+
+            this.add(other.seconds, other.nanos);
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the current sum as machine time. </p>
+         *
+         * @return  normalized machine time
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Summe als maschinelle Dauer. </p>
+         *
+         * @return  normalized machine time
+         */
+        @SuppressWarnings("unchecked")
+        public MachineTime<U> getTotal() {
+
+            if ((this.seconds == 0) && (this.nanos == 0)) {
+                return (MachineTime<U>) ((this.scale == POSIX) ? POSIX_ZERO : UTC_ZERO);
+            }
+
+            return new MachineTime<>(this.seconds, (int) this.nanos, this.scale);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "Accumulator[" + this.scale + "]=>" + this.getTotal();
+
+        }
+
+        /**
+         * <p>Addiert Sekunden und Nanosekunden ohne Zwischenobjekte. </p>
+         *
+         * @param   secs    seconds to be added
+         * @param   fraction    nanoseconds to be added (absolute value smaller than two billions)
+         */
+        void add(
+            long secs,
+            long fraction
+        ) {
+
+            long n = this.nanos + fraction;
+            this.seconds = Math.addExact(this.seconds, secs);
+
+            if ((n >= MRD) || (n <= -MRD)) {
+                this.seconds = Math.addExact(this.seconds, n / MRD);
+                n %= MRD;
+            }
+
+            this.nanos = n;
+
+        }
+
+    }
+
     private static class Metric<U>
         implements TimeMetric<TimeUnit, MachineTime<U>> {
 
@@ -45,6 +45,7 @@ import net.time4j.format.expert.IsoDateStyle;
 import net.time4j.format.expert.IsoDecimalStyle;
 import net.time4j.format.expert.ParseLog;
 import net.time4j.format.expert.SignPolicy;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
@@ -53,6 +54,7 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.text.ParseException;
 import java.time.Instant;
 import java.util.Collections;
@@ -60,6 +62,9 @@ import java.util.Comparator;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
 import static net.time4j.format.Attributes.PROTECTED_CHARACTERS;
@@ -89,6 +94,8 @@ public final class MomentInterval
 
     private static final long serialVersionUID = -5403584519478162113L;
 
+    private static final int MRD = 1_000_000_000;
+
     private static final ChronoFormatter<Moment> EXTENDED_ISO =
         Iso8601Format.EXTENDED_DATE_TIME_OFFSET.with(Attributes.TRAILING_CHARACTERS, true);
     private static final ChronoFormatter<Moment> BASIC_ISO =
@@ -620,6 +627,270 @@ public final class MomentInterval
 
     }
 
+    /**
+     * <p>Obtains a collector which sums up the simple durations of moment intervals on the POSIX scale. </p>
+     *
+     * <p>The result is equivalent to {@code map(MomentInterval::getSimpleDuration).reduce(MachineTime::plus)}
+     * but avoids any intermediate machine time objects. </p>
+     *
+     * @return  collector for the sum of simple durations
+     * @throws  UnsupportedOperationException if any collected interval is infinite (during collecting)
+     * @see     #getSimpleDuration()
+     * @see     MachineTime#summingPosix()
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Collector}, der die einfachen Dauern von Momentintervallen auf der
+     * POSIX-Skala aufsummiert. </p>
+     *
+     * <p>Das Ergebnis entspricht {@code map(MomentInterval::getSimpleDuration).reduce(MachineTime::plus)},
+     * vermeidet aber jegliche maschinelle Dauern als Zwischenobjekte. </p>
+     *
+     * @return  collector for the sum of simple durations
+     * @throws  UnsupportedOperationException if any collected interval is infinite (during collecting)
+     * @see     #getSimpleDuration()
+     * @see     MachineTime#summingPosix()
+     * @since   4.19
+     */
+    public static Collector<MomentInterval, ?, MachineTime<TimeUnit>> summingSimpleDurations() {
+
+        return Collector.of(
+            MachineTime.Accumulator::onPosixScale,
+            (acc, interval) -> interval.addDurationTo(acc),
+            MachineTime.Accumulator::combine,
+            MachineTime.Accumulator::getTotal,
+            Collector.Characteristics.UNORDERED);
+
+    }
+
+    /**
+     * <p>Obtains a collector which sums up the real durations of moment intervals on the UTC scale. </p>
+     *
+     * <p>The result is equivalent to {@code map(MomentInterval::getRealDuration).reduce(MachineTime::plus)}
+     * but avoids any intermediate machine time objects. Leap seconds are taken into account. </p>
+     *
+     * @return  collector for the sum of real durations
+     * @throws  UnsupportedOperationException if any collected interval is infinite or starts before
+     *          year 1972 (during collecting)
+     * @see     #getRealDuration()
+     * @see     MachineTime#summingUTC()
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Collector}, der die realen Dauern von Momentintervallen auf der
+     * UTC-Skala aufsummiert. </p>
+     *
+     * <p>Das Ergebnis entspricht {@code map(MomentInterval::getRealDuration).reduce(MachineTime::plus)},
+     * vermeidet aber jegliche maschinelle Dauern als Zwischenobjekte. Schaltsekunden werden
+     * ber&uuml;cksichtigt. </p>
+     *
+     * @return  collector for the sum of real durations
+     * @throws  UnsupportedOperationException if any collected interval is infinite or starts before
+     *          year 1972 (during collecting)
+     * @see     #getRealDuration()
+     * @see     MachineTime#summingUTC()
+     * @since   4.19
+     */
+    public static Collector<MomentInterval, ?, MachineTime<SI>> summingRealDurations() {
+
+        return Collector.of(
+            MachineTime.Accumulator::onUTCScale,
+            (acc, interval) -> interval.addDurationTo(acc),
+            MachineTime.Accumulator::combine,
+            MachineTime.Accumulator::getTotal,
+            Collector.Characteristics.UNORDERED);
+
+    }
+
+    /**
+     * <p>Obtains a stream iterating over every moment which is the result of addition of given duration
+     * to start until the end of this interval is reached. </p>
+     *
+     * <p>Every element is directly calculated from its position in the stream as
+     * {@code start + index * duration} on the scale of given duration. Therefore the stream is
+     * {@code SIZED} and {@code SUBSIZED} and can be evenly split in parallel processing. </p>
+     *
+     * @param   duration    duration which has to be added to the start multiple times
+     * @return  stream consisting of distinct moments which are the result of adding the duration to the start
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  IllegalStateException if this interval is infinite
+     * @throws  UnsupportedOperationException if the duration is on the UTC scale and start is before 1972
+     * @see     #stream(MachineTime, Moment, Moment)
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code Stream}, der jeweils einen Moment als Vielfaches der Dauer angewandt auf
+     * den Start und bis zum Ende dieses Intervalls geht. </p>
+     *
+     * <p>Jedes Element wird direkt aus seiner Position im {@code Stream} als
+     * {@code start + index * duration} auf der Skala der angegebenen Dauer berechnet. Deshalb ist der
+     * {@code Stream} {@code SIZED} und {@code SUBSIZED} und kann bei paralleler Verarbeitung
+     * gleichm&auml;&szlig;ig aufgeteilt werden. </p>
+     *
+     * @param   duration    duration which has to be added to the start multiple times
+     * @return  stream consisting of distinct moments which are the result of adding the duration to the start
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  IllegalStateException if this interval is infinite
+     * @throws  UnsupportedOperationException if the duration is on the UTC scale and start is before 1972
+     * @see     #stream(MachineTime, Moment, Moment)
+     * @since   4.19
+     */
+    public Stream<Moment> stream(MachineTime<?> duration) {
+
+        if (!this.isFinite()) {
+            throw new IllegalStateException("Streaming is not supported for infinite intervals.");
+        }
+
+        Moment start = this.getTemporalOfClosedStart();
+        Moment end = this.getTemporalOfOpenEnd();
+
+        if (end == null) { // max reached
+            end = this.getEnd().getTemporal();
+        }
+
+        if (start.isAfter(end)) {
+            return Stream.empty();
+        }
+
+        return MomentInterval.stream(duration, start, end);
+
+    }
+
+    /**
+     * <p>Obtains a stream iterating over every moment which is the result of addition of given duration
+     * to start until the end is reached. </p>
+     *
+     * <p>This static method avoids the costs of constructing an instance of {@code MomentInterval}.
+     * Every element is directly calculated from its position in the stream so the stream is
+     * {@code SIZED} and {@code SUBSIZED} and can be evenly split in parallel processing. Example
+     * for scanning a whole year in steps of one minute: </p>
+     *
+     * <pre>
+     *  long count =
+     *      MomentInterval.stream(
+     *          MachineTime.of(1, TimeUnit.MINUTES),
+     *          PlainTimestamp.of(2016, 1, 1, 0, 0).atUTC(),
+     *          PlainTimestamp.of(2017, 1, 1, 0, 0).atUTC()
+     *      ).parallel().filter(m -&gt; ...).count();
+     * </pre>
+     *
+     * @param   duration    duration which has to be added to the start multiple times
+     * @param   start       start boundary - inclusive
+     * @param   end         end boundary - exclusive
+     * @return  stream consisting of distinct moments which are the result of adding the duration to the start
+     * @throws  IllegalArgumentException if start is after end or if the duration is not positive
+     * @throws  UnsupportedOperationException if the duration is on the UTC scale and start is before 1972
+     * @since   4.19
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code Stream}, der jeweils einen Moment als Vielfaches der Dauer angewandt auf
+     * den Start und bis zum Ende geht. </p>
+     *
+     * <p>Diese statische Methode vermeidet die Kosten der Intervallerzeugung. Jedes Element wird direkt
+     * aus seiner Position im {@code Stream} berechnet, so da&szlig; der {@code Stream} {@code SIZED} und
+     * {@code SUBSIZED} ist und bei paralleler Verarbeitung gleichm&auml;&szlig;ig aufgeteilt werden kann.
+     * Beispiel f&uuml;r die Untersuchung eines ganzen Jahres in Schritten von einer Minute: </p>
+     *
+     * <pre>
+     *  long count =
+     *      MomentInterval.stream(
+     *          MachineTime.of(1, TimeUnit.MINUTES),
+     *          PlainTimestamp.of(2016, 1, 1, 0, 0).atUTC(),
+     *          PlainTimestamp.of(2017, 1, 1, 0, 0).atUTC()
+     *      ).parallel().filter(m -&gt; ...).count();
+     * </pre>
+     *
+     * @param   duration    duration which has to be added to the start multiple times
+     * @param   start       start boundary - inclusive
+     * @param   end         end boundary - exclusive
+     * @return  stream consisting of distinct moments which are the result of adding the duration to the start
+     * @throws  IllegalArgumentException if start is after end or if the duration is not positive
+     * @throws  UnsupportedOperationException if the duration is on the UTC scale and start is before 1972
+     * @since   4.19
+     */
+    public static Stream<Moment> stream(
+        MachineTime<?> duration,
+        Moment start,
+        Moment end
+    ) {
+
+        if (!duration.isPositive()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+
+        int comp = start.compareTo(end);
+
+        if (comp > 0) {
+            throw new IllegalArgumentException("Start after end: " + start + "/" + end);
+        } else if (comp == 0) {
+            return Stream.empty();
+        }
+
+        final TimeScale scale = duration.getScale();
+        final long s0;
+        final int n0;
+        long s1;
+        int n1;
+
+        if (scale == TimeScale.UTC) {
+            s0 = start.getElapsedTime(TimeScale.UTC);
+            n0 = start.getNanosecond(TimeScale.UTC);
+            s1 = end.getElapsedTime(TimeScale.UTC);
+            n1 = end.getNanosecond(TimeScale.UTC);
+            if (s0 < 0) {
+                throw new UnsupportedOperationException("Cannot calculate SI-duration before 1972-01-01.");
+            }
+        } else {
+            s0 = start.getPosixTime();
+            n0 = start.getNanosecond();
+            s1 = end.getPosixTime();
+            n1 = end.getNanosecond();
+        }
+
+        final long stepSecs = duration.getSeconds();
+        final int stepNanos = duration.getFraction();
+
+        // Anzahl = ceil((end - start) / duration)
+        BigInteger mrd = BigInteger.valueOf(MRD);
+        BigInteger diff =
+            BigInteger.valueOf(s1).subtract(BigInteger.valueOf(s0)).multiply(mrd).add(BigInteger.valueOf(n1 - n0));
+        BigInteger step = BigInteger.valueOf(stepSecs).multiply(mrd).add(BigInteger.valueOf(stepNanos));
+        BigInteger[] qr = diff.divideAndRemainder(step);
+        long size = qr[0].longValueExact();
+
+        if (qr[1].signum() > 0) {
+            size = Math.addExact(size, 1);
+        }
+
+        return LongStream.range(0, size).mapToObj(
+            index -> {
+                long f = Math.addExact(Math.multiplyExact(index, stepNanos), n0);
+                long secs =
+                    Math.addExact(Math.addExact(s0, Math.multiplyExact(index, stepSecs)), Math.floorDiv(f, MRD));
+                return Moment.of(secs, (int) Math.floorMod(f, MRD), scale);
+            }
+        );
+
+    }
+
+    // Gegenstück zu getSimpleDuration() bzw. getRealDuration(), aber ohne Zwischenobjekte
+    private void addDurationTo(MachineTime.Accumulator<?> acc) {
+
+        Moment tsp = this.getTemporalOfOpenEnd();
+        boolean max = (tsp == null);
+
+        if (max) { // max reached
+            tsp = this.getEnd().getTemporal();
+        }
+
+        acc.addBetween(this.getTemporalOfClosedStart(), tsp);
+
+        if (max) {
+            acc.add(0, 1);
+        }
+
+    }
+
     /**
      * <p>Moves this interval along the POSIX-axis by given time units. </p>
      *
@@ -793,10 +793,42 @@ public final class TimestampInterval
             return Stream.of(start); // short-cut
         }
 
+        long nanos = clockNanos(duration, size);
+
+        if (nanos > 0) { // reine Uhrzeitarithmetik ohne Dauer-Objekte
+            return IntStream.range(0, size).mapToObj(index -> start.plus(index * nanos, ClockUnit.NANOS));
+        }
+
         return IntStream.range(0, size).mapToObj(index -> start.plus(duration.multipliedBy(index)));
 
     }
 
+    // Schrittweite in Nanosekunden, falls nur Uhrzeiteinheiten ohne Überlauf vorliegen, sonst -1
+    private static long clockNanos(
+        Duration<?> duration,
+        int size
+    ) {
+
+        long nanos = 0;
+
+        try {
+            for (TimeSpan.Item<? extends IsoUnit> item : duration.getTotalLength()) {
+                IsoUnit unit = item.getUnit();
+                if (!(unit instanceof ClockUnit)) {
+                    return -1;
+                }
+                long factor = ClockUnit.NANOS.convert(1, ClockUnit.class.cast(unit));
+                nanos = Math.addExact(nanos, Math.multiplyExact(item.getAmount(), factor));
+            }
+            Math.multiplyExact(nanos, size);
+        } catch (ArithmeticException ex) {
+            return -1;
+        }
+
+        return nanos;
+
+    }
+
     /**
      * <p>Prints the canonical form of this interval in given ISO-8601 style. </p>
      *
@@ -4,9 +4,14 @@ import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import net.time4j.SI;
+import net.time4j.scale.TimeScale;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -314,4 +319,54 @@ public class BasicMomentRangeTest {
             is(expected));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void streamOnPosixScale() {
+        Moment start = PlainTimestamp.of(2016, 12, 31, 23, 0, 0).atUTC();
+        Moment end = PlainTimestamp.of(2017, 1, 1, 1, 0, 0).atUTC();
+        MachineTime<TimeUnit> step = MachineTime.ofPosixUnits(60, 500_000_000);
+        List<Moment> expected = new ArrayList<>();
+        for (Moment m = start; m.isBefore(end); m = m.plus(step.getSeconds(), TimeUnit.SECONDS).plus(
+                step.getFraction(), TimeUnit.NANOSECONDS)) {
+            expected.add(m);
+        }
+        MomentInterval interval = MomentInterval.between(start, end);
+        assertThat(interval.stream(step).collect(Collectors.toList()), is(expected));
+        assertThat(interval.stream(step).parallel().collect(Collectors.toList()), is(expected));
+        Spliterator<Moment> spliterator = interval.stream(step).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), is(true));
+        assertThat(spliterator.getExactSizeIfKnown(), is((long) expected.size()));
+    }
+
+    @Test
+    public void streamOnUTCScale() {
+        Moment start = PlainTimestamp.of(2016, 12, 31, 23, 59, 58).atUTC();
+        Moment end = PlainTimestamp.of(2017, 1, 1, 0, 0, 2).atUTC();
+        List<Moment> expected = new ArrayList<>();
+        for (Moment m = start; m.isBefore(end); m = m.plus(1, SI.SECONDS)) {
+            expected.add(m);
+        }
+        assertThat(expected.size(), is(5)); // inklusive Schaltsekunde
+        assertThat(
+            MomentInterval.stream(MachineTime.of(1, SI.SECONDS), start, end).collect(Collectors.toList()),
+            is(expected));
+        assertThat(
+            MomentInterval.stream(MachineTime.of(1, TimeUnit.SECONDS), start, end).count(),
+            is(4L));
+    }
+
+    @Test
+    public void streamWithClosedEnd() {
+        Moment start = Moment.of(0, TimeScale.POSIX);
+        Moment end = Moment.of(10, TimeScale.POSIX);
+        assertThat(MomentInterval.between(start, end).withClosedEnd().stream(MachineTime.of(5, TimeUnit.SECONDS))
+            .count(), is(3L));
+        assertThat(MomentInterval.between(start, end).stream(MachineTime.of(5, TimeUnit.SECONDS)).count(), is(2L));
+        assertThat(MomentInterval.between(start, start).stream(MachineTime.of(5, TimeUnit.SECONDS)).count(), is(0L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void streamWithZeroDuration() {
+        MomentInterval.stream(MachineTime.of(0, TimeUnit.SECONDS), Moment.UNIX_EPOCH, Moment.UNIX_EPOCH);
+    }
+
+}
@@ -455,4 +455,19 @@ public class BasicTimestampRangeTest {
         interval.stream(Duration.of(1, ClockUnit.NANOS));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void streamClockDuration() {
+        PlainTimestamp start = PlainTimestamp.of(2016, 3, 27, 0, 0, 7);
+        PlainTimestamp end = PlainTimestamp.of(2016, 4, 3, 12, 0);
+        Duration<ClockUnit> duration = Duration.ofClockUnits(1, 27, 3).plus(123456789, ClockUnit.NANOS);
+        List<PlainTimestamp> expected = new ArrayList<>();
+        for (PlainTimestamp tsp = start; tsp.isBefore(end); tsp = tsp.plus(duration)) {
+            expected.add(tsp);
+        }
+        assertThat(TimestampInterval.stream(duration, start, end).collect(Collectors.toList()), is(expected));
+        assertThat(
+            TimestampInterval.stream(duration, start, end).parallel().collect(Collectors.toList()),
+            is(expected));
+    }
+
+}
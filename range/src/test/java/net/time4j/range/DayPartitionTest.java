@@ -1,8 +1,13 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.AMERICA;
 import net.time4j.tz.olson.EUROPE;
 import net.time4j.tz.olson.PACIFIC;
 import org.junit.Test;
@@ -179,4 +184,47 @@ public class DayPartitionTest {
         assertThat(intervals, is(expected));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void incrementalZoneConversion() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(0, 0), PlainTime.of(2, 30)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(2, 30), PlainTime.of(3, 15)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(1, 15, 30), PlainTime.of(24)))
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(17, 0)))
+                .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(23, 59), PlainTime.of(24)))
+                .addSpecialRule(PlainDate.of(2011, 12, 30), ClockInterval.between(PlainTime.of(1, 0), PlainTime.of(2)))
+                .build();
+        DateInterval range = DateInterval.between(PlainDate.of(2009, 1, 1), PlainDate.of(2016, 12, 31));
+        TZID[] zones = {EUROPE.BERLIN, AMERICA.NEW_YORK, PACIFIC.APIA, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 5)};
+
+        for (TZID tzid : zones) {
+            List<MomentInterval> expected = expectedPartitions(range, rule, tzid);
+            assertThat(range.streamPartitioned(rule, tzid).collect(Collectors.toList()), is(expected));
+            assertThat(range.streamPartitioned(rule, tzid).parallel().collect(Collectors.toList()), is(expected));
+        }
+    }
+
+    @Test
+    public void partitionListsAreShared() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .build();
+        PlainDate monday = PlainDate.of(2016, 8, 29);
+        assertThat(rule.getPartition(monday) == rule.getPartition(monday.plus(7, CalendarUnit.DAYS)), is(true));
+    }
+
+    // alte Implementierung als Referenz
+    private static List<MomentInterval> expectedPartitions(
+        DateInterval range,
+        DayPartitionRule rule,
+        TZID tzid
+    ) {
+        return range.streamPartitioned(rule)
+            .map(interval -> interval.inTimezone(tzid))
+            .filter(interval -> !interval.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+}
@@ -1,11 +1,15 @@
 package net.time4j.range;
 
 import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
 import net.time4j.SI;
 import net.time4j.scale.TimeScale;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -485,4 +489,88 @@ public class MachineTimeTest {
         assertThat(m1.plus(mt), is(m2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void summingPosix() {
+        Random random = new Random(12345);
+        List<MachineTime<TimeUnit>> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(MachineTime.ofPosixUnits(random.nextInt(200000) - 100000, random.nextInt(MRD)));
+        }
+        MachineTime<TimeUnit> expected = list.stream().reduce(MachineTime.ofPosixUnits(0, 0), MachineTime::plus);
+        assertThat(list.stream().collect(MachineTime.summingPosix()), is(expected));
+        assertThat(list.parallelStream().collect(MachineTime.summingPosix()), is(expected));
+        assertThat(
+            new ArrayList<MachineTime<TimeUnit>>().stream().collect(MachineTime.summingPosix()),
+            is(MachineTime.ofPosixUnits(0, 0)));
+    }
+
+    @Test
+    public void summingUTC() {
+        MachineTime<SI> a = MachineTime.ofSIUnits(5, 999999999);
+        MachineTime<SI> b = MachineTime.ofSIUnits(-7, -999999999);
+        MachineTime<SI> c = MachineTime.ofSIUnits(0, 3);
+        MachineTime<SI> expected = a.plus(b).plus(c);
+        List<MachineTime<SI>> list = new ArrayList<>();
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        assertThat(list.stream().collect(MachineTime.summingUTC()), is(expected));
+        assertThat(expected.toBigDecimal(), is(new BigDecimal("-1.999999997")));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void accumulatorWithDifferentScales() {
+        MachineTime.Accumulator<TimeUnit> acc = MachineTime.Accumulator.onPosixScale();
+        @SuppressWarnings("unchecked")
+        MachineTime<TimeUnit> mt = (MachineTime<TimeUnit>) (MachineTime<?>) MachineTime.ofSIUnits(1, 0);
+        acc.add(mt);
+    }
+
+    @Test
+    public void summingDurationsOfMomentIntervals() {
+        List<MomentInterval> intervals = new ArrayList<>();
+        Moment start = PlainTimestamp.of(2016, 12, 31, 23, 59, 30).atUTC();
+        for (int i = 0; i < 1000; i++) {
+            Moment m1 = start.plus(i * 7, TimeUnit.SECONDS);
+            Moment m2 = m1.plus(i * 1000003L, TimeUnit.NANOSECONDS);
+            intervals.add(MomentInterval.between(m1, m2));
+        }
+        intervals.add(
+            MomentInterval.between(
+                PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC(),
+                PlainTimestamp.of(2017, 1, 1, 0, 0, 1).atUTC()));
+
+        MachineTime<TimeUnit> simple =
+            intervals.stream()
+                .map(MomentInterval::getSimpleDuration)
+                .reduce(MachineTime.ofPosixUnits(0, 0), MachineTime::plus);
+        MachineTime<SI> real =
+            intervals.stream()
+                .map(MomentInterval::getRealDuration)
+                .reduce(MachineTime.ofSIUnits(0, 0), MachineTime::plus);
+
+        assertThat(intervals.stream().collect(MomentInterval.summingSimpleDurations()), is(simple));
+        assertThat(intervals.parallelStream().collect(MomentInterval.summingSimpleDurations()), is(simple));
+        assertThat(intervals.stream().collect(MomentInterval.summingRealDurations()), is(real));
+        assertThat(intervals.parallelStream().collect(MomentInterval.summingRealDurations()), is(real));
+        assertThat(real.getSeconds() - simple.getSeconds(), is(1L)); // leap second at end of 2016
+    }
+
+    @Test
+    public void summingSimpleDurationsWithMaximum() {
+        List<MomentInterval> intervals = new ArrayList<>();
+        intervals.add(MomentInterval.between(Moment.UNIX_EPOCH, Moment.axis().getMaximum()).withClosedEnd());
+        intervals.add(MomentInterval.between(Moment.UNIX_EPOCH, Moment.of(1, TimeScale.POSIX)));
+        MachineTime<TimeUnit> expected =
+            intervals.get(0).getSimpleDuration().plus(intervals.get(1).getSimpleDuration());
+        assertThat(intervals.stream().collect(MomentInterval.summingSimpleDurations()), is(expected));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void summingDurationsOfInfiniteInterval() {
+        List<MomentInterval> intervals = new ArrayList<>();
+        intervals.add(MomentInterval.since(Moment.UNIX_EPOCH));
+        intervals.stream().collect(MomentInterval.summingSimpleDurations());
+    }
+
+}